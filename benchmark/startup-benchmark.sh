@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time from JVM launch to the first successful GET /api/products/{id}.
+#
+# Usage: benchmark/startup-benchmark.sh [default|fast] [runs] [product-id]
+#
+#   default  java -jar target/products-0.0.1-SNAPSHOT.jar            (./mvnw package)
+#   fast     AOT + AppCDS archive + fast-startup profile             (./mvnw -Pfast-startup package)
+#
+# Requires PostgreSQL (docker compose up -d) with the product to exist.
+set -euo pipefail
+
+MODE="${1:-default}"
+RUNS="${2:-5}"
+PRODUCT_ID="${3:-1}"
+PORT="${PORT:-8080}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+JAR_NAME="products-0.0.1-SNAPSHOT.jar"
+cd "$(dirname "$0")/.."
+
+case "$MODE" in
+  default)
+    CMD=(java -jar "target/$JAR_NAME")
+    ;;
+  fast)
+    CMD=(java -XX:SharedArchiveFile=target/application/application.jsa -Dspring.aot.enabled=true
+         -jar "target/application/$JAR_NAME" --spring.profiles.active=fast-startup)
+    ;;
+  *)
+    echo "Unknown mode: $MODE (expected default or fast)" >&2
+    exit 1
+    ;;
+esac
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  "${CMD[@]}" --server.port="$PORT" > "target/startup-benchmark-$MODE-$run.log" 2>&1 &
+  pid=$!
+  deadline=$(( start + TIMEOUT_SECONDS * 1000 ))
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/api/products/$PRODUCT_ID")" = "200" ]; do
+    if [ "$(now_ms)" -gt "$deadline" ] || ! kill -0 "$pid" 2>/dev/null; then
+      echo "Run $run: no successful response, see target/startup-benchmark-$MODE-$run.log" >&2
+      kill "$pid" 2>/dev/null || true
+      exit 1
+    fi
+    sleep 0.01
+  done
+  elapsed=$(( $(now_ms) - start ))
+  results+=("$elapsed")
+  echo "Run $run: first GET /api/products/$PRODUCT_ID after ${elapsed} ms"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+echo "Mode $MODE over $RUNS runs: min ${sorted[0]} ms, median ${sorted[$(( RUNS / 2 ))]} ms, max ${sorted[$(( RUNS - 1 ))]} ms"
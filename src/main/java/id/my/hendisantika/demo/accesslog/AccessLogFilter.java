@@ -0,0 +1,132 @@
+package id.my.hendisantika.demo.accesslog;
+
+import id.my.hendisantika.demo.metrics.RequestTimings;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Structured access log for the API, written to the {@code access} logger.
+ * <p>
+ * Successful requests are sampled per endpoint and logged at INFO; the sampling decision is made
+ * before anything is formatted, so unsampled requests cost one random number. Errors and slow
+ * requests are always logged at WARN. The {@code access} logger is backed by an asynchronous appender
+ * (see {@code logback-spring.xml}) that drops INFO events rather than block when its buffer fills up.
+ */
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String LOGGER_NAME = "access";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private final AccessLogProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (failure == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(
+                        new LogOnCompletion(this, request, response, start, RequestTimings.current()));
+            } else {
+                log(request, response, start, cacheStatus(RequestTimings.current()), failure);
+            }
+        }
+    }
+
+    void log(HttpServletRequest request, HttpServletResponse response, long startNanos, String cacheStatus, Throwable failure) {
+        long latencyNanos = System.nanoTime() - startNanos;
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : UNKNOWN_ENDPOINT;
+
+        String reason;
+        if (failure != null || status >= 500) {
+            reason = "error";
+        } else if (latencyNanos >= properties.getSlowThreshold().toNanos()) {
+            reason = "slow";
+        } else {
+            double rate = properties.sampleRateFor(endpoint);
+            if (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+                return;
+            }
+            reason = "sampled";
+        }
+
+        Level level = "sampled".equals(reason) ? Level.INFO : Level.WARN;
+        if (!ACCESS_LOG.isEnabledForLevel(level)) {
+            return;
+        }
+        LoggingEventBuilder event = ACCESS_LOG.atLevel(level)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("uri", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("latencyMs", latencyNanos / 1_000_000.0)
+                .addKeyValue("cache", cacheStatus)
+                .addKeyValue("reason", reason);
+        if (failure != null) {
+            event = event.addKeyValue("error", failure.getClass().getName());
+        }
+        event.log("access");
+    }
+
+    private static String cacheStatus(RequestTimings timings) {
+        return timings != null ? timings.getCacheStatus() : "none";
+    }
+
+    /**
+     * Logs asynchronous requests (e.g. the low-stock endpoint) once their response is complete, with the cache
+     * lookups the request thread recorded before it was released.
+     */
+    private record LogOnCompletion(AccessLogFilter filter, HttpServletRequest request, HttpServletResponse response,
+                                   long startNanos, RequestTimings timings) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            filter.log(request, response, startNanos, cacheStatus(timings), null);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            filter.log(request, response, startNanos, cacheStatus(timings), event.getThrowable());
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            filter.log(request, response, startNanos, cacheStatus(timings), event.getThrowable());
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package id.my.hendisantika.demo.accesslog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for the sampled access log.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.access-log")
+public class AccessLogProperties {
+
+    /**
+     * Whether API requests are written to the access log.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fraction of successful, fast requests that are logged (0..1).
+     */
+    private double defaultSampleRate = 0.01;
+
+    /**
+     * Sample rates for individual endpoints, keyed by their URI pattern (e.g. {@code /api/products/{id}}).
+     */
+    private Map<String, Double> sampleRates = new HashMap<>();
+
+    /**
+     * Requests slower than this are always logged.
+     */
+    private Duration slowThreshold = Duration.ofMillis(250);
+
+    /**
+     * Capacity of the asynchronous appender's buffer (read by {@code logback-spring.xml}).
+     */
+    private int queueSize = 8192;
+
+    public double sampleRateFor(String endpoint) {
+        return sampleRates.getOrDefault(endpoint, defaultSampleRate);
+    }
+}
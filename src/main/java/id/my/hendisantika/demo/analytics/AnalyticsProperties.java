@@ -0,0 +1,39 @@
+package id.my.hendisantika.demo.analytics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for analytics queries over the columnar product snapshot.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Whether the snapshot is built and {@code /api/products/analytics} is exposed.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often the snapshot is rebuilt from the database. Queries see data up to this old.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Threads evaluating a query; 0 uses every available processor.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Rows a single task scans before the range is split in two.
+     */
+    private int splitThreshold = 32_768;
+
+    /**
+     * Rows fetched per round trip while the snapshot is built.
+     */
+    private int fetchSize = 10_000;
+}
@@ -0,0 +1,41 @@
+package id.my.hendisantika.demo.analytics;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A filter and the aggregates to compute over the matching products.
+ * <p>
+ * Every filter is optional. A price or stock bound only matches products that have a price or stock.
+ *
+ * @param categories      categories to include, or {@code null} for all
+ * @param groupByCategory whether aggregates are computed per category rather than over all matches
+ * @param percentiles     price percentiles to compute, each in (0, 100]
+ */
+public record AnalyticsQuery(Set<String> categories, BigDecimal minPrice, BigDecimal maxPrice, Integer minStock,
+                             Integer maxStock, boolean groupByCategory, List<Double> percentiles) {
+
+    static final int MAX_PERCENTILES = 20;
+
+    /**
+     * @throws IllegalArgumentException when a bound is inverted or a percentile is out of range
+     */
+    public AnalyticsQuery {
+        percentiles = percentiles == null ? List.of() : List.copyOf(percentiles);
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+        if (minStock != null && maxStock != null && minStock > maxStock) {
+            throw new IllegalArgumentException("minStock must not be greater than maxStock");
+        }
+        if (percentiles.size() > MAX_PERCENTILES) {
+            throw new IllegalArgumentException("At most " + MAX_PERCENTILES + " percentiles can be computed at once");
+        }
+        for (double percentile : percentiles) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentiles must be greater than 0 and at most 100");
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package id.my.hendisantika.demo.analytics;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates of an analytics query.
+ *
+ * @param snapshotTakenAt when the snapshot the query ran on was read from the database
+ * @param rowsScanned     products in the snapshot
+ * @param rowsMatched     products passing the filter
+ * @param elapsedMillis   time spent scanning and aggregating
+ * @param groups          one group per category when grouped, otherwise a single group with a {@code null} category
+ */
+public record AnalyticsResult(Instant snapshotTakenAt, int rowsScanned, long rowsMatched, double elapsedMillis,
+                              List<Group> groups) {
+
+    /**
+     * Aggregates of one group. Price aggregates cover products with a price; stock aggregates those with a stock.
+     *
+     * @param stockValue       sum of price times stock over products with both
+     * @param pricePercentiles nearest-rank price percentiles keyed like {@code p50} or {@code p99.9}
+     */
+    public record Group(String category, long count, BigDecimal averagePrice, BigDecimal minPrice,
+                        BigDecimal maxPrice, long totalStock, BigDecimal stockValue,
+                        Map<String, BigDecimal> pricePercentiles) {
+    }
+}
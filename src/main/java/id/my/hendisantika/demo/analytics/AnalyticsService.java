@@ -0,0 +1,169 @@
+package id.my.hendisantika.demo.analytics;
+
+import id.my.hendisantika.demo.pool.ConnectionPool;
+import id.my.hendisantika.demo.pool.ConnectionPoolContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Answers aggregate queries from a columnar snapshot of the catalog, so they put no load on the database.
+ * <p>
+ * The snapshot is streamed from the database in the background at startup and every {@code refresh-interval}, and
+ * swapped in whole; queries keep running on the previous one meanwhile. A query scans the snapshot on a dedicated
+ * fork-join pool using every core, so it does not compete with the virtual threads serving requests for the
+ * common pool.
+ */
+@Slf4j
+public class AnalyticsService {
+
+    private static final String SNAPSHOT_SQL = "SELECT category, price, stock FROM products";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AsyncTaskExecutor taskExecutor;
+    private final AnalyticsProperties properties;
+    private final ForkJoinPool pool;
+    private final Timer queryTimer;
+    private final Timer buildTimer;
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile ProductColumns snapshot;
+
+    public AnalyticsService(JdbcTemplate jdbcTemplate, TransactionTemplate readOnlyTransaction,
+                            AsyncTaskExecutor taskExecutor, AnalyticsProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors());
+        this.queryTimer = Timer.builder("product.analytics.query")
+                .description("Time to evaluate an analytics query over the snapshot")
+                .register(meterRegistry);
+        this.buildTimer = Timer.builder("product.analytics.snapshot.build")
+                .description("Time to read the analytics snapshot from the database")
+                .register(meterRegistry);
+        Gauge.builder("product.analytics.snapshot.rows", this,
+                        service -> service.snapshot == null ? 0 : service.snapshot.size())
+                .description("Products in the analytics snapshot")
+                .register(meterRegistry);
+        Gauge.builder("product.analytics.snapshot.age", this, AnalyticsService::snapshotAgeSeconds)
+                .description("Time since the analytics snapshot was read from the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evaluate a query, or return empty while the first snapshot is still being built.
+     */
+    public Optional<AnalyticsResult> query(AnalyticsQuery query) {
+        ProductColumns columns = snapshot;
+        if (columns == null) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        // The groups are built in the pool as well, so their percentile sorts run on its workers
+        AnalyticsResult result = pool.submit(() -> {
+            ColumnScan.Partial partial = ColumnScan.of(columns, query, properties.getSplitThreshold()).invoke();
+            List<AnalyticsResult.Group> groups = partial.groups(columns, query);
+            return new AnalyticsResult(columns.takenAt(), columns.size(), partial.matched(),
+                    (System.nanoTime() - start) / 1_000_000.0, groups);
+        }).join();
+        queryTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        return Optional.of(result);
+    }
+
+    public Optional<Instant> snapshotTakenAt() {
+        return Optional.ofNullable(snapshot).map(ProductColumns::takenAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval:5m}",
+            initialDelayString = "${app.analytics.refresh-interval:5m}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Rebuild the snapshot in the background.
+     *
+     * @return {@code false} if a rebuild is already running
+     */
+    public boolean refresh() {
+        if (!building.compareAndSet(false, true)) {
+            return false;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                ConnectionPoolContext.run(ConnectionPool.REPORTING, this::build);
+            } finally {
+                building.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Stops the query pool; called when the context closes.
+     */
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        Instant takenAt = Instant.now();
+        ProductColumns.Builder builder = ProductColumns.builder();
+        AtomicInteger unrepresentable = new AtomicInteger();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SNAPSHOT_SQL);
+                statement.setFetchSize(properties.getFetchSize());
+                return statement;
+            }, resultSet -> {
+                if (!builder.add(resultSet.getString(1), resultSet.getBigDecimal(2),
+                        resultSet.getObject(3, Integer.class))) {
+                    unrepresentable.incrementAndGet();
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Failed to build the analytics snapshot; queries keep using the previous one", e);
+            return;
+        }
+        ProductColumns columns = builder.build(takenAt);
+        snapshot = columns;
+        buildTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        if (unrepresentable.get() > 0) {
+            log.warn("{} products have a price too large for the analytics snapshot and are counted without one",
+                    unrepresentable.get());
+        }
+        log.info("Built analytics snapshot of {} products in {} ms", columns.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private double snapshotAgeSeconds() {
+        ProductColumns columns = snapshot;
+        return columns == null ? Double.NaN : Duration.between(columns.takenAt(), Instant.now()).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,235 @@
+package id.my.hendisantika.demo.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Filters and aggregates a range of {@link ProductColumns} rows, splitting it in halves for the fork-join pool
+ * until a range is at most the split threshold. Partial aggregates of the halves are merged on the way back up.
+ */
+final class ColumnScan extends RecursiveTask<ColumnScan.Partial> {
+
+    private final ProductColumns columns;
+    private final Filter filter;
+    private final int from;
+    private final int to;
+    private final int splitThreshold;
+
+    private ColumnScan(ProductColumns columns, Filter filter, int from, int to, int splitThreshold) {
+        this.columns = columns;
+        this.filter = filter;
+        this.from = from;
+        this.to = to;
+        this.splitThreshold = splitThreshold;
+    }
+
+    /**
+     * A task scanning every row for the query.
+     */
+    static ColumnScan of(ProductColumns columns, AnalyticsQuery query, int splitThreshold) {
+        return new ColumnScan(columns, Filter.of(columns, query), 0, columns.size(), Math.max(1, splitThreshold));
+    }
+
+    @Override
+    protected Partial compute() {
+        if (to - from <= splitThreshold) {
+            return scan();
+        }
+        int middle = (from + to) >>> 1;
+        ColumnScan left = new ColumnScan(columns, filter, from, middle, splitThreshold);
+        left.fork();
+        Partial right = new ColumnScan(columns, filter, middle, to, splitThreshold).compute();
+        return left.join().merge(right);
+    }
+
+    private Partial scan() {
+        int[] category = columns.category();
+        long[] priceCents = columns.priceCents();
+        int[] stock = columns.stock();
+        Partial partial = new Partial(filter.groups, filter.collectPrices);
+        for (int row = from; row < to; row++) {
+            int code = category[row];
+            if (filter.categories != null && !filter.categories[code]) {
+                continue;
+            }
+            long price = priceCents[row];
+            boolean priced = price != ProductColumns.NO_PRICE;
+            if (filter.priceBounded && (!priced || price < filter.minPrice || price > filter.maxPrice)) {
+                continue;
+            }
+            int units = stock[row];
+            boolean stocked = units != ProductColumns.NO_STOCK;
+            if (filter.stockBounded && (!stocked || units < filter.minStock || units > filter.maxStock)) {
+                continue;
+            }
+            partial.add(filter.groupByCategory ? code : 0, price, priced, units, stocked);
+        }
+        return partial;
+    }
+
+    /**
+     * A query resolved against the snapshot's category dictionary, with prices in cents.
+     */
+    private record Filter(boolean[] categories, boolean priceBounded, long minPrice, long maxPrice,
+                          boolean stockBounded, int minStock, int maxStock, boolean groupByCategory, int groups,
+                          boolean collectPrices) {
+
+        static Filter of(ProductColumns columns, AnalyticsQuery query) {
+            String[] names = columns.categories();
+            boolean[] categories = null;
+            if (query.categories() != null) {
+                categories = new boolean[names.length];
+                for (int code = 0; code < names.length; code++) {
+                    categories[code] = query.categories().contains(names[code]);
+                }
+            }
+            long minPrice = query.minPrice() == null ? Long.MIN_VALUE
+                    : query.minPrice().movePointRight(2).setScale(0, RoundingMode.CEILING).longValue();
+            long maxPrice = query.maxPrice() == null ? Long.MAX_VALUE
+                    : query.maxPrice().movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue();
+            return new Filter(categories, query.minPrice() != null || query.maxPrice() != null, minPrice, maxPrice,
+                    query.minStock() != null || query.maxStock() != null,
+                    query.minStock() == null ? Integer.MIN_VALUE : query.minStock(),
+                    query.maxStock() == null ? Integer.MAX_VALUE : query.maxStock(),
+                    query.groupByCategory(), query.groupByCategory() ? Math.max(1, names.length) : 1,
+                    !query.percentiles().isEmpty());
+        }
+    }
+
+    /**
+     * Aggregates per group of the rows scanned so far.
+     */
+    static final class Partial {
+
+        private final long[] count;
+        private final long[] priced;
+        private final long[] priceSum;
+        private final long[] minPrice;
+        private final long[] maxPrice;
+        private final long[] totalStock;
+        private final long[] stockValue;
+        private final long[][] prices;
+        private final int[] priceCount;
+
+        private Partial(int groups, boolean collectPrices) {
+            count = new long[groups];
+            priced = new long[groups];
+            priceSum = new long[groups];
+            minPrice = new long[groups];
+            maxPrice = new long[groups];
+            totalStock = new long[groups];
+            stockValue = new long[groups];
+            Arrays.fill(minPrice, Long.MAX_VALUE);
+            Arrays.fill(maxPrice, Long.MIN_VALUE);
+            prices = collectPrices ? new long[groups][] : null;
+            priceCount = collectPrices ? new int[groups] : null;
+            if (collectPrices) {
+                Arrays.fill(prices, new long[0]);
+            }
+        }
+
+        private void add(int group, long price, boolean hasPrice, int units, boolean hasStock) {
+            count[group]++;
+            if (hasPrice) {
+                priced[group]++;
+                priceSum[group] += price;
+                minPrice[group] = Math.min(minPrice[group], price);
+                maxPrice[group] = Math.max(maxPrice[group], price);
+                if (prices != null) {
+                    appendPrice(group, price);
+                }
+            }
+            if (hasStock) {
+                totalStock[group] += units;
+                if (hasPrice) {
+                    stockValue[group] += price * units;
+                }
+            }
+        }
+
+        private Partial merge(Partial other) {
+            for (int group = 0; group < count.length; group++) {
+                count[group] += other.count[group];
+                priced[group] += other.priced[group];
+                priceSum[group] += other.priceSum[group];
+                minPrice[group] = Math.min(minPrice[group], other.minPrice[group]);
+                maxPrice[group] = Math.max(maxPrice[group], other.maxPrice[group]);
+                totalStock[group] += other.totalStock[group];
+                stockValue[group] += other.stockValue[group];
+                if (prices != null) {
+                    appendPrices(group, other.prices[group], other.priceCount[group]);
+                }
+            }
+            return this;
+        }
+
+        private void appendPrice(int group, long price) {
+            int size = priceCount[group];
+            ensurePriceCapacity(group, size + 1)[size] = price;
+            priceCount[group] = size + 1;
+        }
+
+        private void appendPrices(int group, long[] values, int length) {
+            int size = priceCount[group];
+            System.arraycopy(values, 0, ensurePriceCapacity(group, size + length), size, length);
+            priceCount[group] = size + length;
+        }
+
+        private long[] ensurePriceCapacity(int group, int capacity) {
+            long[] target = prices[group];
+            if (capacity > target.length) {
+                target = Arrays.copyOf(target, Math.max(capacity, Math.max(16, target.length * 2)));
+                prices[group] = target;
+            }
+            return target;
+        }
+
+        long matched() {
+            return Arrays.stream(count).sum();
+        }
+
+        /**
+         * Groups with at least one match, in dictionary order. Call it from a worker of the scan's pool, so the
+         * percentile sorts fork into that pool rather than the common pool.
+         */
+        List<AnalyticsResult.Group> groups(ProductColumns columns, AnalyticsQuery query) {
+            List<AnalyticsResult.Group> groups = new ArrayList<>();
+            for (int group = 0; group < count.length; group++) {
+                if (count[group] == 0 && query.groupByCategory()) {
+                    continue;
+                }
+                String category = query.groupByCategory() ? columns.categories()[group] : null;
+                boolean anyPrice = priced[group] > 0;
+                groups.add(new AnalyticsResult.Group(category, count[group],
+                        anyPrice ? BigDecimal.valueOf(priceSum[group], 2)
+                                .divide(BigDecimal.valueOf(priced[group]), 2, RoundingMode.HALF_UP) : null,
+                        anyPrice ? BigDecimal.valueOf(minPrice[group], 2) : null,
+                        anyPrice ? BigDecimal.valueOf(maxPrice[group], 2) : null,
+                        totalStock[group], BigDecimal.valueOf(stockValue[group], 2),
+                        percentiles(group, query.percentiles())));
+            }
+            return groups;
+        }
+
+        private Map<String, BigDecimal> percentiles(int group, List<Double> percentiles) {
+            Map<String, BigDecimal> values = new LinkedHashMap<>();
+            if (prices == null || priceCount[group] == 0) {
+                return values;
+            }
+            long[] sorted = Arrays.copyOf(prices[group], priceCount[group]);
+            Arrays.parallelSort(sorted);
+            for (double percentile : percentiles) {
+                int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+                values.put("p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                        BigDecimal.valueOf(sorted[Math.max(rank, 1) - 1], 2));
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package id.my.hendisantika.demo.batch;
+
+import id.my.hendisantika.demo.service.ProductService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+/**
+ * The part of an operation that decides its result, with defaults applied and prices normalised, so identical
+ * operations are equal however their labels, timeouts and number formats differ.
+ */
+record BatchCall(BatchOperationType type, Long productId, String text, int page, int size, String sort,
+                 BigDecimal minPrice, BigDecimal maxPrice, Integer threshold) {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final String DEFAULT_SORT = "id";
+
+    /**
+     * @throws IllegalArgumentException when a parameter the operation needs is missing or invalid
+     */
+    static BatchCall of(BatchOperation operation) {
+        if (operation.type() == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+        int page = operation.page() != null ? operation.page() : 0;
+        int size = operation.size() != null ? operation.size() : DEFAULT_SIZE;
+        return switch (operation.type()) {
+            case PRODUCT -> new BatchCall(operation.type(), required(operation.productId(), "productId"),
+                    null, 0, 0, null, null, null, null);
+            case PRODUCT_BY_NAME -> new BatchCall(operation.type(), null, required(operation.name(), "name"),
+                    0, 0, null, null, null, null);
+            case ALL_PRODUCTS -> {
+                // Validates page and size up front, so a bad page is a 400 before anything runs
+                PageRequest.of(page, size);
+                String sort = operation.sort() != null ? operation.sort() : DEFAULT_SORT;
+                yield new BatchCall(operation.type(), null, null, page, size, sort, null, null, null);
+            }
+            case CATEGORY -> {
+                PageRequest.of(page, size);
+                yield new BatchCall(operation.type(), null, required(operation.category(), "category"),
+                        page, size, null, null, null, null);
+            }
+            case COUNT_BY_CATEGORY -> new BatchCall(operation.type(), null, required(operation.category(), "category"),
+                    0, 0, null, null, null, null);
+            case PRICE_RANGE -> new BatchCall(operation.type(), null, null, 0, 0, null,
+                    required(operation.minPrice(), "minPrice").stripTrailingZeros(),
+                    required(operation.maxPrice(), "maxPrice").stripTrailingZeros(), null);
+            case LOW_STOCK -> new BatchCall(operation.type(), null, null, 0, 0, null, null, null,
+                    required(operation.threshold(), "threshold"));
+        };
+    }
+
+    /**
+     * Run the operation.
+     *
+     * @return the response body, or {@code null} when the product does not exist
+     */
+    Object invoke(ProductService productService) {
+        return switch (type) {
+            case PRODUCT -> productService.findById(productId).orElse(null);
+            case PRODUCT_BY_NAME -> productService.findByName(text).orElse(null);
+            case ALL_PRODUCTS -> productService.findAllProducts(PageRequest.of(page, size, Sort.by(sort)));
+            case CATEGORY -> productService.findByCategory(text, PageRequest.of(page, size));
+            case COUNT_BY_CATEGORY -> productService.countByCategory(text);
+            case PRICE_RANGE -> productService.findByPriceRange(minPrice, maxPrice);
+            case LOW_STOCK -> productService.findLowStockProducts(threshold);
+        };
+    }
+
+    private static <T> T required(T value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+}
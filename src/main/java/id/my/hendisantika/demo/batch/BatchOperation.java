@@ -0,0 +1,27 @@
+package id.my.hendisantika.demo.batch;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * One operation of a batch. Only the parameters its type needs are read.
+ *
+ * @param id            label echoed in the result; the position in the batch when absent
+ * @param type          what to do
+ * @param productId     product to look up
+ * @param name          product name to look up
+ * @param category      category to list or count
+ * @param page          page number (zero-based), 0 when absent
+ * @param size          page size, 20 when absent
+ * @param sort          field to sort all products by, {@code id} when absent
+ * @param minPrice      lower bound of a price range
+ * @param maxPrice      upper bound of a price range
+ * @param threshold     stock below which a product is low on stock
+ * @param timeoutMillis time the operation may take, {@code app.batch.default-timeout} when absent
+ */
+@Builder
+public record BatchOperation(String id, BatchOperationType type, Long productId, String name, String category,
+                             Integer page, Integer size, String sort, BigDecimal minPrice, BigDecimal maxPrice,
+                             Integer threshold, Long timeoutMillis) {
+}
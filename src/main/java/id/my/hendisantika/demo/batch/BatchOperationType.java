@@ -0,0 +1,42 @@
+package id.my.hendisantika.demo.batch;
+
+/**
+ * Read operations that can be batched, one per product endpoint.
+ */
+public enum BatchOperationType {
+
+    /**
+     * {@code GET /api/products/{id}}; needs {@code productId}.
+     */
+    PRODUCT,
+
+    /**
+     * {@code GET /api/products/name/{name}}; needs {@code name}.
+     */
+    PRODUCT_BY_NAME,
+
+    /**
+     * {@code GET /api/products}; takes {@code page}, {@code size} and {@code sort}.
+     */
+    ALL_PRODUCTS,
+
+    /**
+     * {@code GET /api/products/category/{category}}; needs {@code category}, takes {@code page} and {@code size}.
+     */
+    CATEGORY,
+
+    /**
+     * {@code GET /api/products/count/category/{category}}; needs {@code category}.
+     */
+    COUNT_BY_CATEGORY,
+
+    /**
+     * {@code GET /api/products/price-range}; needs {@code minPrice} and {@code maxPrice}.
+     */
+    PRICE_RANGE,
+
+    /**
+     * {@code GET /api/products/low-stock/{threshold}}; needs {@code threshold}.
+     */
+    LOW_STOCK
+}
@@ -0,0 +1,39 @@
+package id.my.hendisantika.demo.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the batch endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.batch")
+public class BatchProperties {
+
+    /**
+     * Whether {@code POST /api/products/batch} is served.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Largest number of operations accepted in one batch.
+     */
+    private int maxOperations = 20;
+
+    /**
+     * Operations of one batch running at the same time; each may hold a database connection and a read permit.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Time an operation may take when the request does not say.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Longest timeout a request may ask for.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,9 @@
+package id.my.hendisantika.demo.batch;
+
+import java.util.List;
+
+/**
+ * Results of a batch in request order, with the number of distinct operations that were actually run.
+ */
+public record BatchResponse(int operations, int executed, List<BatchResult> results) {
+}
@@ -0,0 +1,16 @@
+package id.my.hendisantika.demo.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one operation of a batch.
+ *
+ * @param id           label of the operation
+ * @param status       HTTP status the matching endpoint would have answered with; 504 when the operation timed out
+ * @param body         what the matching endpoint would have returned
+ * @param error        why the operation failed
+ * @param deduplicated whether the result was shared with an identical operation earlier in the batch
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult(String id, int status, Object body, String error, boolean deduplicated) {
+}
@@ -0,0 +1,209 @@
+package id.my.hendisantika.demo.batch;
+
+import id.my.hendisantika.demo.limiter.Bulkhead;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the operations of a batch concurrently, each on its own virtual thread, and collects their results.
+ * <p>
+ * Identical operations run once and share the result. Every operation has a deadline counted from the start of
+ * the batch; one that misses it answers 504 and is cancelled while the others keep their results. The batch is
+ * scoped like a structured task: it has its own executor, which is closed before {@link #execute} returns and waits
+ * for every operation it started to finish or give up after being cancelled, so nothing keeps running, or holding a
+ * connection, for a request that has already been answered.
+ * <p>
+ * A semaphore per batch bounds how many of its operations run at once. Each running operation also holds a permit of
+ * the read bulkhead, when one is given, like a single read request would; an operation that gets none answers 503.
+ */
+@Slf4j
+public class BatchService {
+
+    private final ProductService productService;
+    private final Bulkhead readBulkhead;
+    private final BatchProperties properties;
+    private final Counter executedOperations;
+    private final Counter deduplicatedOperations;
+    private final Counter timedOutOperations;
+
+    /**
+     * @param readBulkhead bulkhead whose permits the operations take, or {@code null} when reads are not limited
+     */
+    public BatchService(ProductService productService, Bulkhead readBulkhead, BatchProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.productService = productService;
+        this.readBulkhead = readBulkhead;
+        this.properties = properties;
+        this.executedOperations = operationCounter(meterRegistry, "executed");
+        this.deduplicatedOperations = operationCounter(meterRegistry, "deduplicated");
+        this.timedOutOperations = operationCounter(meterRegistry, "timed_out");
+    }
+
+    /**
+     * Run a batch and return the result of every operation in request order.
+     *
+     * @throws IllegalArgumentException when the batch is empty or longer than {@code app.batch.max-operations}
+     */
+    public BatchResponse execute(List<BatchOperation> operations) {
+        if (operations == null || operations.isEmpty() || operations.size() > properties.getMaxOperations()) {
+            throw new IllegalArgumentException("A batch takes 1 to " + properties.getMaxOperations() + " operations");
+        }
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(properties.getParallelism());
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        Map<BatchCall, Execution> executions = new LinkedHashMap<>();
+        // Closing the executor waits for every operation, including cancelled ones still unwinding
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                List<Pending> pending = new ArrayList<>(operations.size());
+                for (int index = 0; index < operations.size(); index++) {
+                    BatchOperation operation = operations.get(index);
+                    String id = operation.id() != null ? operation.id() : String.valueOf(index);
+                    BatchCall call;
+                    Duration timeout;
+                    try {
+                        call = BatchCall.of(operation);
+                        timeout = timeout(operation);
+                    } catch (IllegalArgumentException e) {
+                        pending.add(new Pending(id, null, 0, false, new BatchResult(id, 400, null, e.getMessage(), false)));
+                        continue;
+                    }
+                    boolean duplicate = executions.containsKey(call);
+                    Execution execution = executions.computeIfAbsent(call,
+                            key -> new Execution(executor.submit(() -> run(key, permits))));
+                    execution.waiters++;
+                    pending.add(new Pending(id, execution, start + timeout.toNanos(), duplicate, null));
+                }
+                executedOperations.increment(executions.size());
+                for (Pending operation : pending) {
+                    if (operation.result != null) {
+                        results.add(operation.result);
+                        continue;
+                    }
+                    results.add(await(operation));
+                    if (--operation.execution.waiters == 0) {
+                        // Frees the permit of an operation that timed out for everyone waiting on it
+                        operation.execution.future.cancel(true);
+                    }
+                }
+            } finally {
+                // Nothing outlives the batch, not even when collecting the results failed
+                executions.values().forEach(execution -> execution.future.cancel(true));
+            }
+        }
+        return new BatchResponse(operations.size(), executions.size(), results);
+    }
+
+    private Object run(BatchCall call, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            if (readBulkhead == null) {
+                return call.invoke(productService);
+            }
+            if (!readBulkhead.tryAcquire()) {
+                throw new OverloadedException();
+            }
+            long started = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object body = call.invoke(productService);
+                failed = false;
+                return body;
+            } finally {
+                readBulkhead.release(System.nanoTime() - started, failed);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private BatchResult await(Pending operation) {
+        if (operation.deduplicated) {
+            deduplicatedOperations.increment();
+        }
+        try {
+            Object body = operation.execution.future.get(Math.max(0, operation.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return body != null
+                    ? new BatchResult(operation.id, 200, body, null, operation.deduplicated)
+                    : new BatchResult(operation.id, 404, null, "Product not found", operation.deduplicated);
+        } catch (TimeoutException | CancellationException e) {
+            timedOutOperations.increment();
+            return new BatchResult(operation.id, 504, null, "Timed out", operation.deduplicated);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OverloadedException) {
+                return new BatchResult(operation.id, 503, null, "Overloaded", operation.deduplicated);
+            }
+            if (e.getCause() instanceof IllegalArgumentException cause) {
+                return new BatchResult(operation.id, 400, null, cause.getMessage(), operation.deduplicated);
+            }
+            log.warn("Batch operation {} failed", operation.id, e.getCause());
+            return new BatchResult(operation.id, 500, null, "Internal error", operation.deduplicated);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new BatchResult(operation.id, 503, null, "Interrupted", operation.deduplicated);
+        }
+    }
+
+    private Duration timeout(BatchOperation operation) {
+        if (operation.timeoutMillis() == null) {
+            return properties.getDefaultTimeout();
+        }
+        if (operation.timeoutMillis() <= 0) {
+            throw new IllegalArgumentException("timeoutMillis must be positive");
+        }
+        Duration timeout = Duration.ofMillis(operation.timeoutMillis());
+        return timeout.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : timeout;
+    }
+
+    private static Counter operationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("product.batch.operations")
+                .description("Operations received in batches")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A distinct operation that was started, with the number of operations of the batch still waiting for it.
+     */
+    private static final class Execution {
+
+        private final Future<Object> future;
+        private int waiters;
+
+        private Execution(Future<Object> future) {
+            this.future = future;
+        }
+    }
+
+    /**
+     * An operation waiting for its result, or already answered when it was invalid.
+     */
+    private record Pending(String id, Execution execution, long deadline, boolean deduplicated, BatchResult result) {
+    }
+
+    /**
+     * Thrown by an operation that found the read bulkhead full.
+     */
+    private static final class OverloadedException extends RuntimeException {
+
+        private OverloadedException() {
+            super("Read concurrency limit reached", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package id.my.hendisantika.demo.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Bloom filter over product ids and names.
+ * <p>
+ * {@link #mightContain} never answers {@code false} for a key that was {@link #put}; it answers {@code true} for an
+ * absent key with the probability returned by {@link #expectedFalsePositiveRate()}, which grows as the filter fills.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+    private final LongAdder bitsSet = new LongAdder();
+
+    private BloomFilter(long bitCount, int hashFunctions, long expectedInsertions) {
+        long wordCount = (bitCount + 63) / 64;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter too large: " + bitCount + " bits");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * 64;
+        this.hashFunctions = hashFunctions;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * A filter sized for the given number of keys at the given false-positive rate.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive and the rate within (0, 1)");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashFunctions = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(Math.max(64, bits), hashFunctions, expectedInsertions);
+    }
+
+    public void put(long id) {
+        setBits(hash(id));
+    }
+
+    public void put(String name) {
+        setBits(hash(name));
+    }
+
+    public boolean mightContain(long id) {
+        return allBitsSet(hash(id));
+    }
+
+    public boolean mightContain(String name) {
+        return allBitsSet(hash(name));
+    }
+
+    /**
+     * Probability that an absent key is reported as present, estimated from the share of bits set.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet.sum() / bitCount, hashFunctions);
+    }
+
+    /**
+     * Number of keys the filter was sized for.
+     */
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private void setBits(long hash) {
+        long second = mix(hash + 0x9E3779B97F4A7C15L);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(hash, second, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+            if ((current & mask) == 0) {
+                bitsSet.increment();
+            }
+        }
+    }
+
+    private boolean allBitsSet(long hash) {
+        long second = mix(hash + 0x9E3779B97F4A7C15L);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(hash, second, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long first, long second, int i) {
+        // Double hashing as in Kirsch and Mitzenmacher: k indexes from two independent 64-bit hashes
+        return ((first + i * second) & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(long id) {
+        return mix(id);
+    }
+
+    private static long hash(String name) {
+        // FNV-1a over the UTF-8 bytes, then mixed so every bit depends on every byte
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        long h = value;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,45 @@
+package id.my.hendisantika.demo.bloom;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the negative-lookup Bloom filters.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bloom-filter")
+public class BloomFilterProperties {
+
+    /**
+     * Whether lookups by id and name of products that cannot exist are answered without the cache or the database.
+     * Only safe when every write goes through the product service, which keeps the filters up to date.
+     */
+    private boolean enabled = false;
+
+    /**
+     * False-positive rate the filters are sized for.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Room for growth: filters are sized for {@code (1 + growth)} times the current product count.
+     */
+    private double growth = 1.0;
+
+    /**
+     * Smallest number of keys a filter is sized for.
+     */
+    private long minExpectedInsertions = 100_000;
+
+    /**
+     * How often the filters are rebuilt, dropping deleted products and resizing for the current count.
+     */
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    /**
+     * Rows fetched per round trip while building.
+     */
+    private int fetchSize = 10_000;
+}
@@ -0,0 +1,48 @@
+package id.my.hendisantika.demo.bloom;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Optional;
+
+/**
+ * Answers product lookups by id or name with "not found" when the {@link ProductExistenceFilter} rules the
+ * product out, so misses never reach the cache or the database.
+ * <p>
+ * Ordered ahead of {@code @Cacheable}, which would otherwise store every miss as an empty entry.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ProductExistenceAspect {
+
+    private final ProductExistenceFilter filter;
+
+    @Around("execution(java.util.Optional id.my.hendisantika.demo.service.impl.ProductServiceImpl.findById(Long)) && args(id)")
+    public Object findById(ProceedingJoinPoint joinPoint, Long id) throws Throwable {
+        if (!filter.mightExist(id)) {
+            return Optional.empty();
+        }
+        return checked(joinPoint, ProductExistenceFilter.Key.ID);
+    }
+
+    @Around("execution(java.util.Optional id.my.hendisantika.demo.service.impl.ProductServiceImpl.findByName(String)) && args(name)")
+    public Object findByName(ProceedingJoinPoint joinPoint, String name) throws Throwable {
+        if (!filter.mightExistWithName(name)) {
+            return Optional.empty();
+        }
+        return checked(joinPoint, ProductExistenceFilter.Key.NAME);
+    }
+
+    private Object checked(ProceedingJoinPoint joinPoint, ProductExistenceFilter.Key key) throws Throwable {
+        Object result = joinPoint.proceed();
+        if (result instanceof Optional<?> optional && optional.isEmpty()) {
+            filter.falsePositive(key);
+        }
+        return result;
+    }
+}
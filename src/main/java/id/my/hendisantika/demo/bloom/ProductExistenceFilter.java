@@ -0,0 +1,307 @@
+package id.my.hendisantika.demo.bloom;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.pool.ConnectionPool;
+import id.my.hendisantika.demo.pool.ConnectionPoolContext;
+import id.my.hendisantika.demo.util.CoalescingTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bloom filters over the ids and names of all products, telling lookups which products cannot exist.
+ * <p>
+ * The filters are built from the database once the application is ready and rebuilt every
+ * {@code rebuild-interval}, which also drops deleted products. Committed creates and updates, local or from other
+ * nodes, are added as they happen; a change made while a build runs is added to the new filters too. Whenever a
+ * change cannot be added, e.g. because its name is unknown, the affected filter answers "might exist" for every
+ * key until the next build, so a filter never hides a product that exists.
+ */
+@Slf4j
+public class ProductExistenceFilter {
+
+    private static final String IDS_AND_NAMES_SQL = "SELECT id, name FROM products";
+    private static final int NAME_QUERY_BATCH_SIZE = 1000;
+
+    /**
+     * Keys a filter is kept over.
+     */
+    public enum Key {
+        ID, NAME;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Object lock = new Object();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CoalescingTask rebuilds;
+    private final BloomFilterProperties properties;
+    private final Map<Key, Meters> meters;
+    private volatile BloomFilter ids;
+    private volatile BloomFilter names;
+    private List<Long> pendingIds;
+    private List<String> pendingNames;
+
+    public ProductExistenceFilter(JdbcTemplate jdbcTemplate, TransactionTemplate readOnlyTransaction,
+                                  AsyncTaskExecutor taskExecutor, BloomFilterProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.rebuilds = new CoalescingTask(taskExecutor, this::build);
+        this.properties = properties;
+        this.meters = Map.of(Key.ID, new Meters(Key.ID, meterRegistry), Key.NAME, new Meters(Key.NAME, meterRegistry));
+        Gauge.builder("product.bloom.false.positive.rate", this, filter -> filter.expectedFalsePositiveRate(filter.ids))
+                .description("False-positive rate of the product existence filters")
+                .tag("filter", Key.ID.tag())
+                .tag("source", "expected")
+                .register(meterRegistry);
+        Gauge.builder("product.bloom.false.positive.rate", this, filter -> filter.expectedFalsePositiveRate(filter.names))
+                .description("False-positive rate of the product existence filters")
+                .tag("filter", Key.NAME.tag())
+                .tag("source", "expected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a product with the given id might exist; {@code false} means it definitely does not.
+     */
+    public boolean mightExist(Long id) {
+        BloomFilter filter = ids;
+        return filter == null || id == null || meters.get(Key.ID).checked(filter.mightContain(id));
+    }
+
+    /**
+     * Whether a product with the given name might exist; {@code false} means it definitely does not.
+     */
+    public boolean mightExistWithName(String name) {
+        BloomFilter filter = names;
+        return filter == null || name == null || meters.get(Key.NAME).checked(filter.mightContain(name));
+    }
+
+    /**
+     * Whether both filters are answering.
+     */
+    public boolean isReady() {
+        return ids != null && names != null;
+    }
+
+    /**
+     * Record that a lookup the filter let through found nothing.
+     */
+    public void falsePositive(Key key) {
+        if ((key == Key.ID ? ids : names) != null) {
+            meters.get(key).falsePositives.increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.bloom-filter.rebuild-interval:6h}",
+            initialDelayString = "${app.bloom-filter.rebuild-interval:6h}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Build the filters again in the background. A rebuild requested while one runs starts another once it
+     * finishes, as the running one may have read too early.
+     */
+    public void rebuild() {
+        rebuilds.request();
+    }
+
+    /**
+     * Stop answering until the filters are rebuilt, e.g. after invalidations from other nodes may have been missed.
+     */
+    public void reset() {
+        synchronized (lock) {
+            ids = null;
+            names = null;
+        }
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChange(ProductChangeEvent event) {
+        if (event.type() == ProductChangeEvent.ChangeType.DELETED || event.productId() == null) {
+            return;
+        }
+        Map<Long, String> product = new HashMap<>();
+        product.put(event.productId(), event.name());
+        add(product);
+    }
+
+    /**
+     * Add created or updated products, keyed by id. Names that are {@code null} are read back from the database.
+     */
+    public void add(Map<Long, String> products) {
+        List<String> addedNames = new ArrayList<>();
+        List<Long> unnamed = new ArrayList<>();
+        products.forEach((id, name) -> {
+            if (name != null) {
+                addedNames.add(name);
+            } else {
+                unnamed.add(id);
+            }
+        });
+        boolean namesKnown = unnamed.isEmpty() || readNames(unnamed, addedNames);
+        boolean overfull;
+        synchronized (lock) {
+            if (ids != null) {
+                products.keySet().forEach(ids::put);
+            }
+            if (!namesKnown) {
+                names = null;
+            } else if (names != null) {
+                addedNames.forEach(names::put);
+            }
+            if (pendingIds != null) {
+                pendingIds.addAll(products.keySet());
+                pendingNames.addAll(addedNames);
+                if (!namesKnown) {
+                    // The running build may have read the product before it got its name
+                    rebuilds.markRequested();
+                }
+            }
+            overfull = isOverfull(ids) || isOverfull(names);
+        }
+        if (!namesKnown || overfull) {
+            rebuild();
+        }
+    }
+
+    private boolean readNames(List<Long> productIds, List<String> result) {
+        try {
+            for (int from = 0; from < productIds.size(); from += NAME_QUERY_BATCH_SIZE) {
+                List<Long> batch = productIds.subList(from, Math.min(from + NAME_QUERY_BATCH_SIZE, productIds.size()));
+                String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+                result.addAll(jdbcTemplate.queryForList("SELECT name FROM products WHERE id IN (" + placeholders + ")",
+                        String.class, batch.toArray()));
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read the names of {} changed products; name lookups bypass the filter until it is rebuilt",
+                    productIds.size(), e);
+            return false;
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        synchronized (lock) {
+            pendingIds = new ArrayList<>();
+            pendingNames = new ArrayList<>();
+        }
+        BloomFilter builtIds;
+        BloomFilter builtNames;
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM products", Long.class);
+            long expected = Math.max(properties.getMinExpectedInsertions(),
+                    (long) Math.ceil((count == null ? 0 : count) * (1 + properties.getGrowth())));
+            builtIds = BloomFilter.create(expected, properties.getFalsePositiveRate());
+            builtNames = BloomFilter.create(expected, properties.getFalsePositiveRate());
+            ConnectionPoolContext.run(ConnectionPool.REPORTING, () ->
+                    readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                        PreparedStatement statement = connection.prepareStatement(IDS_AND_NAMES_SQL);
+                        statement.setFetchSize(properties.getFetchSize());
+                        return statement;
+                    }, resultSet -> {
+                        builtIds.put(resultSet.getLong(1));
+                        String name = resultSet.getString(2);
+                        if (name != null) {
+                            builtNames.put(name);
+                        }
+                    })));
+        } catch (RuntimeException e) {
+            log.warn("Failed to build the product existence filters", e);
+            synchronized (lock) {
+                pendingIds = null;
+                pendingNames = null;
+            }
+            return;
+        }
+        synchronized (lock) {
+            // Changes committed while reading may not have been read
+            pendingIds.forEach(builtIds::put);
+            pendingNames.forEach(builtNames::put);
+            pendingIds = null;
+            pendingNames = null;
+            if (rebuilds.isRequested()) {
+                return;
+            }
+            ids = builtIds;
+            names = builtNames;
+        }
+        log.info("Built product existence filters for {} keys in {} ms", builtIds.expectedInsertions(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isOverfull(BloomFilter filter) {
+        return filter != null && !rebuilds.isRequested()
+                && filter.expectedFalsePositiveRate() > 2 * properties.getFalsePositiveRate();
+    }
+
+    private double expectedFalsePositiveRate(BloomFilter filter) {
+        return filter == null ? 1.0 : filter.expectedFalsePositiveRate();
+    }
+
+    /**
+     * Lookup outcomes of one filter; the observed false-positive rate is false positives over all absent keys.
+     */
+    private static final class Meters {
+
+        private final Counter rejected;
+        private final Counter passed;
+        private final Counter falsePositives;
+
+        private Meters(Key key, MeterRegistry meterRegistry) {
+            this.rejected = lookups(key, "rejected", meterRegistry);
+            this.passed = lookups(key, "passed", meterRegistry);
+            this.falsePositives = lookups(key, "false_positive", meterRegistry);
+            Gauge.builder("product.bloom.false.positive.rate", this, Meters::observedFalsePositiveRate)
+                    .description("False-positive rate of the product existence filters")
+                    .tag("filter", key.tag())
+                    .tag("source", "observed")
+                    .register(meterRegistry);
+        }
+
+        private boolean checked(boolean mightContain) {
+            (mightContain ? passed : rejected).increment();
+            return mightContain;
+        }
+
+        private double observedFalsePositiveRate() {
+            double absent = falsePositives.count() + rejected.count();
+            return absent == 0 ? 0 : falsePositives.count() / absent;
+        }
+
+        private static Counter lookups(Key key, String result, MeterRegistry meterRegistry) {
+            return Counter.builder("product.bloom.lookups")
+                    .description("Product lookups checked against the existence filters")
+                    .tag("filter", key.tag())
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
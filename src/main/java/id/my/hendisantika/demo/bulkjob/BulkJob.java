@@ -0,0 +1,103 @@
+package id.my.hendisantika.demo.bulkjob;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress counters of one bulk job, updated by its chunk tasks.
+ */
+class BulkJob {
+
+    private final String id;
+    private final Instant submittedAt;
+    private final int totalItems;
+    private final int totalChunks;
+    private final int maxReportedFailures;
+    private final AtomicInteger savedItems = new AtomicInteger();
+    private final AtomicInteger failedItems = new AtomicInteger();
+    private final AtomicInteger completedChunks = new AtomicInteger();
+    private final AtomicInteger failedChunks = new AtomicInteger();
+    private final List<BulkJobStatus.ChunkFailure> failures = new ArrayList<>();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    BulkJob(String id, Instant submittedAt, int totalItems, int totalChunks, int maxReportedFailures) {
+        this.id = id;
+        this.submittedAt = submittedAt;
+        this.totalItems = totalItems;
+        this.totalChunks = totalChunks;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    synchronized void chunkStarted(Instant now) {
+        if (startedAt == null) {
+            startedAt = now;
+        }
+    }
+
+    /**
+     * @return whether this was the job's last chunk
+     */
+    boolean chunkSaved(int items, Instant now) {
+        savedItems.addAndGet(items);
+        completedChunks.incrementAndGet();
+        return finishIfDone(now);
+    }
+
+    /**
+     * @return whether this was the job's last chunk
+     */
+    boolean chunkFailed(BulkJobStatus.ChunkFailure failure, int items, Instant now) {
+        synchronized (failures) {
+            if (failures.size() < maxReportedFailures) {
+                failures.add(failure);
+            }
+        }
+        failedItems.addAndGet(items);
+        failedChunks.incrementAndGet();
+        return finishIfDone(now);
+    }
+
+    BulkJobStatus status(Instant now) {
+        Instant started = startedAt;
+        Instant finished = finishedAt;
+        int saved = savedItems.get();
+        double seconds = started == null ? 0 : Duration.between(started, finished != null ? finished : now).toNanos() / 1e9;
+        List<BulkJobStatus.ChunkFailure> reported;
+        synchronized (failures) {
+            reported = List.copyOf(failures);
+        }
+        return new BulkJobStatus(id, state(started, finished), totalItems, saved, failedItems.get(), totalChunks,
+                completedChunks.get(), failedChunks.get(), seconds > 0 ? saved / seconds : 0, submittedAt, started,
+                finished, reported);
+    }
+
+    private BulkJobState state(Instant started, Instant finished) {
+        if (finished == null) {
+            return started == null ? BulkJobState.QUEUED : BulkJobState.RUNNING;
+        }
+        if (failedChunks.get() == 0) {
+            return BulkJobState.COMPLETED;
+        }
+        return completedChunks.get() == 0 ? BulkJobState.FAILED : BulkJobState.COMPLETED_WITH_ERRORS;
+    }
+
+    private synchronized boolean finishIfDone(Instant now) {
+        if (finishedAt == null && completedChunks.get() + failedChunks.get() == totalChunks) {
+            finishedAt = now;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package id.my.hendisantika.demo.bulkjob;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for asynchronous bulk create jobs.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulk-jobs")
+public class BulkJobProperties {
+
+    /**
+     * Whether {@code /api/products/bulk/jobs} is served.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Products saved per transaction.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Chunks saved at the same time across all jobs; each one holds a pooled connection while it runs.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Largest number of products accepted in one job.
+     */
+    private int maxItems = 500_000;
+
+    /**
+     * Failed chunks listed in a job's status; further failures are only counted.
+     */
+    private int maxReportedFailures = 100;
+
+    /**
+     * How long a finished job's status stays available.
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * How often finished jobs past the retention period are forgotten.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+}
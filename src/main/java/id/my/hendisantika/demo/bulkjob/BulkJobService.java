@@ -0,0 +1,135 @@
+package id.my.hendisantika.demo.bulkjob;
+
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Saves large product lists in the background, one transaction per chunk.
+ * <p>
+ * Every chunk runs on its own virtual thread, and a fair semaphore shared by all jobs bounds how many save at
+ * once, so a job never holds more than {@code parallelism} connections and jobs are served in submission order.
+ * A failed chunk is rolled back alone and recorded; the other chunks of its job carry on. Jobs live in memory on
+ * the node they were submitted to and are forgotten {@code retention} after they finish.
+ */
+@Slf4j
+public class BulkJobService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ProductService productService;
+    private final AsyncTaskExecutor taskExecutor;
+    private final BulkJobProperties properties;
+    private final Semaphore permits;
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+    private final Counter savedItems;
+    private final Counter failedItems;
+
+    public BulkJobService(ProductService productService, AsyncTaskExecutor taskExecutor, BulkJobProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.productService = productService;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getParallelism(), true);
+        this.savedItems = Counter.builder("product.bulk.job.items")
+                .description("Products processed by bulk jobs")
+                .tag("outcome", "saved")
+                .register(meterRegistry);
+        this.failedItems = Counter.builder("product.bulk.job.items")
+                .description("Products processed by bulk jobs")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a job saving the given products.
+     *
+     * @throws IllegalArgumentException when the list is empty or longer than {@code app.bulk-jobs.max-items}
+     */
+    public BulkJobStatus submit(List<Product> products) {
+        if (products.isEmpty() || products.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("A bulk job takes 1 to " + properties.getMaxItems() + " products");
+        }
+        int chunkSize = properties.getChunkSize();
+        int totalChunks = (products.size() + chunkSize - 1) / chunkSize;
+        Instant now = Instant.now();
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), now, products.size(), totalChunks,
+                properties.getMaxReportedFailures());
+        jobs.put(job.getId(), job);
+        log.info("Bulk job {} queued: {} products in {} chunks", job.getId(), products.size(), totalChunks);
+
+        for (int chunk = 0; chunk < totalChunks; chunk++) {
+            int from = chunk * chunkSize;
+            // Copied so every chunk can be collected once it is saved
+            List<Product> items = List.copyOf(products.subList(from, Math.min(from + chunkSize, products.size())));
+            int index = chunk;
+            taskExecutor.execute(() -> saveChunk(job, index, from, items));
+        }
+        return job.status(now);
+    }
+
+    public Optional<BulkJobStatus> status(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> job.status(Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.bulk-jobs.cleanup-interval:1m}")
+    public void cleanup() {
+        Instant expired = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(expired));
+    }
+
+    private void saveChunk(BulkJob job, int chunk, int from, List<Product> items) {
+        boolean last;
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (fail(job, chunk, from, items, "interrupted before it started")) {
+                logFinished(job);
+            }
+            return;
+        }
+        try {
+            job.chunkStarted(Instant.now());
+            productService.saveAllProducts(items);
+            savedItems.increment(items.size());
+            last = job.chunkSaved(items.size(), Instant.now());
+        } catch (RuntimeException e) {
+            String error = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            log.warn("Bulk job {}: chunk {} (products {} to {}) failed: {}", job.getId(), chunk, from,
+                    from + items.size() - 1, error);
+            last = fail(job, chunk, from, items, error);
+        } finally {
+            permits.release();
+        }
+        if (last) {
+            logFinished(job);
+        }
+    }
+
+    private boolean fail(BulkJob job, int chunk, int from, List<Product> items, String error) {
+        String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        failedItems.increment(items.size());
+        return job.chunkFailed(new BulkJobStatus.ChunkFailure(chunk, from, from + items.size(), truncated),
+                items.size(), Instant.now());
+    }
+
+    private void logFinished(BulkJob job) {
+        BulkJobStatus status = job.status(Instant.now());
+        log.info("Bulk job {} {}: {} saved, {} failed, {} products/s", job.getId(), status.state(),
+                status.savedItems(), status.failedItems(), Math.round(status.itemsPerSecond()));
+    }
+}
@@ -0,0 +1,8 @@
+package id.my.hendisantika.demo.bulkjob;
+
+/**
+ * Lifecycle of a bulk job.
+ */
+public enum BulkJobState {
+    QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED
+}
@@ -0,0 +1,24 @@
+package id.my.hendisantika.demo.bulkjob;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress of a bulk job at the time it was read.
+ *
+ * @param itemsPerSecond products saved per second since the first chunk started
+ * @param failures       the first failed chunks, up to {@code app.bulk-jobs.max-reported-failures}
+ */
+public record BulkJobStatus(String id, BulkJobState state, int totalItems, int savedItems, int failedItems,
+                            int totalChunks, int completedChunks, int failedChunks, double itemsPerSecond,
+                            Instant submittedAt, Instant startedAt, Instant finishedAt, List<ChunkFailure> failures) {
+
+    /**
+     * A chunk whose transaction was rolled back.
+     *
+     * @param fromItem index of its first product in the submitted list
+     * @param toItem   index after its last product
+     */
+    public record ChunkFailure(int chunk, int fromItem, int toItem, String error) {
+    }
+}
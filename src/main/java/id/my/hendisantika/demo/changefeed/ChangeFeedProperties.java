@@ -0,0 +1,59 @@
+package id.my.hendisantika.demo.changefeed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the outbox-backed product change feed.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.change-feed")
+public class ChangeFeedProperties {
+
+    /**
+     * Whether changes are written to the outbox and streamed at {@code /api/products/changes}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often the relay reads new outbox events.
+     */
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /**
+     * Maximum number of events read per outbox query.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Events buffered per subscriber; a subscriber that falls further behind catches up from the outbox.
+     */
+    private int bufferSize = 1000;
+
+    /**
+     * Interval of keep-alive comments on idle streams.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Lifetime of one stream; clients reconnect with {@code Last-Event-ID} and resume without loss.
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * How long the relay waits for a missing offset (an uncommitted transaction) before skipping it as rolled back.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(5);
+
+    /**
+     * How long events are kept in the outbox, and so how far back clients can resume.
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * How often events past the retention period are deleted.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,180 @@
+package id.my.hendisantika.demo.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.model.ProductOutboxEvent;
+import id.my.hendisantika.demo.repository.ProductOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reads new outbox events and fans them out to the change feed subscribers of this node.
+ * <p>
+ * Offsets are allocated when a row is inserted but become visible when its transaction commits, so
+ * a higher offset can appear before a lower one. The relay only advances over contiguous offsets and
+ * waits up to {@code gap-timeout} for a missing one before treating it as rolled back. Every node runs
+ * its own relay over the shared outbox.
+ */
+@Slf4j
+public class ChangeFeedRelay {
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ChangeFeedProperties properties;
+    private final AsyncTaskExecutor taskExecutor;
+    private final List<ChangeFeedSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Counter deliveredEvents;
+    private final Counter laggingSubscribers;
+    private volatile long head = -1;
+    private long gapSinceNanos;
+
+    public ChangeFeedRelay(ProductOutboxRepository outboxRepository, ObjectMapper objectMapper,
+                           ChangeFeedProperties properties, AsyncTaskExecutor taskExecutor, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.taskExecutor = taskExecutor;
+        this.deliveredEvents = Counter.builder("product.changefeed.events")
+                .description("Change events read from the outbox by the relay")
+                .register(meterRegistry);
+        this.laggingSubscribers = Counter.builder("product.changefeed.lagging")
+                .description("Times a subscriber overflowed its buffer and switched to catching up from the outbox")
+                .register(meterRegistry);
+        Gauge.builder("product.changefeed.subscribers", subscribers, List::size)
+                .description("Open change feed streams on this node")
+                .register(meterRegistry);
+        Gauge.builder("product.changefeed.offset", this, relay -> relay.head)
+                .description("Highest outbox offset relayed to subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream that starts after {@code from}, or at the current head when {@code from} is {@code null}.
+     * If events after {@code from} have already been removed by retention, the stream starts with a
+     * {@code reset} event and continues from the current head; the client must reload its copy.
+     */
+    public SseEmitter subscribe(Long from) {
+        long current = head();
+        long start = from == null ? current : from;
+        boolean reset = false;
+        if (from != null && from != current) {
+            Long oldest = outboxRepository.findMinOffset();
+            reset = from > current || (oldest == null ? from < current : from + 1 < oldest);
+        }
+        if (reset) {
+            start = current;
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        ChangeFeedSubscriber subscriber = new ChangeFeedSubscriber(this, emitter, start, reset, properties);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        taskExecutor.execute(subscriber);
+        return emitter;
+    }
+
+    void unsubscribe(ChangeFeedSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    void onLagging() {
+        laggingSubscribers.increment();
+    }
+
+    /**
+     * Highest offset delivered to live subscribers; every event up to it is committed.
+     */
+    long head() {
+        if (head < 0) {
+            initialize();
+        }
+        return head;
+    }
+
+    /**
+     * Read committed events in {@code (after, min(upTo, head)]} for a subscriber that is catching up.
+     */
+    List<FeedEvent> read(long after, long upTo, int limit) {
+        return outboxRepository.findRange(after, Math.min(upTo, head()), Limit.of(limit)).stream()
+                .map(this::toFeedEvent)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.poll-interval:100ms}")
+    public void poll() {
+        long cursor = head();
+        List<ProductOutboxEvent> events = outboxRepository.findAfter(cursor, Limit.of(properties.getBatchSize()));
+        for (ProductOutboxEvent event : events) {
+            if (event.getId() != cursor + 1) {
+                if (gapSinceNanos == 0) {
+                    gapSinceNanos = System.nanoTime();
+                    break;
+                }
+                if (System.nanoTime() - gapSinceNanos < properties.getGapTimeout().toNanos()) {
+                    break;
+                }
+                log.debug("Skipping outbox offsets {}..{} after {}", cursor + 1, event.getId() - 1, properties.getGapTimeout());
+            }
+            gapSinceNanos = 0;
+            FeedEvent feedEvent = toFeedEvent(event);
+            cursor = event.getId();
+            // Publish the new head before offering, so a subscriber switching to live reads either from the
+            // outbox or from its buffer
+            head = cursor;
+            for (ChangeFeedSubscriber subscriber : subscribers) {
+                subscriber.offer(feedEvent);
+            }
+            deliveredEvents.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.cleanup-interval:10m}")
+    public void cleanup() {
+        int deleted = outboxRepository.deleteOlderThan(LocalDateTime.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Removed {} change feed events older than {}", deleted, properties.getRetention());
+        }
+    }
+
+    /**
+     * End all open streams when shutdown starts, so graceful shutdown does not wait for them; clients
+     * reconnect to another node and resume from their last offset.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeSubscribers() {
+        subscribers.forEach(ChangeFeedSubscriber::close);
+    }
+
+    private synchronized void initialize() {
+        if (head < 0) {
+            // Offsets newer than the gap timeout may belong to transactions still in flight
+            head = outboxRepository.findMaxOffsetBefore(LocalDateTime.now().minus(properties.getGapTimeout()));
+        }
+    }
+
+    private FeedEvent toFeedEvent(ProductOutboxEvent event) {
+        String type = event.getChangeType().name().toLowerCase(Locale.ROOT);
+        FeedEvent.Envelope envelope = new FeedEvent.Envelope(event.getId(), type, event.getProductId(),
+                event.getCreatedAt(), event.getPayload());
+        try {
+            return new FeedEvent(event.getId(), type, objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize change event " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package id.my.hendisantika.demo.changefeed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One open change feed stream, drained by its own (virtual) thread.
+ * <p>
+ * Live events are buffered in a bounded queue. When the client reads too slowly and the queue
+ * overflows, the subscriber stops receiving live events and catches up from the outbox at the pace
+ * the client sets, then switches back to live. Events are sent at most once, in offset order.
+ */
+@Slf4j
+class ChangeFeedSubscriber implements Runnable {
+
+    private final ChangeFeedRelay relay;
+    private final SseEmitter emitter;
+    private final ChangeFeedProperties properties;
+    private final BlockingQueue<FeedEvent> buffer;
+    private final boolean reset;
+    private volatile boolean lagging = true;
+    private volatile boolean closed;
+    private volatile Thread thread;
+    private long lastSent;
+
+    ChangeFeedSubscriber(ChangeFeedRelay relay, SseEmitter emitter, long start, boolean reset,
+                         ChangeFeedProperties properties) {
+        this.relay = relay;
+        this.emitter = emitter;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.lastSent = start;
+        this.reset = reset;
+    }
+
+    /**
+     * Called by the relay for every new event; never blocks.
+     */
+    void offer(FeedEvent event) {
+        if (lagging || closed) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            lagging = true;
+            relay.onLagging();
+        }
+    }
+
+    void close() {
+        closed = true;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        try {
+            if (reset) {
+                emitter.send(SseEmitter.event().name("reset").data("{\"offset\":" + lastSent + "}"));
+            }
+            while (!closed) {
+                if (lagging) {
+                    catchUp();
+                    continue;
+                }
+                FeedEvent event = buffer.poll(properties.getHeartbeatInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    send(event);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change feed stream closed: {}", e.getMessage());
+        } finally {
+            closed = true;
+            relay.unsubscribe(this);
+            emitter.complete();
+        }
+    }
+
+    private void catchUp() throws IOException {
+        buffer.clear();
+        int batchSize = properties.getBatchSize();
+        List<FeedEvent> events;
+        do {
+            events = relay.read(lastSent, Long.MAX_VALUE, batchSize);
+            for (FeedEvent event : events) {
+                send(event);
+            }
+        } while (events.size() == batchSize && !closed);
+
+        // Go live, then read once more: anything the relay published before it saw this subscriber as live
+        // is in the outbox, anything after is in the buffer, and duplicates are dropped by offset
+        lagging = false;
+        events = relay.read(lastSent, Long.MAX_VALUE, batchSize);
+        for (FeedEvent event : events) {
+            send(event);
+        }
+        if (events.size() == batchSize) {
+            lagging = true;
+        }
+    }
+
+    private void send(FeedEvent event) throws IOException {
+        if (event.offset() <= lastSent) {
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(event.offset()))
+                .name(event.type())
+                .data(event.data()));
+        lastSent = event.offset();
+    }
+}
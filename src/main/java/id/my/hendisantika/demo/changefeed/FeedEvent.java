@@ -0,0 +1,21 @@
+package id.my.hendisantika.demo.changefeed;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change as streamed to subscribers; serialized once and shared by all of them.
+ *
+ * @param offset outbox offset, sent as the SSE event id
+ * @param type   SSE event name ({@code created}, {@code updated} or {@code deleted})
+ * @param data   JSON envelope sent as the SSE data
+ */
+record FeedEvent(long offset, String type, String data) {
+
+    /**
+     * JSON envelope of a change; {@code product} is the outbox payload and absent for deletes.
+     */
+    record Envelope(long offset, String type, Long productId, LocalDateTime occurredAt, @JsonRawValue String product) {
+    }
+}
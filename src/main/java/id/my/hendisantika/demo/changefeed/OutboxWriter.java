@@ -0,0 +1,49 @@
+package id.my.hendisantika.demo.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.model.ProductOutboxEvent;
+import id.my.hendisantika.demo.repository.ProductOutboxRepository;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes every product change to the outbox inside the transaction that made it, so the change feed
+ * carries exactly the committed changes.
+ * <p>
+ * The product is read back from the persistence context of the running transaction, which costs no
+ * additional query.
+ */
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onProductChange(ProductChangeEvent event) {
+        String payload = null;
+        if (event.type() != ProductChangeEvent.ChangeType.DELETED) {
+            payload = productRepository.findById(event.productId()).map(this::toJson).orElse(null);
+        }
+        outboxRepository.save(ProductOutboxEvent.builder()
+                .productId(event.productId())
+                .changeType(event.type())
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String toJson(Object product) {
+        try {
+            return objectMapper.writeValueAsString(product);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize product for the outbox", e);
+        }
+    }
+}
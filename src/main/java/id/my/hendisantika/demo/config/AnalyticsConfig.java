@@ -0,0 +1,30 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.analytics.AnalyticsProperties;
+import id.my.hendisantika.demo.analytics.AnalyticsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for analytics queries over a columnar snapshot of the catalog.
+ */
+@Configuration
+@EnableConfigurationProperties(AnalyticsProperties.class)
+@ConditionalOnProperty(prefix = "app.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsConfig {
+
+    @Bean(destroyMethod = "close")
+    public AnalyticsService analyticsService(JdbcTemplate jdbcTemplate,
+                                             @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransaction,
+                                             @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor,
+                                             AnalyticsProperties properties, MeterRegistry meterRegistry) {
+        return new AnalyticsService(jdbcTemplate, readOnlyTransaction, taskExecutor, properties, meterRegistry);
+    }
+}
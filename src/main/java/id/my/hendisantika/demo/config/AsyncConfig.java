@@ -2,10 +2,10 @@ package id.my.hendisantika.demo.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.EnableAsync;
 
-import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 /**
@@ -20,9 +20,10 @@ public class AsyncConfig {
      * Task executor for handling asynchronous operations.
      * Uses Java 21 virtual threads for maximum scalability and CPU efficiency.
      * Virtual threads are lightweight and managed by the JVM, allowing for much higher concurrency.
+     * Also registered as the application task executor, which deferred JPA bootstrapping runs on.
      */
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+    public AsyncTaskExecutor taskExecutor() {
         // Create an executor that spawns a new virtual thread for each task
         return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
     }
@@ -0,0 +1,34 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.batch.BatchProperties;
+import id.my.hendisantika.demo.batch.BatchService;
+import id.my.hendisantika.demo.limiter.BulkheadRegistry;
+import id.my.hendisantika.demo.limiter.ConcurrencyLimitProperties;
+import id.my.hendisantika.demo.limiter.EndpointClass;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the batch endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(BatchProperties.class)
+@ConditionalOnProperty(prefix = "app.batch", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BatchConfig {
+
+    /**
+     * Batch service; every operation takes a permit of the read bulkhead, as a single read request would.
+     */
+    @Bean
+    public BatchService batchService(ProductService productService, BulkheadRegistry bulkheadRegistry,
+                                     ConcurrencyLimitProperties concurrencyLimitProperties,
+                                     BatchProperties properties, MeterRegistry meterRegistry) {
+        return new BatchService(productService,
+                concurrencyLimitProperties.isEnabled() ? bulkheadRegistry.get(EndpointClass.READ) : null,
+                properties, meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package id.my.hendisantika.demo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import id.my.hendisantika.demo.metrics.TimedMappingJackson2CborHttpMessageConverter;
+import id.my.hendisantika.demo.metrics.TimedMappingJackson2SmileHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration for CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) request and
+ * response bodies, selected through Accept and Content-Type; JSON stays the default.
+ * <p>
+ * Both mappers come from Boot's {@link Jackson2ObjectMapperBuilder}, so they carry the same modules and
+ * {@code spring.jackson.*} settings as JSON and encode the same document: same property names, ISO date-times and
+ * exact decimals. Clients can switch format without a schema change. The converters replace Spring MVC's defaults
+ * for these formats, which come after JSON in the converter list.
+ */
+@Configuration
+public class BinaryContentConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new TimedMappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new TimedMappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,36 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.bloom.BloomFilterProperties;
+import id.my.hendisantika.demo.bloom.ProductExistenceAspect;
+import id.my.hendisantika.demo.bloom.ProductExistenceFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for the negative-lookup Bloom filters over product ids and names. Off unless enabled.
+ */
+@Configuration
+@EnableConfigurationProperties(BloomFilterProperties.class)
+@ConditionalOnProperty(prefix = "app.bloom-filter", name = "enabled", havingValue = "true")
+public class BloomFilterConfig {
+
+    @Bean
+    public ProductExistenceFilter productExistenceFilter(JdbcTemplate jdbcTemplate,
+                                                         @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransaction,
+                                                         @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor,
+                                                         BloomFilterProperties properties, MeterRegistry meterRegistry) {
+        return new ProductExistenceFilter(jdbcTemplate, readOnlyTransaction, taskExecutor, properties, meterRegistry);
+    }
+
+    @Bean
+    public ProductExistenceAspect productExistenceAspect(ProductExistenceFilter productExistenceFilter) {
+        return new ProductExistenceAspect(productExistenceFilter);
+    }
+}
@@ -0,0 +1,31 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.bulkjob.BulkJobProperties;
+import id.my.hendisantika.demo.bulkjob.BulkJobService;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Configuration for asynchronous bulk create jobs.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkJobProperties.class)
+@ConditionalOnProperty(prefix = "app.bulk-jobs", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkJobConfig {
+
+    /**
+     * Job service; chunks run on virtual threads from the application task executor.
+     */
+    @Bean
+    public BulkJobService bulkJobService(ProductService productService,
+                                         @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor,
+                                         BulkJobProperties properties, MeterRegistry meterRegistry) {
+        return new BulkJobService(productService, taskExecutor, properties, meterRegistry);
+    }
+}
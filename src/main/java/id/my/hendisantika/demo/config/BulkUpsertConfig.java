@@ -0,0 +1,38 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.upsert.BulkUpsertProperties;
+import id.my.hendisantika.demo.upsert.ProductUpsertService;
+import id.my.hendisantika.demo.upsert.ProductUpserter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for the SKU-keyed bulk upsert.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkUpsertProperties.class)
+@ConditionalOnProperty(prefix = "app.bulk-upsert", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkUpsertConfig {
+
+    @Bean
+    public ProductUpserter productUpserter(JdbcTemplate jdbcTemplate) {
+        return new ProductUpserter(jdbcTemplate);
+    }
+
+    @Bean
+    public ProductUpsertService productUpsertService(ProductUpserter productUpserter, ProductRepository productRepository,
+                                                     ApplicationEventPublisher eventPublisher,
+                                                     PlatformTransactionManager transactionManager,
+                                                     CacheManager cacheManager, BulkUpsertProperties properties) {
+        return new ProductUpsertService(productUpserter, productRepository, eventPublisher,
+                new TransactionTemplate(transactionManager), cacheManager, properties);
+    }
+}
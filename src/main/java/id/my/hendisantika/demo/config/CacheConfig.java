@@ -1,12 +1,21 @@
 package id.my.hendisantika.demo.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import id.my.hendisantika.demo.hotkey.HotKeyTracker;
+import id.my.hendisantika.demo.invalidation.ProductCacheEvictor;
+import id.my.hendisantika.demo.metrics.InstrumentedCache;
+import id.my.hendisantika.demo.responsecache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -18,12 +27,45 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    /**
+     * Time an entry stays cached after it was written.
+     */
+    private static final Duration ENTRY_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Entries kept per cache.
+     */
+    private static final long MAXIMUM_SIZE = 10_000;
+
     /**
      * Cache manager configured with Caffeine for high performance.
+     * Every cache publishes its hit/miss/eviction statistics and load time tagged with the cache name.
+     * Evicting from a cache that product list responses are rendered from also invalidates those responses.
+     * With hot-key detection on, keys that stay hot are kept past the usual expiry.
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(MeterRegistry meterRegistry, ObjectProvider<ResponseCache> responseCache,
+                                     ObjectProvider<HotKeyTracker> hotKeyTracker) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+                HotKeyTracker hotKeys = hotKeyTracker.getIfAvailable();
+                return hotKeys == null
+                        ? super.createNativeCaffeineCache(name)
+                        : caffeineBaseBuilder().expireAfter(hotKeys.expiry(name, ENTRY_TTL, MAXIMUM_SIZE)).build();
+            }
+
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+                Cache instrumented = new InstrumentedCache(super.adaptCaffeineCache(name, cache), meterRegistry,
+                        hotKeyTracker.getIfAvailable());
+                ResponseCache responses = responseCache.getIfAvailable();
+                return responses == null ? instrumented : responses.invalidateWith(instrumented);
+            }
+        };
+        // Set the builder before the names so each cache is only created (and bound to metrics) once
+        cacheManager.setCaffeine(caffeineCacheBuilder());
         cacheManager.setCacheNames(Arrays.asList(
                 "products",
                 "productsByName",
@@ -32,23 +74,38 @@ public class CacheConfig {
                 "productsByPriceRange",
                 "productCountByCategory"
         ));
-        cacheManager.setCaffeine(caffeineCacheBuilder());
         return cacheManager;
     }
 
+    /**
+     * Evicts what this node's writes made stale as soon as they commit; other nodes learn of them through
+     * cross-node invalidation.
+     */
+    @Bean
+    public ProductCacheEvictor productCacheEvictor(CacheManager cacheManager) {
+        return new ProductCacheEvictor(cacheManager);
+    }
+
     /**
      * Caffeine cache builder with optimized settings.
      */
     private Caffeine<Object, Object> caffeineCacheBuilder() {
+        return caffeineBaseBuilder()
+                // Expire entries after write
+                .expireAfterWrite(ENTRY_TTL)
+                // Expire entries after access
+                .expireAfterAccess(10, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Size and statistics settings shared with the per-cache builders used for hot-key expiry.
+     */
+    private static Caffeine<Object, Object> caffeineBaseBuilder() {
         return Caffeine.newBuilder()
                 // Initial capacity of the cache
                 .initialCapacity(100)
                 // Maximum size of the cache
-                .maximumSize(10000)
-                // Expire entries after write
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                // Expire entries after access
-                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(MAXIMUM_SIZE)
                 // Record statistics for monitoring
                 .recordStats();
     }
@@ -0,0 +1,51 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.bloom.ProductExistenceFilter;
+import id.my.hendisantika.demo.count.ProductCounter;
+import id.my.hendisantika.demo.invalidation.CacheInvalidationListener;
+import id.my.hendisantika.demo.invalidation.CacheInvalidationProperties;
+import id.my.hendisantika.demo.invalidation.CacheInvalidationPublisher;
+import id.my.hendisantika.demo.invalidation.LocalCacheInvalidator;
+import id.my.hendisantika.demo.invalidation.ProductCacheEvictor;
+import id.my.hendisantika.demo.replica.ProductReplica;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Configuration for cross-node cache invalidation over Postgres {@code LISTEN/NOTIFY}.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+    @Bean
+    public LocalCacheInvalidator localCacheInvalidator(ProductCacheEvictor cacheEvictor, ProductCounter productCounter,
+                                                       ObjectProvider<ProductReplica> productReplica,
+                                                       ObjectProvider<ProductExistenceFilter> productExistenceFilter) {
+        return new LocalCacheInvalidator(cacheEvictor, productCounter, productReplica, productExistenceFilter);
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                                                 CacheInvalidationProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new CacheInvalidationPublisher(jdbcTemplate, properties, meterRegistry);
+    }
+
+    @Bean
+    public CacheInvalidationListener cacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                                               CacheInvalidationProperties properties,
+                                                               LocalCacheInvalidator localCacheInvalidator,
+                                                               CacheInvalidationPublisher publisher,
+                                                               MeterRegistry meterRegistry) {
+        return new CacheInvalidationListener(dataSourceProperties, properties, localCacheInvalidator,
+                publisher.getNodeId(), meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.warmup.CacheWarmupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the hot-key snapshot and cache warm-up.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheWarmupProperties.class)
+public class CacheWarmupConfig {
+}
@@ -0,0 +1,41 @@
+package id.my.hendisantika.demo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.changefeed.ChangeFeedProperties;
+import id.my.hendisantika.demo.changefeed.ChangeFeedRelay;
+import id.my.hendisantika.demo.changefeed.OutboxWriter;
+import id.my.hendisantika.demo.repository.ProductOutboxRepository;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Configuration for the transactional outbox and the SSE change feed.
+ */
+@Configuration
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+@ConditionalOnProperty(prefix = "app.change-feed", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeFeedConfig {
+
+    @Bean
+    public OutboxWriter outboxWriter(ProductOutboxRepository outboxRepository, ProductRepository productRepository,
+                                     ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxRepository, productRepository, objectMapper);
+    }
+
+    /**
+     * Relay; each subscriber is drained on its own virtual thread from the application task executor.
+     */
+    @Bean
+    public ChangeFeedRelay changeFeedRelay(ProductOutboxRepository outboxRepository, ObjectMapper objectMapper,
+                                           ChangeFeedProperties properties,
+                                           @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor,
+                                           MeterRegistry meterRegistry) {
+        return new ChangeFeedRelay(outboxRepository, objectMapper, properties, taskExecutor, meterRegistry);
+    }
+}
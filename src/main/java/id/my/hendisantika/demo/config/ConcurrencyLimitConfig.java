@@ -0,0 +1,42 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.limiter.BulkheadRegistry;
+import id.my.hendisantika.demo.limiter.ConcurrencyLimitFilter;
+import id.my.hendisantika.demo.limiter.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for adaptive admission control in front of the product API.
+ * Each endpoint class gets its own bulkhead so reads, writes and bulk imports cannot starve each other.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Bulkheads for reads, writes and bulk operations.
+     */
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return new BulkheadRegistry(properties, meterRegistry);
+    }
+
+    /**
+     * Filter that sheds load early, before a request can wait on the connection pool.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(BulkheadRegistry bulkheadRegistry,
+                                                                                 ConcurrencyLimitProperties properties) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(bulkheadRegistry, properties));
+        registration.addUrlPatterns("/api/products/*", "/api/products");
+        // Run early, but after the metrics filter so shed requests still show up in http.server.requests
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
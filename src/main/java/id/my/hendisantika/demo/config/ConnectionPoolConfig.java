@@ -0,0 +1,85 @@
+package id.my.hendisantika.demo.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import id.my.hendisantika.demo.pool.ConnectionPoolAspect;
+import id.my.hendisantika.demo.pool.ConnectionPoolProperties;
+import id.my.hendisantika.demo.pool.WorkloadRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the workload-isolated connection pools; replaces the single auto-configured Hikari pool.
+ */
+@Configuration
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
+@ConditionalOnProperty(prefix = "app.connection-pools", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolConfig {
+
+    /**
+     * Settings shared by every pool, bound from {@code spring.datasource.hikari.*} like the auto-configured pool.
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariConfig sharedHikariConfig(DataSourceProperties dataSourceProperties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        return config;
+    }
+
+    /**
+     * One Hikari pool per workload behind a routing data source. Each pool reports its own {@code hikaricp.*}
+     * metrics, tagged with its name, and shows up in {@code pg_stat_activity} as {@code <application>/<pool>}.
+     */
+    @Bean
+    public WorkloadRoutingDataSource dataSource(HikariConfig sharedHikariConfig, ConnectionPoolProperties properties,
+                                                MeterRegistry meterRegistry,
+                                                @Value("${spring.application.name}") String applicationName) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        try {
+            properties.getPools().forEach((name, settings) -> {
+                HikariConfig config = new HikariConfig();
+                sharedHikariConfig.copyStateTo(config);
+                config.setPoolName(name);
+                config.addDataSourceProperty("ApplicationName", applicationName + "/" + name);
+                config.setMetricsTrackerFactory(metrics);
+                if (settings.getMaximumPoolSize() != null) {
+                    config.setMaximumPoolSize(settings.getMaximumPoolSize());
+                }
+                if (settings.getMinimumIdle() != null) {
+                    config.setMinimumIdle(settings.getMinimumIdle());
+                }
+                if (settings.getConnectionTimeout() != null) {
+                    config.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+                }
+                if (settings.getIdleTimeout() != null) {
+                    config.setIdleTimeout(settings.getIdleTimeout().toMillis());
+                }
+                pools.put(name, new HikariDataSource(config));
+            });
+            return new WorkloadRoutingDataSource(pools, properties.getDefaultPool());
+        } catch (RuntimeException e) {
+            pools.values().forEach(HikariDataSource::close);
+            throw e;
+        }
+    }
+
+    @Bean
+    public ConnectionPoolAspect connectionPoolAspect() {
+        return new ConnectionPoolAspect();
+    }
+}
@@ -0,0 +1,24 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.count.CountProperties;
+import id.my.hendisantika.demo.count.ProductCounter;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Configuration for the totals of paginated product listings.
+ */
+@Configuration
+@EnableConfigurationProperties(CountProperties.class)
+public class CountConfig {
+
+    @Bean
+    public ProductCounter productCounter(ProductRepository productRepository, JdbcTemplate jdbcTemplate,
+                                         CountProperties properties, MeterRegistry meterRegistry) {
+        return new ProductCounter(productRepository, jdbcTemplate, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.util.DatasetProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the synthetic product dataset loader.
+ */
+@Configuration
+@EnableConfigurationProperties(DatasetProperties.class)
+public class DatasetConfig {
+}
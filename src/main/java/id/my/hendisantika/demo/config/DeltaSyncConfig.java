@@ -0,0 +1,32 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.repository.ProductTombstoneRepository;
+import id.my.hendisantika.demo.sync.DeltaSyncProperties;
+import id.my.hendisantika.demo.sync.DeltaSyncService;
+import id.my.hendisantika.demo.sync.TombstoneWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for product tombstones and the delta-sync endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(DeltaSyncProperties.class)
+@ConditionalOnProperty(prefix = "app.delta-sync", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeltaSyncConfig {
+
+    @Bean
+    public TombstoneWriter tombstoneWriter(ProductTombstoneRepository tombstoneRepository) {
+        return new TombstoneWriter(tombstoneRepository);
+    }
+
+    @Bean
+    public DeltaSyncService deltaSyncService(ProductRepository productRepository,
+                                             ProductTombstoneRepository tombstoneRepository,
+                                             DeltaSyncProperties properties) {
+        return new DeltaSyncService(productRepository, tombstoneRepository, properties);
+    }
+}
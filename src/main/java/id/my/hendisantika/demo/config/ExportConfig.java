@@ -0,0 +1,32 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.export.ExportProperties;
+import id.my.hendisantika.demo.export.ProductExportService;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for Parquet exports of the catalog.
+ */
+@Configuration
+@EnableConfigurationProperties(ExportProperties.class)
+@ConditionalOnProperty(prefix = "app.export", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExportConfig {
+
+    @Bean
+    public ProductExportService productExportService(ProductRepository productRepository, EntityManager entityManager,
+                                                     @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransaction,
+                                                     @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor,
+                                                     ExportProperties properties, MeterRegistry meterRegistry) {
+        return new ProductExportService(productRepository, entityManager, readOnlyTransaction, taskExecutor,
+                properties, meterRegistry);
+    }
+}
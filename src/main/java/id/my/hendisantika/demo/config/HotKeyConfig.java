@@ -0,0 +1,29 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.hotkey.HotKeyProperties;
+import id.my.hendisantika.demo.hotkey.HotKeyTracker;
+import id.my.hendisantika.demo.hotkey.HotKeysEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for hot-key detection on the product caches.
+ */
+@Configuration
+@EnableConfigurationProperties(HotKeyProperties.class)
+@ConditionalOnProperty(prefix = "app.hot-keys", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyConfig {
+
+    @Bean
+    public HotKeyTracker hotKeyTracker(HotKeyProperties properties, MeterRegistry meterRegistry) {
+        return new HotKeyTracker(properties, meterRegistry);
+    }
+
+    @Bean
+    public HotKeysEndpoint hotKeysEndpoint(HotKeyTracker hotKeyTracker) {
+        return new HotKeysEndpoint(hotKeyTracker);
+    }
+}
@@ -0,0 +1,36 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.jfr.JfrEventStreamer;
+import id.my.hendisantika.demo.jfr.JfrProperties;
+import id.my.hendisantika.demo.jfr.PinnedStackAggregator;
+import id.my.hendisantika.demo.jfr.PinningEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for continuous JFR streaming of virtual-thread pinning, GC and contention events.
+ */
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+@ConditionalOnProperty(prefix = "app.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    public PinnedStackAggregator pinnedStackAggregator(JfrProperties properties) {
+        return new PinnedStackAggregator(properties.getMaxTrackedStacks());
+    }
+
+    @Bean
+    public JfrEventStreamer jfrEventStreamer(JfrProperties properties, MeterRegistry meterRegistry,
+                                             PinnedStackAggregator pinnedStackAggregator) {
+        return new JfrEventStreamer(properties, meterRegistry, pinnedStackAggregator);
+    }
+
+    @Bean
+    public PinningEndpoint pinningEndpoint(PinnedStackAggregator pinnedStackAggregator) {
+        return new PinningEndpoint(pinnedStackAggregator);
+    }
+}
@@ -0,0 +1,43 @@
+package id.my.hendisantika.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * Marks the springdoc beans lazy so that OpenAPI scanning and the Swagger UI are only initialized
+ * on the first request to {@code /api-docs} or {@code /swagger-ui}.
+ * <p>
+ * Handler mappings only need the bean types, so the springdoc endpoints stay mapped; their beans
+ * are created when the first request is dispatched to them.
+ */
+@Slf4j
+public class LazyOpenApiBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        int deferred = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (isSpringdoc(definition) && !definition.isLazyInit()) {
+                definition.setLazyInit(true);
+                deferred++;
+            }
+        }
+        log.debug("Deferred initialization of {} springdoc beans", deferred);
+    }
+
+    private static boolean isSpringdoc(BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null && definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            className = factoryMethod != null ? factoryMethod.getDeclaringClassName() : null;
+        }
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
@@ -0,0 +1,49 @@
+package id.my.hendisantika.demo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.metrics.RequestLayerTimingFilter;
+import id.my.hendisantika.demo.metrics.TimedMappingJackson2HttpMessageConverter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Configuration for latency metrics.
+ * Percentile histograms and SLO boundaries are set through {@code management.metrics.distribution.*}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Enables {@code @Timed} on service classes.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * JSON converter that reports serialization time to the request breakdown.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * Filter that records latency per endpoint with its cache, pool, SQL and serialization breakdown.
+     * Runs inside the SQL statement budget filter, whose statistics it reads.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestLayerTimingFilter> requestLayerTimingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestLayerTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestLayerTimingFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return registration;
+    }
+}
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,6 +17,15 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
 
+    /**
+     * Defers springdoc initialization until the API docs or Swagger UI are first requested.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.startup", name = "defer-openapi", havingValue = "true", matchIfMissing = true)
+    public static LazyOpenApiBeanFactoryPostProcessor lazyOpenApiBeanFactoryPostProcessor() {
+        return new LazyOpenApiBeanFactoryPostProcessor();
+    }
+
     /**
      * OpenAPI configuration bean.
      */
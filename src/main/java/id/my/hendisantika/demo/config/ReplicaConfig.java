@@ -0,0 +1,45 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.replica.ProductReplica;
+import id.my.hendisantika.demo.replica.ReplicaProductService;
+import id.my.hendisantika.demo.replica.ReplicaProperties;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.impl.ProductServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for the off-heap in-process product replica. Off unless enabled.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+public class ReplicaConfig {
+
+    @Bean
+    public ProductReplica productReplica(ProductRepository productRepository, JdbcTemplate jdbcTemplate,
+                                         @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransaction,
+                                         @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor,
+                                         ReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new ProductReplica(productRepository, jdbcTemplate, readOnlyTransaction, taskExecutor, properties,
+                meterRegistry);
+    }
+
+    /**
+     * Replaces the product service for everyone injecting {@code ProductService}.
+     */
+    @Bean
+    @Primary
+    public ReplicaProductService replicaProductService(ProductServiceImpl productService, ProductReplica productReplica,
+                                                       MeterRegistry meterRegistry) {
+        return new ReplicaProductService(productService, productReplica, meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package id.my.hendisantika.demo.config;
+
+import id.my.hendisantika.demo.sql.CountingStatementInspector;
+import id.my.hendisantika.demo.sql.JdbcTimingSessionListener;
+import id.my.hendisantika.demo.sql.SqlBudgetProperties;
+import id.my.hendisantika.demo.sql.SqlStatementBudgetFilter;
+import id.my.hendisantika.demo.sql.SqlStatisticsIntegrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Configuration for per-request SQL statistics and the statement budget.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlStatisticsConfig {
+
+    /**
+     * Hooks the statement inspector, JDBC timing listener and row counter into Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatisticsHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+            hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new SqlStatisticsIntegrator()));
+        };
+    }
+
+    /**
+     * Filter that scopes statistics to one request and publishes them per endpoint.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(SqlBudgetProperties properties,
+                                                                                     MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementBudgetFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
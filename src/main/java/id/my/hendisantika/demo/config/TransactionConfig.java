@@ -0,0 +1,35 @@
+package id.my.hendisantika.demo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for programmatic transactions.
+ */
+@Configuration
+public class TransactionConfig {
+
+    /**
+     * Read-write transactions for everyone injecting a {@code TransactionTemplate}. Declared here because Boot's
+     * own template backs off as soon as any other one exists.
+     */
+    @Bean
+    @Primary
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Read-only transactions for streaming reads of the catalog: the driver only keeps a cursor open, and so only
+     * honours the fetch size, inside a transaction.
+     */
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return readOnlyTransaction;
+    }
+}
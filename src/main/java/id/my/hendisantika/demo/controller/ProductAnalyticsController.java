@@ -0,0 +1,100 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.analytics.AnalyticsQuery;
+import id.my.hendisantika.demo.analytics.AnalyticsResult;
+import id.my.hendisantika.demo.analytics.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST controller for aggregate queries over the analytics snapshot.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products/analytics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductAnalyticsController {
+
+    private static final String GROUP_BY_CATEGORY = "category";
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Aggregate the products matching a filter.
+     */
+    @Operation(summary = "Aggregate products",
+            description = "Counts the matching products and computes average, minimum and maximum price, total stock, "
+                    + "stock value and price percentiles, over all matches or per category. Runs on an in-memory "
+                    + "snapshot refreshed every app.analytics.refresh-interval, not on the database.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aggregates computed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AnalyticsResult.class))),
+            @ApiResponse(responseCode = "400", description = "Inverted bounds, unknown groupBy or percentile out of range",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "The first snapshot is still being built", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<AnalyticsResult> aggregate(
+            @Parameter(description = "Categories to include (repeat or comma-separate); all when omitted")
+            @RequestParam(required = false) Set<String> category,
+            @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Minimum stock") @RequestParam(required = false) Integer minStock,
+            @Parameter(description = "Maximum stock") @RequestParam(required = false) Integer maxStock,
+            @Parameter(description = "Set to category to aggregate per category") @RequestParam(required = false) String groupBy,
+            @Parameter(description = "Price percentiles to compute", example = "50,90,99")
+            @RequestParam(required = false) List<Double> percentiles) {
+        log.debug("Aggregating products - category: {}, price: {}..{}, stock: {}..{}, groupBy: {}", category,
+                minPrice, maxPrice, minStock, maxStock, groupBy);
+        AnalyticsQuery query;
+        try {
+            if (groupBy != null && !GROUP_BY_CATEGORY.equals(groupBy)) {
+                throw new IllegalArgumentException("groupBy only supports " + GROUP_BY_CATEGORY);
+            }
+            query = new AnalyticsQuery(category, minPrice, maxPrice, minStock, maxStock, groupBy != null, percentiles);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejecting analytics query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return analyticsService.query(query)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * Rebuild the analytics snapshot now.
+     */
+    @Operation(summary = "Refresh the analytics snapshot",
+            description = "Starts reading a new snapshot from the database in the background; queries use the current "
+                    + "one until it is done")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Refresh started, or already running", content = @Content)
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<Void> refresh() {
+        boolean started = analyticsService.refresh();
+        log.debug("Analytics snapshot refresh requested, started: {}", started);
+        return ResponseEntity.accepted().build();
+    }
+}
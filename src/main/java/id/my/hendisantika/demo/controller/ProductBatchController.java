@@ -0,0 +1,61 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.batch.BatchOperation;
+import id.my.hendisantika.demo.batch.BatchResponse;
+import id.my.hendisantika.demo.batch.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for running several product reads in one request.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.batch", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductBatchController {
+
+    private final BatchService batchService;
+
+    /**
+     * Run a batch of product reads.
+     */
+    @Operation(summary = "Run a batch of product reads",
+            description = "Runs the given operations (PRODUCT, PRODUCT_BY_NAME, ALL_PRODUCTS, CATEGORY, "
+                    + "COUNT_BY_CATEGORY, PRICE_RANGE, LOW_STOCK) concurrently and returns the status and body each "
+                    + "matching endpoint would have answered with, in request order. Identical operations run once. "
+                    + "An operation that exceeds its timeoutMillis answers 504 without failing the batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch run",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty batch or too many operations", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> runBatch(
+            @Parameter(description = "Operations to run", required = true) @RequestBody List<BatchOperation> operations) {
+        log.debug("Running batch of {} operations", operations.size());
+        try {
+            return ResponseEntity.ok(batchService.execute(operations));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejecting batch of {} operations: {}", operations.size(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.bulkjob.BulkJobService;
+import id.my.hendisantika.demo.bulkjob.BulkJobStatus;
+import id.my.hendisantika.demo.model.Product;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * REST controller for asynchronous bulk create jobs.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products/bulk/jobs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.bulk-jobs", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductBulkJobController {
+
+    private final BulkJobService bulkJobService;
+
+    /**
+     * Submit a bulk create job.
+     */
+    @Operation(summary = "Submit a bulk create job",
+            description = "Queues the products to be saved in the background, one transaction per chunk. Returns the "
+                    + "job's status; poll the Location header for progress.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job accepted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkJobStatus.class))),
+            @ApiResponse(responseCode = "400", description = "No products, or more than app.bulk-jobs.max-items", content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<BulkJobStatus> submitBulkJob(
+            @Parameter(description = "List of product objects to be created", required = true) @RequestBody List<Product> products) {
+        log.debug("Submitting bulk job with {} products", products.size());
+        try {
+            BulkJobStatus status = bulkJobService.submit(products);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").build(status.id()))
+                    .body(status);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejecting bulk job: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get the progress of a bulk create job.
+     */
+    @Operation(summary = "Get bulk job status",
+            description = "Returns progress, throughput and failed chunks of a job submitted to this node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkJobStatus.class))),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired job", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<BulkJobStatus> getBulkJob(
+            @Parameter(description = "ID of the job", required = true) @PathVariable String id) {
+        return bulkJobService.status(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,53 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.changefeed.ChangeFeedRelay;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming product changes as Server-Sent Events.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.change-feed", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductChangeFeedController {
+
+    private final ChangeFeedRelay changeFeedRelay;
+
+    /**
+     * Stream product changes.
+     */
+    @Operation(summary = "Stream product changes",
+            description = "Streams product created, updated and deleted events as Server-Sent Events. The event id is the "
+                    + "change offset; reconnect with Last-Event-ID (or from) to resume without gaps. A reset event means "
+                    + "the requested offset is no longer retained and the client must reload its copy.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Change stream opened")
+    })
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @Parameter(description = "Offset to resume after; defaults to the current position")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "Offset of the last received event, sent by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long start = lastEventId != null ? lastEventId : from;
+        log.debug("Opening change stream from offset {}", start);
+        return changeFeedRelay.subscribe(start);
+    }
+}
@@ -1,5 +1,6 @@
 package id.my.hendisantika.demo.controller;
 
+import id.my.hendisantika.demo.count.CountMode;
 import id.my.hendisantika.demo.model.Product;
 import id.my.hendisantika.demo.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,8 +12,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -54,7 +55,7 @@ public class ProductController {
     @PostMapping
     public ResponseEntity<Product> createProduct(
             @Parameter(description = "Product object to be created", required = true) @RequestBody Product product) {
-        log.info("Creating new product: {}", product.getName());
+        log.debug("Creating new product: {}", product.getName());
         return ResponseEntity.status(HttpStatus.CREATED).body(productService.saveProduct(product));
     }
 
@@ -70,7 +71,7 @@ public class ProductController {
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(
             @Parameter(description = "ID of the product to retrieve", required = true) @PathVariable Long id) {
-        log.info("Fetching product with ID: {}", id);
+        log.debug("Fetching product with ID: {}", id);
         return productService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -88,7 +89,7 @@ public class ProductController {
     @GetMapping("/name/{name}")
     public ResponseEntity<Product> getProductByName(
             @Parameter(description = "Name of the product to retrieve", required = true) @PathVariable String name) {
-        log.info("Fetching product with name: {}", name);
+        log.debug("Fetching product with name: {}", name);
         return productService.findByName(name)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -97,37 +98,44 @@ public class ProductController {
     /**
      * Get all products with pagination.
      */
-    @Operation(summary = "Get all products", description = "Returns a paginated list of all products")
+    @Operation(summary = "Get all products", description = "Returns a paginated list of all products; "
+            + "the total is exact, estimated from planner statistics, cached, or left out as the count mode says")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Products retrieved successfully",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Slice.class)))
     })
     @GetMapping
-    public ResponseEntity<Page<Product>> getAllProducts(
+    public ResponseEntity<Slice<Product>> getAllProducts(
             @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Size of each page") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "Field to sort by") @RequestParam(defaultValue = "id") String sort) {
-        log.info("Fetching all products - page: {}, size: {}, sort: {}", page, size, sort);
+            @Parameter(description = "Field to sort by") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "How the total is obtained; NONE returns a slice without a total")
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
+        log.debug("Fetching all products - page: {}, size: {}, sort: {}, count: {}", page, size, sort, count);
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(sort));
-        return ResponseEntity.ok(productService.findAllProducts(pageRequest));
+        return ResponseEntity.ok(productService.findAllProducts(pageRequest, count));
     }
 
     /**
      * Get products by category with pagination.
      */
-    @Operation(summary = "Get products by category", description = "Returns a paginated list of products in the specified category")
+    @Operation(summary = "Get products by category", description = "Returns a paginated list of products in the "
+            + "specified category; the total is exact, estimated from planner statistics, cached, or left out as the "
+            + "count mode says")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Products retrieved successfully",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Slice.class)))
     })
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<Product>> getProductsByCategory(
+    public ResponseEntity<Slice<Product>> getProductsByCategory(
             @Parameter(description = "Category to filter by", required = true) @PathVariable String category,
             @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Size of each page") @RequestParam(defaultValue = "20") int size) {
-        log.info("Fetching products by category: {} - page: {}, size: {}", category, page, size);
+            @Parameter(description = "Size of each page") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "How the total is obtained; NONE returns a slice without a total")
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
+        log.debug("Fetching products by category: {} - page: {}, size: {}, count: {}", category, page, size, count);
         PageRequest pageRequest = PageRequest.of(page, size);
-        return ResponseEntity.ok(productService.findByCategory(category, pageRequest));
+        return ResponseEntity.ok(productService.findByCategory(category, pageRequest, count));
     }
 
     /**
@@ -142,7 +150,7 @@ public class ProductController {
     public ResponseEntity<List<Product>> getProductsByPriceRange(
             @Parameter(description = "Minimum price", required = true) @RequestParam BigDecimal min,
             @Parameter(description = "Maximum price", required = true) @RequestParam BigDecimal max) {
-        log.info("Fetching products by price range: {} - {}", min, max);
+        log.debug("Fetching products by price range: {} - {}", min, max);
         return ResponseEntity.ok(productService.findByPriceRange(min, max));
     }
 
@@ -157,7 +165,7 @@ public class ProductController {
     @GetMapping("/low-stock/{threshold}")
     public CompletableFuture<ResponseEntity<List<Product>>> getLowStockProducts(
             @Parameter(description = "Stock threshold", required = true) @PathVariable Integer threshold) {
-        log.info("Fetching low stock products with threshold: {}", threshold);
+        log.debug("Fetching low stock products with threshold: {}", threshold);
         return productService.findLowStockProductsAsync(threshold)
                 .thenApply(ResponseEntity::ok);
     }
@@ -175,7 +183,7 @@ public class ProductController {
     public ResponseEntity<Product> updateProductStock(
             @Parameter(description = "ID of the product to update", required = true) @PathVariable Long id,
             @Parameter(description = "New stock quantity", required = true) @PathVariable Integer stock) {
-        log.info("Updating stock for product ID: {} to {}", id, stock);
+        log.debug("Updating stock for product ID: {} to {}", id, stock);
         try {
             return ResponseEntity.ok(productService.updateStock(id, stock));
         } catch (RuntimeException e) {
@@ -195,7 +203,7 @@ public class ProductController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(
             @Parameter(description = "ID of the product to delete", required = true) @PathVariable Long id) {
-        log.info("Deleting product with ID: {}", id);
+        log.debug("Deleting product with ID: {}", id);
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
@@ -211,7 +219,7 @@ public class ProductController {
     @GetMapping("/count/category/{category}")
     public ResponseEntity<Long> countProductsByCategory(
             @Parameter(description = "Category to count products for", required = true) @PathVariable String category) {
-        log.info("Counting products by category: {}", category);
+        log.debug("Counting products by category: {}", category);
         return ResponseEntity.ok(productService.countByCategory(category));
     }
 
@@ -227,7 +235,7 @@ public class ProductController {
     @PostMapping("/bulk")
     public ResponseEntity<List<Product>> createProductsBulk(
             @Parameter(description = "List of product objects to be created", required = true) @RequestBody List<Product> products) {
-        log.info("Bulk creating {} products", products.size());
+        log.debug("Bulk creating {} products", products.size());
         return ResponseEntity.status(HttpStatus.CREATED).body(productService.saveAllProducts(products));
     }
 }
@@ -0,0 +1,78 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.export.ExportStatus;
+import id.my.hendisantika.demo.export.ProductExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST controller for Parquet exports of the catalog.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products/export")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.export", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductExportController {
+
+    private final ProductExportService productExportService;
+
+    /**
+     * Start an export.
+     */
+    @Operation(summary = "Export products to Parquet",
+            description = "Writes every product to a Parquet file in app.export.directory in the background. Returns "
+                    + "the export's status; poll the Location header for progress.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Export started",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExportStatus.class))),
+            @ApiResponse(responseCode = "409", description = "An export is already running", content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<ExportStatus> startExport() {
+        try {
+            ExportStatus status = productExportService.start();
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").build(status.id()))
+                    .body(status);
+        } catch (IllegalStateException e) {
+            log.debug("Rejecting export: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Get the progress of an export.
+     */
+    @Operation(summary = "Get export status",
+            description = "Returns the rows written, throughput and file of an export started on this node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExportStatus.class))),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired export", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportStatus> getExport(
+            @Parameter(description = "ID of the export", required = true) @PathVariable String id) {
+        return productExportService.status(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
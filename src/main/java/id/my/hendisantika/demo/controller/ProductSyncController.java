@@ -0,0 +1,64 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.sync.DeltaSyncPage;
+import id.my.hendisantika.demo.sync.DeltaSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for incremental product sync.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.delta-sync", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductSyncController {
+
+    private final DeltaSyncService deltaSyncService;
+
+    /**
+     * Get products changed or deleted since a cursor.
+     */
+    @Operation(summary = "Sync product changes",
+            description = "Returns products changed and deleted after the given cursor (or time), in keyset pages. Repeat "
+                    + "with the returned cursor while hasMore is true and keep the last cursor for the next sync. Without "
+                    + "a cursor, or when it is older than the tombstone retention, reset is true and the pages list the "
+                    + "whole catalog.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = DeltaSyncPage.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor", content = @Content)
+    })
+    @GetMapping("/sync")
+    public ResponseEntity<DeltaSyncPage> sync(
+            @Parameter(description = "Cursor returned by the previous sync") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Return changes after this time when no cursor is given", example = "2023-06-16T15:45:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Maximum products and deletions per page") @RequestParam(required = false) Integer limit) {
+        log.debug("Syncing products - cursor: {}, since: {}, limit: {}", cursor, since, limit);
+        try {
+            return ResponseEntity.ok(deltaSyncService.sync(cursor, since, limit));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejecting sync cursor {}", cursor, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package id.my.hendisantika.demo.controller;
+
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.upsert.BulkUpsertResult;
+import id.my.hendisantika.demo.upsert.ProductUpsertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for SKU-keyed bulk upserts.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.bulk-upsert", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Product", description = "Product management APIs")
+public class ProductUpsertController {
+
+    private final ProductUpsertService productUpsertService;
+
+    /**
+     * Bulk upsert products by SKU.
+     */
+    @Operation(summary = "Bulk upsert products by SKU",
+            description = "Inserts products with a new SKU and updates those whose SKU exists. Products equal to the "
+                    + "stored ones are left untouched. Returns the outcome of every item (INSERTED, UPDATED, UNCHANGED "
+                    + "or REJECTED with a reason) in request order; valid items are applied together or not at all.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products upserted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkUpsertResult.class))),
+            @ApiResponse(responseCode = "400", description = "Too many products in one request", content = @Content)
+    })
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkUpsertResult> upsertProductsBulk(
+            @Parameter(description = "Products to insert or update, each with a SKU", required = true) @RequestBody List<Product> products) {
+        log.debug("Bulk upserting {} products", products.size());
+        try {
+            return ResponseEntity.ok(productUpsertService.upsert(products));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejecting bulk upsert of {} products: {}", products.size(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package id.my.hendisantika.demo.count;
+
+/**
+ * How the total of a paginated product listing is obtained.
+ */
+public enum CountMode {
+
+    /**
+     * {@code count(*)} over the matching rows for every page but the last.
+     */
+    EXACT,
+
+    /**
+     * The planner's row estimate from the table statistics; small estimates are counted exactly.
+     */
+    ESTIMATED,
+
+    /**
+     * An exact count kept per node and adjusted as products are created and deleted, recounted once it is
+     * {@code app.count.cached-max-age} old.
+     */
+    CACHED,
+
+    /**
+     * No total: a slice that only tells whether another page follows.
+     */
+    NONE;
+
+    /**
+     * Suffix telling list cache entries of this mode apart; exact pages keep the keys they always had.
+     */
+    public String cacheKeySuffix() {
+        return this == EXACT ? "" : "_" + name();
+    }
+}
@@ -0,0 +1,30 @@
+package id.my.hendisantika.demo.count;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the totals of paginated product listings.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.count")
+public class CountProperties {
+
+    /**
+     * Estimates below this are replaced by an exact count, which is cheap at that size and avoids the planner's
+     * largest relative errors.
+     */
+    private long exactThreshold = 10_000;
+
+    /**
+     * Age at which a cached total is counted again, picking up changes made on other nodes.
+     */
+    private Duration cachedMaxAge = Duration.ofMinutes(1);
+
+    /**
+     * Most totals cached at once; one per category plus one for all products.
+     */
+    private long maxCachedTotals = 10_000;
+}
@@ -0,0 +1,162 @@
+package id.my.hendisantika.demo.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Totals of product listings, all products or one category, in every {@link CountMode} that has one.
+ * <p>
+ * Estimates are the row estimate of the listing's query as planned from the statistics {@code ANALYZE} keeps, so
+ * they cost one planning round trip whatever the table size. Cached totals are counted exactly, then adjusted for
+ * the creates and deletes committed on this node. A total counted while a change commits may be off by that change,
+ * and products moved between categories by an update are not seen; both are corrected when the total is counted
+ * again after {@code cached-max-age}, as are changes made on other nodes.
+ */
+@Slf4j
+public class ProductCounter {
+
+    private static final String ESTIMATE_ALL_SQL = "EXPLAIN SELECT 1 FROM products";
+    private static final String ESTIMATE_CATEGORY_SQL = "EXPLAIN SELECT 1 FROM products WHERE category = ?";
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    /**
+     * Key of a cached total; a {@code null} category stands for all products.
+     */
+    private record Scope(String category) {
+    }
+
+    private record CachedTotal(long total, long countedAt) {
+
+        CachedTotal plus(long delta) {
+            return new CachedTotal(Math.max(0, total + delta), countedAt);
+        }
+    }
+
+    private static final Scope ALL = new Scope(null);
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CountProperties properties;
+    private final Cache<Scope, CachedTotal> cachedTotals;
+    private final Counter planned;
+    private final Counter counted;
+    private final Counter cached;
+
+    public ProductCounter(ProductRepository productRepository, JdbcTemplate jdbcTemplate, CountProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.cachedTotals = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedTotals())
+                .build();
+        this.planned = totals("planner", meterRegistry);
+        this.counted = totals("count", meterRegistry);
+        this.cached = totals("cache", meterRegistry);
+    }
+
+    /**
+     * Total of the listing of the given category, or of all products when the category is {@code null}.
+     */
+    public long count(String category, CountMode mode) {
+        return switch (mode) {
+            case EXACT -> exact(category);
+            case ESTIMATED -> estimated(category);
+            case CACHED -> cached(category);
+            case NONE -> throw new IllegalArgumentException("Count mode NONE has no total");
+        };
+    }
+
+    /**
+     * Forget every cached total, e.g. after changes that may have been missed.
+     */
+    public void clear() {
+        cachedTotals.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChange(ProductChangeEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                adjust(ALL, 1);
+                if (event.category() != null) {
+                    adjust(new Scope(event.category()), 1);
+                } else {
+                    forgetCategories();
+                }
+            }
+            case DELETED -> {
+                adjust(ALL, -1);
+                // The category of a product deleted by id is unknown
+                forgetCategories();
+            }
+            case UPDATED -> {
+                // A null category means the update changed it
+                if (event.category() == null) {
+                    forgetCategories();
+                }
+            }
+        }
+    }
+
+    private long exact(String category) {
+        counted.increment();
+        return category == null ? productRepository.count() : productRepository.countByCategory(category);
+    }
+
+    private long estimated(String category) {
+        String plan = category == null
+                ? jdbcTemplate.query(ESTIMATE_ALL_SQL, resultSet -> resultSet.next() ? resultSet.getString(1) : null)
+                : jdbcTemplate.query(ESTIMATE_CATEGORY_SQL,
+                        resultSet -> resultSet.next() ? resultSet.getString(1) : null, category);
+        // The first line is the plan's top node: its row estimate is the estimate for the whole query
+        Matcher rows = PLAN_ROWS.matcher(plan == null ? "" : plan);
+        if (!rows.find()) {
+            log.warn("No row estimate in plan '{}', counting exactly", plan);
+            return exact(category);
+        }
+        long estimate = Long.parseLong(rows.group(1));
+        if (estimate < properties.getExactThreshold()) {
+            return exact(category);
+        }
+        planned.increment();
+        return estimate;
+    }
+
+    private long cached(String category) {
+        Scope scope = new Scope(category);
+        CachedTotal total = cachedTotals.getIfPresent(scope);
+        if (total != null && System.nanoTime() - total.countedAt() < properties.getCachedMaxAge().toNanos()) {
+            cached.increment();
+            return total.total();
+        }
+        long count = exact(category);
+        cachedTotals.put(scope, new CachedTotal(count, System.nanoTime()));
+        return count;
+    }
+
+    private void adjust(Scope scope, long delta) {
+        cachedTotals.asMap().computeIfPresent(scope, (key, total) -> total.plus(delta));
+    }
+
+    private void forgetCategories() {
+        cachedTotals.asMap().keySet().removeIf(scope -> scope.category() != null);
+    }
+
+    private static Counter totals(String source, MeterRegistry meterRegistry) {
+        return Counter.builder("product.page.totals")
+                .description("Totals of paginated product listings, by where they came from")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
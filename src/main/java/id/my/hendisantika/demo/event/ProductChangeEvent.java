@@ -0,0 +1,33 @@
+package id.my.hendisantika.demo.event;
+
+import id.my.hendisantika.demo.model.Product;
+
+/**
+ * Published by the product service whenever a product is created, updated or deleted.
+ * <p>
+ * Published inside the service transaction; listeners that must only see committed changes use
+ * {@code @TransactionalEventListener}. Name and category are {@code null} when unknown (deletes by id).
+ * {@code cachesEvicted} is set when the publisher evicts this node's product caches itself, more precisely than the
+ * event allows.
+ */
+public record ProductChangeEvent(ChangeType type, Long productId, String name, String category, boolean cachesEvicted) {
+
+    public ProductChangeEvent(ChangeType type, Long productId, String name, String category) {
+        this(type, productId, name, category, false);
+    }
+
+    /**
+     * Kind of change.
+     */
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ProductChangeEvent of(ChangeType type, Product product) {
+        return new ProductChangeEvent(type, product.getId(), product.getName(), product.getCategory());
+    }
+
+    public static ProductChangeEvent deleted(Long productId) {
+        return new ProductChangeEvent(ChangeType.DELETED, productId, null, null);
+    }
+}
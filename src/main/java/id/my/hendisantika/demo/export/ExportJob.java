@@ -0,0 +1,62 @@
+package id.my.hendisantika.demo.export;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Progress of one export, updated by the thread writing it.
+ */
+class ExportJob {
+
+    private final String id;
+    private final Path file;
+    private final Instant startedAt;
+    private volatile long rows;
+    private volatile long bytes;
+    private volatile ExportState state = ExportState.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ExportJob(String id, Path file, Instant startedAt) {
+        this.id = id;
+        this.file = file;
+        this.startedAt = startedAt;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    void progress(long rowsWritten) {
+        rows = rowsWritten;
+    }
+
+    void completed(long rowsWritten, long fileSize, Instant now) {
+        rows = rowsWritten;
+        bytes = fileSize;
+        state = ExportState.COMPLETED;
+        finishedAt = now;
+    }
+
+    void failed(String message, Instant now) {
+        error = message;
+        state = ExportState.FAILED;
+        finishedAt = now;
+    }
+
+    ExportStatus status(Instant now) {
+        Instant end = finishedAt != null ? finishedAt : now;
+        long millis = Duration.between(startedAt, end).toMillis();
+        double rowsPerSecond = millis > 0 ? rows * 1000.0 / millis : 0;
+        return new ExportStatus(id, state, file.toString(), rows, bytes, rowsPerSecond, startedAt, finishedAt, error);
+    }
+}
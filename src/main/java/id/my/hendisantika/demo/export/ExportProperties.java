@@ -0,0 +1,40 @@
+package id.my.hendisantika.demo.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for Parquet exports of the catalog.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * Whether exports can be started through {@code /api/products/export}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory the export files are written to.
+     */
+    private String directory = "exports";
+
+    /**
+     * Target size of a Parquet row group. The rows of one group are held in memory while it is written.
+     */
+    private DataSize rowGroupSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Whether pages are compressed with GZIP.
+     */
+    private boolean gzip = true;
+
+    /**
+     * How long the status of a finished export is kept. The file itself is never removed.
+     */
+    private Duration retention = Duration.ofHours(24);
+}
@@ -0,0 +1,8 @@
+package id.my.hendisantika.demo.export;
+
+/**
+ * Lifecycle of an export.
+ */
+public enum ExportState {
+    RUNNING, COMPLETED, FAILED
+}
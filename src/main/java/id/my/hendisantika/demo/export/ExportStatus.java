@@ -0,0 +1,15 @@
+package id.my.hendisantika.demo.export;
+
+import java.time.Instant;
+
+/**
+ * Progress of an export at the time it was read.
+ *
+ * @param file          the file being written; it only appears under this name once the export completed
+ * @param rows          products written so far
+ * @param bytes         size of the file, known once it completed
+ * @param rowsPerSecond products written per second since the export started
+ */
+public record ExportStatus(String id, ExportState state, String file, long rows, long bytes, double rowsPerSecond,
+                           Instant startedAt, Instant finishedAt, String error) {
+}
@@ -0,0 +1,160 @@
+package id.my.hendisantika.demo.export;
+
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.pool.ConnectionPool;
+import id.my.hendisantika.demo.pool.ConnectionPoolContext;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Exports the catalog to Parquet files in the background, one export at a time.
+ * <p>
+ * Products are streamed through a database cursor inside a read-only transaction and written a row group at a
+ * time; the persistence context is cleared as the export goes, so memory stays bounded by the row group size
+ * whatever the size of the catalog. The file is written under a temporary name and renamed when complete.
+ */
+@Slf4j
+public class ProductExportService {
+
+    private static final int PROGRESS_INTERVAL = 1_000;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AsyncTaskExecutor taskExecutor;
+    private final ExportProperties properties;
+    private final Counter exportedRows;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ProductExportService(ProductRepository productRepository, EntityManager entityManager,
+                                TransactionTemplate readOnlyTransaction, AsyncTaskExecutor taskExecutor,
+                                ExportProperties properties, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+        this.exportedRows = Counter.builder("product.export.rows")
+                .description("Products written to export files")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start an export.
+     *
+     * @throws IllegalStateException when an export is already running
+     */
+    public ExportStatus start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("An export is already running");
+        }
+        Instant now = Instant.now();
+        String id = UUID.randomUUID().toString();
+        String name = "products-" + FILE_TIMESTAMP.format(LocalDateTime.now()) + "-" + id.substring(0, 8) + ".parquet";
+        ExportJob job = new ExportJob(id, Path.of(properties.getDirectory()).toAbsolutePath().resolve(name), now);
+        jobs.put(id, job);
+        try {
+            taskExecutor.execute(() -> ConnectionPoolContext.run(ConnectionPool.REPORTING, () -> run(job)));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return job.status(now);
+    }
+
+    public Optional<ExportStatus> status(String exportId) {
+        return Optional.ofNullable(jobs.get(exportId)).map(job -> job.status(Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.export.cleanup-interval:10m}")
+    public void cleanup() {
+        Instant expired = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(expired));
+    }
+
+    private void run(ExportJob job) {
+        Path file = job.getFile();
+        Path temp = null;
+        long rows;
+        long bytes;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (ProductParquetWriter writer = new ProductParquetWriter(temp, properties.getRowGroupSize().toBytes(),
+                    properties.isGzip())) {
+                readOnlyTransaction.executeWithoutResult(status -> writeAll(writer, job));
+                writer.close();
+                rows = writer.rows();
+            }
+            bytes = Files.size(temp);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            String error = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            log.warn("Export {} to {} failed: {}", job.getId(), file, error, e);
+            deleteQuietly(temp);
+            // Released before the job reports finished, so a client seeing it finished can start the next one
+            running.set(false);
+            job.failed(error, Instant.now());
+            return;
+        }
+        running.set(false);
+        job.completed(rows, bytes, Instant.now());
+        log.info("Exported {} products to {} ({} bytes) at {} products/s", rows, file, bytes,
+                Math.round(job.status(Instant.now()).rowsPerSecond()));
+    }
+
+    private void writeAll(ProductParquetWriter writer, ExportJob job) {
+        try (Stream<Product> products = productRepository.streamAll()) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (writer.rows() % PROGRESS_INTERVAL == 0) {
+                    // Written products are not needed again
+                    entityManager.clear();
+                    job.progress(writer.rows());
+                    exportedRows.increment(PROGRESS_INTERVAL);
+                }
+            }
+            exportedRows.increment(writer.rows() % PROGRESS_INTERVAL);
+            job.progress(writer.rows());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", temp, e);
+        }
+    }
+}
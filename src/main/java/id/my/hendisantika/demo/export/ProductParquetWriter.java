@@ -0,0 +1,191 @@
+package id.my.hendisantika.demo.export;
+
+import id.my.hendisantika.demo.model.Product;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.LocalOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes products as a Parquet file with parquet-java, holding at most one row group in memory.
+ * <p>
+ * The schema is flat: {@code id} (int64), {@code sku}, {@code name}, {@code description} and {@code category}
+ * (UTF-8 strings), {@code price} (decimal(38, 2) in 16 bytes), {@code stock} (int32) and {@code created_at},
+ * {@code updated_at} (local timestamps in microseconds); every column but {@code id} is optional. Only
+ * {@code category} is dictionary encoded. Pages are optionally compressed with GZIP.
+ */
+public class ProductParquetWriter implements Closeable {
+
+    private static final int PRICE_BYTES = 16;
+    private static final int PRICE_PRECISION = 38;
+    private static final int PRICE_SCALE = 2;
+
+    static final MessageType SCHEMA = Types.buildMessage()
+            .required(PrimitiveTypeName.INT64).named("id")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("sku")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("name")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("description")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("category")
+            .optional(PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY).length(PRICE_BYTES)
+            .as(LogicalTypeAnnotation.decimalType(PRICE_SCALE, PRICE_PRECISION)).named("price")
+            .optional(PrimitiveTypeName.INT32).named("stock")
+            .optional(PrimitiveTypeName.INT64)
+            .as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MICROS)).named("created_at")
+            .optional(PrimitiveTypeName.INT64)
+            .as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MICROS)).named("updated_at")
+            .named("product");
+
+    private final ParquetWriter<Product> writer;
+    private long rows;
+
+    /**
+     * @param file         receives the file; an existing file is overwritten
+     * @param rowGroupSize target size of a row group in bytes, which bounds the memory held
+     * @param gzip         whether pages are GZIP compressed
+     */
+    public ProductParquetWriter(Path file, long rowGroupSize, boolean gzip) throws IOException {
+        this.writer = new Builder(new LocalOutputFile(file))
+                // Keeps Hadoop's configuration and file system out; only the codecs still come from Hadoop
+                .withConf(new PlainParquetConfiguration())
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .withRowGroupSize(rowGroupSize)
+                .withCompressionCodec(gzip ? CompressionCodecName.GZIP : CompressionCodecName.UNCOMPRESSED)
+                .withDictionaryEncoding(false)
+                .withDictionaryEncoding("category", true)
+                .build();
+    }
+
+    public void write(Product product) throws IOException {
+        writer.write(product);
+        rows++;
+    }
+
+    /**
+     * Rows written so far, including those not yet flushed.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Write the buffered rows and the footer, then close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static final class Builder extends ParquetWriter.Builder<Product, Builder> {
+
+        private Builder(OutputFile file) {
+            super(file);
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<Product> getWriteSupport(Configuration conf) {
+            return new ProductWriteSupport();
+        }
+
+        @Override
+        protected WriteSupport<Product> getWriteSupport(ParquetConfiguration conf) {
+            return new ProductWriteSupport();
+        }
+    }
+
+    private static final class ProductWriteSupport extends WriteSupport<Product> {
+
+        private RecordConsumer consumer;
+
+        @Override
+        public WriteContext init(Configuration configuration) {
+            return new WriteContext(SCHEMA, Map.of());
+        }
+
+        @Override
+        public WriteContext init(ParquetConfiguration configuration) {
+            return new WriteContext(SCHEMA, Map.of());
+        }
+
+        @Override
+        public void prepareForWrite(RecordConsumer recordConsumer) {
+            this.consumer = recordConsumer;
+        }
+
+        @Override
+        public void write(Product product) {
+            consumer.startMessage();
+            field(0, "id", product.getId(), consumer::addLong);
+            string(1, "sku", product.getSku());
+            string(2, "name", product.getName());
+            string(3, "description", product.getDescription());
+            string(4, "category", product.getCategory());
+            field(5, "price", product.getPrice(), price -> consumer.addBinary(decimal(price)));
+            field(6, "stock", product.getStock(), consumer::addInteger);
+            field(7, "created_at", micros(product.getCreatedAt()), consumer::addLong);
+            field(8, "updated_at", micros(product.getUpdatedAt()), consumer::addLong);
+            consumer.endMessage();
+        }
+
+        private void string(int index, String name, String value) {
+            field(index, name, value, text -> consumer.addBinary(Binary.fromString(text)));
+        }
+
+        /**
+         * Write a field unless its value is {@code null}, which Parquet stores as an absent optional field.
+         */
+        private <T> void field(int index, String name, T value, Consumer<T> add) {
+            if (value == null) {
+                return;
+            }
+            consumer.startField(name, index);
+            add.accept(value);
+            consumer.endField(name, index);
+        }
+    }
+
+    /**
+     * The unscaled value in two's complement, big-endian and sign-extended to the column width.
+     */
+    private static Binary decimal(BigDecimal value) {
+        byte[] unscaled = value.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().toByteArray();
+        if (unscaled.length > PRICE_BYTES) {
+            throw new IllegalArgumentException("Price " + value + " exceeds " + PRICE_PRECISION + " digits");
+        }
+        byte[] bytes = new byte[PRICE_BYTES];
+        Arrays.fill(bytes, 0, PRICE_BYTES - unscaled.length, (byte) (unscaled[0] < 0 ? -1 : 0));
+        System.arraycopy(unscaled, 0, bytes, PRICE_BYTES - unscaled.length, unscaled.length);
+        return Binary.fromConstantByteArray(bytes);
+    }
+
+    private static Long micros(LocalDateTime value) {
+        return value == null ? null
+                : value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+}
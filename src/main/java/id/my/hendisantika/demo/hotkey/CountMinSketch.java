@@ -0,0 +1,85 @@
+package id.my.hendisantika.demo.hotkey;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free count-min sketch: an approximate frequency table of fixed size.
+ * <p>
+ * Every key increments one counter in each of {@code depth} rows; its estimate is the smallest of those counters.
+ * Estimates are never below the true count and exceed it by at most {@code e / width} of all increments with
+ * probability {@code 1 - e^-depth}.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     * @param depth number of rows
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Width and depth must be positive");
+        }
+        int size = Integer.highestOneBit(width);
+        this.width = size < width ? size << 1 : size;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new AtomicIntegerArray(this.width * depth);
+    }
+
+    /**
+     * Count one occurrence of the key.
+     *
+     * @return the estimated count of the key including this occurrence
+     */
+    public int add(Object key) {
+        long hash = hash(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimated number of occurrences of the key.
+     */
+    public int estimate(Object key) {
+        long hash = hash(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Reset every counter. Occurrences counted concurrently may survive the reset.
+     */
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    int width() {
+        return width;
+    }
+
+    private int index(long hash, int row) {
+        // Double hashing derives the row hashes from the two halves of one 64-bit hash
+        int rowHash = (int) hash + row * (int) (hash >>> 32);
+        return row * width + (rowHash & mask);
+    }
+
+    private static long hash(Object key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,121 @@
+package id.my.hendisantika.demo.hotkey;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Most frequent keys of one cache over a sliding window.
+ * <p>
+ * The window is a ring of count-min sketches, one per {@link #rotate() rotation} interval; the oldest is cleared as
+ * the ring advances. Alongside the sketches a bounded set of candidate keys is kept: any key while the set has
+ * room, afterwards only keys counted at least as often in the current interval as the weakest key kept at the last
+ * rotation. Recording is lock-free; ranking happens once per rotation.
+ */
+public class HeavyHitters {
+
+    private final CountMinSketch[] buckets;
+    private final int topK;
+    private final int capacity;
+    private final long minHotCount;
+    private final Set<Object> candidates = ConcurrentHashMap.newKeySet();
+    private volatile int current;
+    private volatile int admissionThreshold = 1;
+    private volatile List<HotKey> top = List.of();
+    private volatile Set<Object> hot = Set.of();
+
+    /**
+     * @param buckets     intervals in the window
+     * @param width       counters per row of each sketch
+     * @param depth       rows of each sketch
+     * @param topK        keys ranked at every rotation
+     * @param minHotCount lookups within the window a ranked key needs to count as hot
+     */
+    public HeavyHitters(int buckets, int width, int depth, int topK, long minHotCount) {
+        if (buckets < 1 || topK < 1) {
+            throw new IllegalArgumentException("Buckets and top-K must be positive");
+        }
+        this.buckets = new CountMinSketch[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new CountMinSketch(width, depth);
+        }
+        this.topK = topK;
+        // Keeps keys ranked just below the top around, so a key rising into the top is not missed
+        this.capacity = topK * 4;
+        this.minHotCount = minHotCount;
+    }
+
+    /**
+     * Count one lookup of the key.
+     */
+    public void record(Object key) {
+        int count = buckets[current].add(key);
+        int size = candidates.size();
+        if (size < capacity || (count >= admissionThreshold && size < capacity * 2)) {
+            candidates.add(key);
+        }
+    }
+
+    /**
+     * Estimated lookups of the key within the window.
+     */
+    public long estimate(Object key) {
+        long count = 0;
+        for (CountMinSketch bucket : buckets) {
+            count += bucket.estimate(key);
+        }
+        return count;
+    }
+
+    /**
+     * Rank the candidates over the window ending now, then start the next interval.
+     */
+    public void rotate() {
+        Map<Object, Long> counts = candidates.stream()
+                .collect(Collectors.toMap(key -> key, this::estimate, (a, b) -> a));
+        List<Map.Entry<Object, Long>> ranked = counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Object, Long>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+        List<Map.Entry<Object, Long>> kept = ranked.subList(0, Math.min(capacity, ranked.size()));
+        candidates.retainAll(kept.stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+
+        List<Map.Entry<Object, Long>> ranking = kept.subList(0, Math.min(topK, kept.size()));
+        top = ranking.stream().map(entry -> new HotKey(String.valueOf(entry.getKey()), entry.getValue())).toList();
+        hot = ranking.stream()
+                .filter(entry -> entry.getValue() >= minHotCount)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+        admissionThreshold = kept.size() < capacity
+                ? 1
+                : (int) Math.max(1, Math.min(Integer.MAX_VALUE, kept.get(kept.size() - 1).getValue() / buckets.length));
+
+        int next = (current + 1) % buckets.length;
+        buckets[next].clear();
+        current = next;
+    }
+
+    /**
+     * Keys ranked at the last rotation, most frequent first.
+     */
+    public List<HotKey> top() {
+        return top;
+    }
+
+    /**
+     * Whether the key was ranked at the last rotation with at least {@code minHotCount} lookups.
+     */
+    public boolean isHot(Object key) {
+        return hot.contains(key);
+    }
+
+    /**
+     * Number of keys that are hot.
+     */
+    public int hotCount() {
+        return hot.size();
+    }
+}
@@ -0,0 +1,7 @@
+package id.my.hendisantika.demo.hotkey;
+
+/**
+ * A frequently requested cache key and its estimated number of lookups within the window.
+ */
+public record HotKey(String key, long count) {
+}
@@ -0,0 +1,64 @@
+package id.my.hendisantika.demo.hotkey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * Expires cache entries a fixed time after they are written, except that every lookup of a hot key extends its
+ * life to at least {@code hotTtl}, but never past {@code hotMaxAge} after it was written. The cap bounds how long a
+ * hot entry made stale by a write that did not evict it can be served.
+ */
+public class HotKeyExpiry implements Expiry<Object, Object> {
+
+    private final String cacheName;
+    private final HotKeyTracker tracker;
+    private final long ttlNanos;
+    private final long hotTtlNanos;
+    private final long hotMaxAgeNanos;
+    /**
+     * Write time of each entry, in the cache's ticker. Bounded like the cache itself; a key missing here is not
+     * extended.
+     */
+    private final Cache<Object, Long> writtenAt;
+
+    public HotKeyExpiry(String cacheName, HotKeyTracker tracker, Duration ttl, Duration hotTtl, Duration hotMaxAge,
+                        long maximumSize) {
+        this.cacheName = cacheName;
+        this.tracker = tracker;
+        this.ttlNanos = ttl.toNanos();
+        this.hotTtlNanos = hotTtl.toNanos();
+        this.hotMaxAgeNanos = hotMaxAge.toNanos();
+        this.writtenAt = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(hotMaxAge)
+                .build();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        writtenAt.put(key, currentTime);
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        writtenAt.put(key, currentTime);
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        if (currentDuration >= hotTtlNanos || !tracker.isHot(cacheName, key)) {
+            return currentDuration;
+        }
+        Long written = writtenAt.getIfPresent(key);
+        if (written == null) {
+            return currentDuration;
+        }
+        long untilMaxAge = written + hotMaxAgeNanos - currentTime;
+        return Math.max(currentDuration, Math.min(hotTtlNanos, untilMaxAge));
+    }
+}
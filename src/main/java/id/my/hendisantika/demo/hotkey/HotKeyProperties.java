@@ -0,0 +1,59 @@
+package id.my.hendisantika.demo.hotkey;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for hot-key detection on the product caches.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.hot-keys")
+public class HotKeyProperties {
+
+    /**
+     * Whether cache lookups are counted and hot keys kept longer.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Length of one interval of the sliding window; the window spans {@code buckets} intervals.
+     */
+    private Duration rotateInterval = Duration.ofSeconds(10);
+
+    /**
+     * Intervals in the sliding window.
+     */
+    private int buckets = 6;
+
+    /**
+     * Counters per row of each count-min sketch; estimates overshoot by about {@code 2.7 / width} of all lookups.
+     */
+    private int width = 8192;
+
+    /**
+     * Rows of each count-min sketch.
+     */
+    private int depth = 4;
+
+    /**
+     * Keys ranked per cache, reported at {@code /actuator/hotkeys}.
+     */
+    private int topK = 20;
+
+    /**
+     * Lookups within the window a ranked key needs to be hot.
+     */
+    private long minHotCount = 50;
+
+    /**
+     * Time a hot key stays cached after each lookup, instead of expiring with the other entries.
+     */
+    private Duration hotTtl = Duration.ofMinutes(30);
+
+    /**
+     * Longest a hot key stays cached after it was written, however often it is looked up.
+     */
+    private Duration hotMaxAge = Duration.ofHours(1);
+}
@@ -0,0 +1,82 @@
+package id.my.hendisantika.demo.hotkey;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the lookups of every product cache and ranks their most frequent keys over a sliding window.
+ * Every {@code @Cacheable} read of {@code ProductService} is a lookup, hit or miss, under its exact cache key.
+ */
+public class HotKeyTracker {
+
+    private final HotKeyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HeavyHitters> caches = new ConcurrentHashMap<>();
+
+    public HotKeyTracker(HotKeyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Count one lookup of a key of the given cache.
+     */
+    public void record(String cacheName, Object key) {
+        caches.computeIfAbsent(cacheName, this::register).record(key);
+    }
+
+    /**
+     * Whether the key is among the most frequent of its cache.
+     */
+    public boolean isHot(String cacheName, Object key) {
+        HeavyHitters heavyHitters = caches.get(cacheName);
+        return heavyHitters != null && heavyHitters.isHot(key);
+    }
+
+    /**
+     * Most frequent keys per cache as of the last rotation.
+     */
+    public Map<String, List<HotKey>> top(int limit) {
+        Map<String, List<HotKey>> top = new TreeMap<>();
+        caches.forEach((name, heavyHitters) ->
+                top.put(name, heavyHitters.top().stream().limit(limit).toList()));
+        return top;
+    }
+
+    /**
+     * Expiry for the given cache that keeps its hot keys for {@code app.hot-keys.hot-ttl}, up to
+     * {@code app.hot-keys.hot-max-age} after they were written.
+     */
+    public HotKeyExpiry expiry(String cacheName, Duration ttl, long maximumSize) {
+        return new HotKeyExpiry(cacheName, this, ttl, properties.getHotTtl(), properties.getHotMaxAge(), maximumSize);
+    }
+
+    /**
+     * Span of the sliding window.
+     */
+    public Duration window() {
+        return properties.getRotateInterval().multipliedBy(properties.getBuckets());
+    }
+
+    @Scheduled(fixedRateString = "${app.hot-keys.rotate-interval:10s}")
+    public void rotate() {
+        caches.values().forEach(HeavyHitters::rotate);
+    }
+
+    private HeavyHitters register(String cacheName) {
+        HeavyHitters heavyHitters = new HeavyHitters(properties.getBuckets(), properties.getWidth(),
+                properties.getDepth(), properties.getTopK(), properties.getMinHotCount());
+        Gauge.builder("product.cache.hot.keys", heavyHitters, HeavyHitters::hotCount)
+                .description("Keys looked up often enough to be kept longer")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        return heavyHitters;
+    }
+}
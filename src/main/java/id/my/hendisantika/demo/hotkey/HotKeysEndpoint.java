@@ -0,0 +1,32 @@
+package id.my.hendisantika.demo.hotkey;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the most frequently looked-up keys of every product cache.
+ * {@code GET /actuator/hotkeys?limit=20} reads the ranking of the last completed window.
+ */
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    @ReadOperation
+    public HotKeysReport hotKeys(@Nullable Integer limit) {
+        return new HotKeysReport(hotKeyTracker.window(), hotKeyTracker.top(limit != null ? limit : Integer.MAX_VALUE));
+    }
+
+    /**
+     * Window the counts cover and the ranked keys per cache.
+     */
+    public record HotKeysReport(Duration window, Map<String, List<HotKey>> caches) {
+    }
+}
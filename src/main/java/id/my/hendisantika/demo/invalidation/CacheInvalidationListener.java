@@ -0,0 +1,188 @@
+package id.my.hendisantika.demo.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Listens for invalidations from other nodes and applies them to the local caches.
+ * <p>
+ * {@code LISTEN} is session state, so the listener keeps a dedicated connection outside the pool and
+ * polls it for notifications on its own thread. Notifications sent while the connection was down are
+ * lost, so after every reconnect all local caches are cleared to resynchronize.
+ */
+@Slf4j
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    public static final String APPLICATION_NAME = "cache-invalidation-listener";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationProperties properties;
+    private final LocalCacheInvalidator invalidator;
+    private final String nodeId;
+    private final Counter receivedMessages;
+    private final Counter receivedProducts;
+    private final Counter resyncs;
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread thread;
+
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties, CacheInvalidationProperties properties,
+                                     LocalCacheInvalidator invalidator, String nodeId, MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.invalidator = invalidator;
+        this.nodeId = nodeId;
+        this.receivedMessages = Counter.builder("product.cache.invalidation.messages")
+                .description("Invalidation notifications exchanged with other nodes")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.receivedProducts = Counter.builder("product.cache.invalidation.products")
+                .description("Product invalidations exchanged with other nodes, after coalescing")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("product.cache.invalidation.resyncs")
+                .description("Local cache clears after the invalidation connection was re-established")
+                .register(meterRegistry);
+        Gauge.builder("product.cache.invalidation.connected", this, listener -> listener.connected ? 1 : 0)
+                .description("Whether the invalidation listener is connected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, APPLICATION_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Whether the listener currently holds a live {@code LISTEN} session.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + properties.getChannel().replace("\"", "\"\"") + "\"");
+                }
+                connected = true;
+                if (connectedBefore) {
+                    log.info("Invalidation listener reconnected, clearing local caches");
+                    invalidateAll();
+                    resyncs.increment();
+                }
+                connectedBefore = true;
+                poll(connection);
+            } catch (SQLException e) {
+                connected = false;
+                if (running) {
+                    log.warn("Invalidation listener connection lost, reconnecting in {}", properties.getReconnectDelay(), e);
+                    sleep();
+                }
+            }
+        }
+        connected = false;
+    }
+
+    private Properties connectionProperties() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        connectionProperties.setProperty("password", dataSourceProperties.determinePassword());
+        // Identifies the session in pg_stat_activity
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        return connectionProperties;
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int timeout = (int) properties.getPollTimeout().toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeout);
+            if (notifications == null || notifications.length == 0) {
+                // getNotifications only notices a closed socket when reading, so probe the connection while idle
+                if (!connection.isValid(Math.max(1, timeout / 1000))) {
+                    throw new SQLException("Invalidation listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                apply(notification.getParameter());
+            }
+        }
+    }
+
+    private void apply(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (RuntimeException e) {
+            log.warn("Unreadable invalidation message, clearing local caches", e);
+            invalidateAll();
+            return;
+        }
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        receivedMessages.increment();
+        try {
+            if (message.clearAll()) {
+                invalidator.invalidateAll();
+            } else {
+                invalidator.invalidate(message.entries());
+                receivedProducts.increment(message.entries().size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply invalidation, clearing local caches", e);
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Clear every local cache without throwing, so a failing cache cannot end the listener thread.
+     */
+    private void invalidateAll() {
+        try {
+            invalidator.invalidateAll();
+        } catch (RuntimeException e) {
+            log.error("Failed to clear local caches", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package id.my.hendisantika.demo.invalidation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the cross-node cache invalidation bus.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * Whether product changes are broadcast to, and received from, other nodes.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Postgres notification channel.
+     */
+    private String channel = "product_cache_invalidation";
+
+    /**
+     * How often coalesced invalidations are flushed; also the upper bound on added propagation delay.
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * How long the listener waits for notifications before checking for shutdown.
+     */
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    /**
+     * Delay before reconnecting after the listener connection is lost.
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+
+    /**
+     * Number of pending product invalidations above which a single clear-all message is sent instead.
+     */
+    private int maxPending = 10_000;
+}
@@ -0,0 +1,115 @@
+package id.my.hendisantika.demo.invalidation;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects committed product changes and broadcasts them to the other nodes with {@code pg_notify}.
+ * <p>
+ * Changes are coalesced per product id and flushed every {@code app.cache-invalidation.flush-interval},
+ * so a burst of writes to the same product results in a single invalidation. When more than
+ * {@code max-pending} products are waiting, a single clear-all message replaces them.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationProperties properties;
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, InvalidationMessage.Entry> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean clearAllPending = new AtomicBoolean();
+    private final Counter sentMessages;
+    private final Counter sentProducts;
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate, CacheInvalidationProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.sentMessages = Counter.builder("product.cache.invalidation.messages")
+                .description("Invalidation notifications exchanged with other nodes")
+                .tag("direction", "sent")
+                .register(meterRegistry);
+        this.sentProducts = Counter.builder("product.cache.invalidation.products")
+                .description("Product invalidations exchanged with other nodes, after coalescing")
+                .tag("direction", "sent")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChange(ProductChangeEvent event) {
+        if (event.productId() == null) {
+            return;
+        }
+        pending.merge(event.productId(),
+                new InvalidationMessage.Entry(event.productId(), event.category(), event.name()),
+                CacheInvalidationPublisher::coalesce);
+        if (pending.size() > properties.getMaxPending()) {
+            clearAllPending.set(true);
+            pending.clear();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-invalidation.flush-interval:50ms}")
+    public void flush() {
+        if (clearAllPending.getAndSet(false)) {
+            pending.clear();
+            if (!send(InvalidationMessage.clearAll(nodeId))) {
+                clearAllPending.set(true);
+            }
+            return;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<InvalidationMessage.Entry> entries = new ArrayList<>(pending.size());
+        for (Long id : pending.keySet()) {
+            InvalidationMessage.Entry entry = pending.remove(id);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        for (InvalidationMessage message : InvalidationMessage.batches(nodeId, entries)) {
+            if (send(message)) {
+                sentProducts.increment(message.entries().size());
+            } else {
+                // Retry with the next flush, merged with anything that arrived in the meantime
+                message.entries().forEach(entry -> pending.merge(entry.productId(), entry, CacheInvalidationPublisher::coalesce));
+            }
+        }
+    }
+
+    private boolean send(InvalidationMessage message) {
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, properties.getChannel(), message.encode());
+            sentMessages.increment();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation, will retry", e);
+            return false;
+        }
+    }
+
+    /**
+     * Merge two invalidations of the same product; keys that differ are dropped so receivers clear the cache.
+     */
+    private static InvalidationMessage.Entry coalesce(InvalidationMessage.Entry first, InvalidationMessage.Entry second) {
+        return new InvalidationMessage.Entry(first.productId(),
+                Objects.equals(first.category(), second.category()) ? first.category() : null,
+                Objects.equals(first.name(), second.name()) ? first.name() : null);
+    }
+}
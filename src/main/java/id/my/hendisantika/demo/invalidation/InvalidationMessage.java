@@ -0,0 +1,104 @@
+package id.my.hendisantika.demo.invalidation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Batch of product invalidations sent by one node as a Postgres notification payload.
+ * <p>
+ * Text format: the sender's node id on the first line, then one line per product with tab-separated
+ * id, category and name. Category and name are empty when unknown; the receiver then clears the
+ * affected cache instead of evicting a single key. A message without entries and with {@code clearAll}
+ * set (second line {@code *}) tells receivers to drop all product caches.
+ */
+public record InvalidationMessage(String nodeId, boolean clearAll, List<Entry> entries) {
+
+    /**
+     * Postgres rejects payloads of 8000 bytes or more; leave headroom for the node id.
+     */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final String CLEAR_ALL = "*";
+
+    /**
+     * One invalidated product.
+     */
+    public record Entry(long productId, String category, String name) {
+
+        /**
+         * Return a copy without values that cannot be encoded; unknown values make receivers clear
+         * the whole cache, which is always safe.
+         */
+        Entry encodable() {
+            return new Entry(productId, encodable(category), encodable(name));
+        }
+
+        private static String encodable(String value) {
+            return value == null || value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0 ? null : value;
+        }
+    }
+
+    public static InvalidationMessage clearAll(String nodeId) {
+        return new InvalidationMessage(nodeId, true, List.of());
+    }
+
+    /**
+     * Split entries into as few messages as the payload limit allows.
+     */
+    public static List<InvalidationMessage> batches(String nodeId, Collection<Entry> entries) {
+        List<InvalidationMessage> messages = new ArrayList<>();
+        List<Entry> current = new ArrayList<>();
+        int size = nodeId.length() + 1;
+        for (Entry entry : entries) {
+            Entry encodable = entry.encodable();
+            int entrySize = line(encodable).getBytes(StandardCharsets.UTF_8).length;
+            if (!current.isEmpty() && size + entrySize > MAX_PAYLOAD_BYTES) {
+                messages.add(new InvalidationMessage(nodeId, false, current));
+                current = new ArrayList<>();
+                size = nodeId.length() + 1;
+            }
+            current.add(encodable);
+            size += entrySize;
+        }
+        if (!current.isEmpty()) {
+            messages.add(new InvalidationMessage(nodeId, false, current));
+        }
+        return messages;
+    }
+
+    public String encode() {
+        StringBuilder payload = new StringBuilder(nodeId).append('\n');
+        if (clearAll) {
+            return payload.append(CLEAR_ALL).append('\n').toString();
+        }
+        entries.forEach(entry -> payload.append(line(entry)));
+        return payload.toString();
+    }
+
+    public static InvalidationMessage decode(String payload) {
+        String[] lines = payload.split("\n");
+        if (lines.length > 1 && CLEAR_ALL.equals(lines[1])) {
+            return clearAll(lines[0]);
+        }
+        List<Entry> entries = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split("\t", -1);
+            entries.add(new Entry(Long.parseLong(fields[0]), emptyToNull(fields[1]), emptyToNull(fields[2])));
+        }
+        return new InvalidationMessage(lines[0], false, entries);
+    }
+
+    private static String line(Entry entry) {
+        return entry.productId() + "\t" + nullToEmpty(entry.category()) + "\t" + nullToEmpty(entry.name()) + "\n";
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,47 @@
+package id.my.hendisantika.demo.invalidation;
+
+import id.my.hendisantika.demo.bloom.ProductExistenceFilter;
+import id.my.hendisantika.demo.count.ProductCounter;
+import id.my.hendisantika.demo.replica.ProductReplica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies invalidations from other nodes to this node's product caches.
+ * <p>
+ * The caches are evicted as for this node's own changes (see {@link ProductCacheEvictor}). The in-process
+ * replica, when enabled, re-reads the products or reloads entirely; the existence filters add the products or are
+ * rebuilt. Cached listing totals pick up single changes when they are counted again, but are dropped along with
+ * the caches.
+ */
+@RequiredArgsConstructor
+public class LocalCacheInvalidator {
+
+    private final ProductCacheEvictor cacheEvictor;
+    private final ProductCounter productCounter;
+    private final ObjectProvider<ProductReplica> productReplica;
+    private final ObjectProvider<ProductExistenceFilter> productExistenceFilter;
+
+    public void invalidate(List<InvalidationMessage.Entry> entries) {
+        cacheEvictor.evict(entries);
+        productReplica.ifAvailable(replica -> replica.refresh(entries.stream()
+                .map(InvalidationMessage.Entry::productId)
+                .toList()));
+        productExistenceFilter.ifAvailable(filter -> {
+            Map<Long, String> products = new HashMap<>();
+            entries.forEach(entry -> products.put(entry.productId(), entry.name()));
+            filter.add(products);
+        });
+    }
+
+    public void invalidateAll() {
+        cacheEvictor.clearAll();
+        productCounter.clear();
+        productReplica.ifAvailable(ProductReplica::reload);
+        productExistenceFilter.ifAvailable(ProductExistenceFilter::reset);
+    }
+}
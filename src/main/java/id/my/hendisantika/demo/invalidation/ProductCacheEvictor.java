@@ -0,0 +1,110 @@
+package id.my.hendisantika.demo.invalidation;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evicts the entries of this node's product caches that changed products made stale.
+ * <p>
+ * Single products are evicted by id, name and category; an unknown name or category clears that cache. List caches
+ * cannot be addressed per product and are cleared. Changes made on this node are collected per transaction and
+ * evicted together once it commits, so a bulk save clears the list caches once rather than once per product;
+ * changes whose publisher evicted the caches itself are skipped. Changes from other nodes arrive through
+ * {@link LocalCacheInvalidator}.
+ */
+@RequiredArgsConstructor
+public class ProductCacheEvictor {
+
+    private static final List<String> LIST_CACHES = List.of("allProducts", "productsByCategory", "productsByPriceRange");
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onProductChange(ProductChangeEvent event) {
+        if (event.productId() == null || event.cachesEvicted()) {
+            return;
+        }
+        InvalidationMessage.Entry entry = new InvalidationMessage.Entry(event.productId(), event.category(), event.name());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(List.of(entry));
+            return;
+        }
+        PendingEviction pending = (PendingEviction) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEviction();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.entries.add(entry);
+    }
+
+    public void evict(Collection<InvalidationMessage.Entry> entries) {
+        for (InvalidationMessage.Entry entry : entries) {
+            evictOrClear("products", entry.productId());
+            evictOrClear("productsByName", entry.name());
+            evictOrClear("productCountByCategory", entry.category());
+        }
+        LIST_CACHES.forEach(this::clear);
+    }
+
+    public void clearAll() {
+        cacheManager.getCacheNames().forEach(this::clear);
+    }
+
+    private void evictOrClear(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Entries changed by one transaction, bound to it while it runs and suspended along with it.
+     */
+    private final class PendingEviction implements TransactionSynchronization {
+
+        private final Set<InvalidationMessage.Entry> entries = new LinkedHashSet<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ProductCacheEvictor.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ProductCacheEvictor.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            evict(entries);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProductCacheEvictor.this);
+        }
+    }
+}
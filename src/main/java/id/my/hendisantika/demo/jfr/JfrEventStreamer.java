@@ -0,0 +1,131 @@
+package id.my.hendisantika.demo.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams JFR events from the running JVM into Micrometer.
+ * <p>
+ * Virtual-thread pinning (e.g. blocking inside a {@code synchronized} block of the JDBC driver),
+ * GC pauses, allocation samples and monitor contention are turned into metrics; pinning stacks are
+ * additionally aggregated for the {@code pinning} actuator endpoint.
+ */
+@Slf4j
+public class JfrEventStreamer implements SmartLifecycle {
+
+    static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    static final String OBJECT_ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final String JAVA_MONITOR_ENTER = "jdk.JavaMonitorEnter";
+
+    private final JfrProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final PinnedStackAggregator pinnedStacks;
+
+    private final Timer pinnedTimer;
+    private final Counter allocatedBytes;
+
+    private RecordingStream stream;
+
+    public JfrEventStreamer(JfrProperties properties, MeterRegistry meterRegistry, PinnedStackAggregator pinnedStacks) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pinnedStacks = pinnedStacks;
+        this.pinnedTimer = Timer.builder("jvm.jfr.virtual.thread.pinned")
+                .description("Time virtual threads kept their carrier thread pinned")
+                .register(meterRegistry);
+        this.allocatedBytes = Counter.builder("jvm.jfr.allocation")
+                .description("Sampled allocation weight; use rate() for the allocation rate")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(VIRTUAL_THREAD_PINNED).withThreshold(properties.getPinnedThreshold()).withStackTrace();
+        recording.enable(GARBAGE_COLLECTION);
+        recording.enable(OBJECT_ALLOCATION_SAMPLE).with("throttle", properties.getAllocationThrottle());
+        recording.enable(JAVA_MONITOR_ENTER).withThreshold(properties.getMonitorThreshold());
+
+        recording.onEvent(VIRTUAL_THREAD_PINNED, this::onPinned);
+        recording.onEvent(GARBAGE_COLLECTION, this::onGarbageCollection);
+        recording.onEvent(OBJECT_ALLOCATION_SAMPLE, this::onAllocationSample);
+        recording.onEvent(JAVA_MONITOR_ENTER, this::onMonitorEnter);
+        recording.onError(error -> log.warn("JFR event stream failed", error));
+
+        recording.startAsync();
+        stream = recording;
+        log.info("JFR event streaming started");
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedTimer.record(duration);
+        pinnedStacks.record(frames(event.getStackTrace()), duration.toNanos());
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        Timer.builder("jvm.jfr.gc.pause")
+                .description("GC pause time reported by JFR")
+                .tag("collector", event.getString("name"))
+                .tag("cause", event.getString("cause"))
+                .register(meterRegistry)
+                .record(event.getDuration("sumOfPauses"));
+    }
+
+    private void onAllocationSample(RecordedEvent event) {
+        allocatedBytes.increment(event.getLong("weight"));
+    }
+
+    private void onMonitorEnter(RecordedEvent event) {
+        String monitorClass = event.getClass("monitorClass") != null ? event.getClass("monitorClass").getName() : "unknown";
+        Timer.builder("jvm.jfr.monitor.contention")
+                .description("Time threads spent blocked entering a monitor")
+                .tag("monitor", monitorClass)
+                .register(meterRegistry)
+                .record(event.getDuration());
+    }
+
+    private List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of("<no stack trace>");
+        }
+        List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+        int depth = Math.min(properties.getStackDepth(), recordedFrames.size());
+        List<String> frames = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            RecordedFrame frame = recordedFrames.get(i);
+            frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber());
+        }
+        return frames;
+    }
+}
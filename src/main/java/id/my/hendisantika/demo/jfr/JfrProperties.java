@@ -0,0 +1,44 @@
+package id.my.hendisantika.demo.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process JFR event stream.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.jfr")
+public class JfrProperties {
+
+    /**
+     * Whether JFR events are streamed into metrics.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Minimum duration of a virtual-thread pin to be recorded.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Minimum time spent blocked on a monitor to be recorded.
+     */
+    private Duration monitorThreshold = Duration.ofMillis(10);
+
+    /**
+     * Upper bound of allocation samples per second.
+     */
+    private String allocationThrottle = "150/s";
+
+    /**
+     * Number of frames that identify a pinning call site.
+     */
+    private int stackDepth = 12;
+
+    /**
+     * Maximum number of distinct pinning stacks kept in memory.
+     */
+    private int maxTrackedStacks = 500;
+}
@@ -0,0 +1,84 @@
+package id.my.hendisantika.demo.jfr;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates virtual-thread pinning events by call site so the worst offenders can be listed.
+ * The number of distinct stacks is bounded; pins from stacks beyond the bound are only counted in total.
+ */
+public class PinnedStackAggregator {
+
+    private final int maxTrackedStacks;
+    private final ConcurrentHashMap<List<String>, StackStats> stacks = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+
+    public PinnedStackAggregator(int maxTrackedStacks) {
+        this.maxTrackedStacks = maxTrackedStacks;
+    }
+
+    /**
+     * Record one pinning event.
+     *
+     * @param frames top frames of the pinned thread, innermost first
+     * @param nanos  how long the carrier thread was pinned
+     */
+    public void record(List<String> frames, long nanos) {
+        StackStats stats = stacks.get(frames);
+        if (stats == null) {
+            if (stacks.size() >= maxTrackedStacks) {
+                untracked.increment();
+                return;
+            }
+            stats = stacks.computeIfAbsent(List.copyOf(frames), key -> new StackStats());
+        }
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Stacks ordered by total pinned time, worst first.
+     */
+    public List<PinnedStack> top(int limit) {
+        return stacks.entrySet().stream()
+                .map(entry -> new PinnedStack(entry.getKey(),
+                        entry.getValue().count.sum(),
+                        entry.getValue().totalNanos.sum() / 1_000_000,
+                        entry.getValue().maxNanos.get() / 1_000_000))
+                .sorted(Comparator.comparingLong(PinnedStack::totalMillis).reversed()
+                        .thenComparing(Comparator.comparingLong(PinnedStack::count).reversed()))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Pins whose stack was not tracked because the bound was reached.
+     */
+    public long getUntrackedCount() {
+        return untracked.sum();
+    }
+
+    /**
+     * Forget all recorded stacks.
+     */
+    public void reset() {
+        stacks.clear();
+        untracked.reset();
+    }
+
+    /**
+     * Summary of one pinning call site.
+     */
+    public record PinnedStack(List<String> frames, long count, long totalMillis, long maxMillis) {
+    }
+
+    private static final class StackStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
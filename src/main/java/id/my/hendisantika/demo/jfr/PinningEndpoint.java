@@ -0,0 +1,42 @@
+package id.my.hendisantika.demo.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the call sites that pin virtual threads to their carrier most.
+ * {@code GET /actuator/pinning?limit=20} reads, {@code DELETE /actuator/pinning} resets the statistics. The endpoint
+ * is read-only unless {@code management.endpoint.pinning.access=unrestricted}, which only belongs behind a secured
+ * actuator.
+ */
+@Endpoint(id = "pinning")
+@RequiredArgsConstructor
+public class PinningEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final PinnedStackAggregator pinnedStacks;
+
+    @ReadOperation
+    public PinningReport pinning(@Nullable Integer limit) {
+        return new PinningReport(
+                pinnedStacks.top(limit != null ? limit : DEFAULT_LIMIT),
+                pinnedStacks.getUntrackedCount());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        pinnedStacks.reset();
+    }
+
+    /**
+     * Top pinning stacks plus the number of pins from stacks that were not tracked individually.
+     */
+    public record PinningReport(List<PinnedStackAggregator.PinnedStack> stacks, long untracked) {
+    }
+}
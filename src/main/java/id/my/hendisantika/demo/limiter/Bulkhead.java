@@ -0,0 +1,64 @@
+package id.my.hendisantika.demo.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for one {@link EndpointClass}.
+ * Permits are handed out without blocking: once the adaptive limit is reached further requests are
+ * rejected immediately instead of queueing on the connection pool.
+ */
+public class Bulkhead {
+
+    private final EndpointClass endpointClass;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(EndpointClass endpointClass, GradientLimit limit) {
+        this.endpointClass = endpointClass;
+        this.limit = limit;
+    }
+
+    /**
+     * Try to take a permit.
+     *
+     * @return {@code true} if the request may proceed and must later call {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a permit and feed the observed latency back into the limit.
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        limit.onSample(rttNanos, current, dropped);
+    }
+
+    public EndpointClass getEndpointClass() {
+        return endpointClass;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,52 @@
+package id.my.hendisantika.demo.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds one {@link Bulkhead} per {@link EndpointClass} and publishes their state as metrics.
+ */
+public class BulkheadRegistry {
+
+    private final Map<EndpointClass, Bulkhead> bulkheads = new EnumMap<>(EndpointClass.class);
+
+    public BulkheadRegistry(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ConcurrencyLimitProperties.Limit settings = properties.forClass(endpointClass);
+            GradientLimit limit = new GradientLimit(
+                    settings.getInitialLimit(),
+                    settings.getMinLimit(),
+                    settings.getMaxLimit(),
+                    properties.getSmoothing(),
+                    properties.getRttTolerance(),
+                    properties.getLongWindowSamples());
+            Bulkhead bulkhead = new Bulkhead(endpointClass, limit);
+            bulkheads.put(endpointClass, bulkhead);
+            registerMetrics(bulkhead, meterRegistry);
+        }
+    }
+
+    public Bulkhead get(EndpointClass endpointClass) {
+        return bulkheads.get(endpointClass);
+    }
+
+    private void registerMetrics(Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        String tag = bulkhead.getEndpointClass().tag();
+        Gauge.builder("product.concurrency.limit", bulkhead, Bulkhead::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("class", tag)
+                .register(meterRegistry);
+        Gauge.builder("product.concurrency.inflight", bulkhead, Bulkhead::getInFlight)
+                .description("Requests currently holding a permit")
+                .tag("class", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("product.concurrency.rejected", bulkhead, Bulkhead::getRejectedCount)
+                .description("Requests shed with 503 because the limit was reached")
+                .tag("class", tag)
+                .register(meterRegistry);
+    }
+}
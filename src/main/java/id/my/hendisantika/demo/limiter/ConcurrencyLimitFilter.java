@@ -0,0 +1,125 @@
+package id.my.hendisantika.demo.limiter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds product API requests with 503 and Retry-After once the bulkhead for their endpoint class is full.
+ * Rejection happens before the request reaches {@code ProductService}, so overload never turns into
+ * thousands of requests waiting on the connection pool and timing out together.
+ * The change feed is not limited: its streams stay open for minutes but hold no connection between events. Neither
+ * is the batch endpoint as a whole: each of its operations takes a read permit itself.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/products";
+    private static final String CHANGE_FEED_PATH = API_PREFIX + "/changes";
+    private static final String BATCH_PATH = API_PREFIX + "/batch";
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ConcurrencyLimitProperties properties;
+
+    /**
+     * Classify a request into the bulkhead that should admit it.
+     */
+    static EndpointClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            return EndpointClass.READ;
+        }
+        if (request.getRequestURI().contains("/bulk")) {
+            return EndpointClass.BULK;
+        }
+        return EndpointClass.WRITE;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !properties.isEnabled() || !uri.startsWith(API_PREFIX) || uri.equals(CHANGE_FEED_PATH)
+                || uri.equals(BATCH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheadRegistry.get(classify(request));
+        if (!bulkhead.tryAcquire()) {
+            log.debug("Shedding {} {} - {} limit {} reached", request.getMethod(), request.getRequestURI(),
+                    bulkhead.getEndpointClass().tag(), bulkhead.getLimit());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+            return;
+        }
+
+        long start = System.nanoTime();
+        Permit permit = new Permit(bulkhead, start);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(permit, response));
+            } else {
+                permit.release(failed || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    /**
+     * A permit that is released exactly once, whichever of the sync or async paths completes first.
+     */
+    private record Permit(Bulkhead bulkhead, long startNanos, AtomicBoolean released) {
+
+        Permit(Bulkhead bulkhead, long startNanos) {
+            this(bulkhead, startNanos, new AtomicBoolean());
+        }
+
+        void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - startNanos, dropped);
+            }
+        }
+    }
+
+    /**
+     * Keeps the permit held until an asynchronous request (e.g. the low-stock endpoint) has finished.
+     */
+    private record ReleaseOnCompletion(Permit permit, HttpServletResponse response) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package id.my.hendisantika.demo.limiter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the adaptive concurrency limiter in front of the product API.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Whether requests are subject to admission control at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Value of the Retry-After header sent with 503 responses.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * How quickly the limit follows a new estimate (0..1).
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * How much the latest latency may exceed the long-term latency before the limit shrinks.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Number of samples the long-term latency average spans.
+     */
+    private int longWindowSamples = 600;
+
+    private Limit read = new Limit(40, 5, 200);
+
+    private Limit write = new Limit(20, 2, 50);
+
+    private Limit bulk = new Limit(2, 1, 4);
+
+    public Limit forClass(EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case READ -> read;
+            case WRITE -> write;
+            case BULK -> bulk;
+        };
+    }
+
+    /**
+     * Bounds of the limit for one endpoint class.
+     */
+    @Data
+    public static class Limit {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
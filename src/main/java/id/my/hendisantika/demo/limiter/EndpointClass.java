@@ -0,0 +1,30 @@
+package id.my.hendisantika.demo.limiter;
+
+/**
+ * Classes of product endpoints that get their own bulkhead.
+ * Keeping them apart means a burst of bulk imports cannot take the permits reserved for point reads.
+ */
+public enum EndpointClass {
+
+    /**
+     * Lookups, listings and counts, alone or batched.
+     */
+    READ,
+
+    /**
+     * Single-product creates, stock updates and deletes.
+     */
+    WRITE,
+
+    /**
+     * Bulk endpoints that hold a connection for a long time.
+     */
+    BULK;
+
+    /**
+     * Tag value used for metrics.
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
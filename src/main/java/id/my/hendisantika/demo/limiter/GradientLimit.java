@@ -0,0 +1,88 @@
+package id.my.hendisantika.demo.limiter;
+
+/**
+ * Adaptive concurrency limit based on the gradient between long-term and short-term latency.
+ * <p>
+ * The long-term RTT is an exponential moving average that approximates the latency of an unloaded
+ * database. When the latest sample rises above it (queueing on the Hikari pool or inside Postgres)
+ * the gradient drops below 1 and the limit shrinks; while latency stays flat the limit grows by
+ * a queue allowance of {@code sqrt(limit)}. Growth only happens when the bulkhead is actually
+ * using at least half of its limit, so an idle service does not inflate its limit to the maximum.
+ */
+public class GradientLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longWindowDecay;
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private volatile int limit;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit,
+                         double smoothing, double rttTolerance, int longWindowSamples) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longWindowDecay = 2.0 / (longWindowSamples + 1);
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Current number of requests allowed in flight.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Feed one latency sample into the limit.
+     *
+     * @param rttNanos latency of the completed request
+     * @param inFlight number of requests that were in flight when it completed
+     * @param dropped  whether the request failed because of overload (pool timeout, 5xx)
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            estimatedLimit = clamp(estimatedLimit * DROP_BACKOFF);
+            limit = (int) estimatedLimit;
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos * (1 - longWindowDecay) + rttNanos * longWindowDecay;
+        // After a period of overload the long-term average is inflated; pull it back so the limit can recover
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // Application-limited: not enough traffic to tell whether a higher limit would be safe
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+
+        estimatedLimit = clamp(newLimit);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,137 @@
+package id.my.hendisantika.demo.metrics;
+
+import id.my.hendisantika.demo.hotkey.HotKeyTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator that attributes lookups to the current request and measures load time per cache.
+ * Hit and miss counts per cache come from the Caffeine statistics bound in {@code CacheConfig}; lookups are also
+ * counted per key by the {@link HotKeyTracker}, when there is one.
+ * <p>
+ * With {@code @Cacheable} a miss is followed on the same thread by the method invocation and a
+ * {@link #put} of the same key; the time between the two is recorded as the load time of the cache. A miss whose
+ * invocation failed is never put: the next lookup or put of the thread drops it instead of timing it.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final Timer loadTimer;
+    private final HotKeyTracker hotKeyTracker;
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, null);
+    }
+
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry, HotKeyTracker hotKeyTracker) {
+        this.delegate = delegate;
+        this.hotKeyTracker = hotKeyTracker;
+        this.loadTimer = Timer.builder("product.cache.load")
+                .description("Time to compute a missing cache entry")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long start = System.nanoTime();
+        ValueWrapper value = delegate.get(key);
+        long end = System.nanoTime();
+        RequestTimings.record(RequestLayer.CACHE, end - start);
+        recordOutcome(key, value != null, end);
+        if (hotKeyTracker != null) {
+            hotKeyTracker.record(delegate.getName(), key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        PendingLoad load = pendingLoad.get();
+        if (load != null) {
+            pendingLoad.remove();
+            if (Objects.equals(load.key(), key)) {
+                loadTimer.record(System.nanoTime() - load.startNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void recordOutcome(Object key, boolean hit, long now) {
+        RequestTimings.cacheLookup(hit);
+        if (hit) {
+            pendingLoad.remove();
+        } else {
+            pendingLoad.set(new PendingLoad(key, now));
+        }
+    }
+
+    /**
+     * A miss waiting for the put of its key.
+     */
+    private record PendingLoad(Object key, long startNanos) {
+    }
+}
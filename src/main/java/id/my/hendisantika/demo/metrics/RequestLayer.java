@@ -0,0 +1,31 @@
+package id.my.hendisantika.demo.metrics;
+
+/**
+ * Layers a request's latency is attributed to.
+ */
+public enum RequestLayer {
+
+    /**
+     * Lookups in the Caffeine caches, excluding the work done to load a missing entry.
+     */
+    CACHE,
+
+    /**
+     * Waiting for a connection from the Hikari pool.
+     */
+    POOL,
+
+    /**
+     * Executing JDBC statements.
+     */
+    SQL,
+
+    /**
+     * Encoding the response body.
+     */
+    SERIALIZATION;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,72 @@
+package id.my.hendisantika.demo.metrics;
+
+import id.my.hendisantika.demo.sql.SqlStatementStats;
+import id.my.hendisantika.demo.sql.SqlStatementTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records request latency by endpoint and cache outcome, together with the time each layer contributed.
+ * <p>
+ * Pool wait and SQL time come from the per-request SQL tracker, so this filter has to run inside
+ * the SQL statement budget filter.
+ */
+@RequiredArgsConstructor
+public class RequestLayerTimingFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings timings = RequestTimings.stop();
+            SqlStatementStats sqlStats = SqlStatementTracker.current();
+            if (sqlStats != null) {
+                timings.add(RequestLayer.POOL, sqlStats.getConnectionAcquireNanos());
+                timings.add(RequestLayer.SQL, sqlStats.getJdbcNanos());
+            }
+            record(request, timings, System.nanoTime() - start);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestTimings timings, long totalNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : UNKNOWN_ENDPOINT;
+
+        Timer.builder("product.request.latency")
+                .description("API request latency by cache outcome")
+                .tags("endpoint", endpoint, "cache", timings.getCacheStatus())
+                .register(meterRegistry)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+
+        for (RequestLayer layer : RequestLayer.values()) {
+            long nanos = timings.getNanos(layer);
+            if (nanos == 0) {
+                // Layer not involved (e.g. no SQL on a cache hit); zero samples would only dilute the histogram
+                continue;
+            }
+            Timer.builder("product.request.layer")
+                    .description("Time an API request spent in each layer")
+                    .tags("endpoint", endpoint, "layer", layer.tag())
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package id.my.hendisantika.demo.metrics;
+
+import java.io.IOException;
+
+/**
+ * Per-request latency breakdown, bound to the thread that handles the request.
+ * The instrumented cache and message converter report into it; outside a request they do nothing.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long[] layerNanos = new long[RequestLayer.values().length];
+    private int cacheHits;
+    private int cacheMisses;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Start a breakdown for the current thread.
+     */
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * End the breakdown of the current thread.
+     */
+    public static RequestTimings stop() {
+        RequestTimings timings = CURRENT.get();
+        CURRENT.remove();
+        return timings;
+    }
+
+    /**
+     * Breakdown of the current request, or {@code null} outside a request.
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    static void record(RequestLayer layer, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(layer, nanos);
+        }
+    }
+
+    /**
+     * Run a block and attribute its time to a layer, also when it fails.
+     */
+    static void time(RequestLayer layer, IoBlock block) throws IOException {
+        long start = System.nanoTime();
+        try {
+            block.run();
+        } finally {
+            record(layer, System.nanoTime() - start);
+        }
+    }
+
+    static void cacheLookup(boolean hit) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            if (hit) {
+                timings.cacheHits++;
+            } else {
+                timings.cacheMisses++;
+            }
+        }
+    }
+
+    public void add(RequestLayer layer, long nanos) {
+        layerNanos[layer.ordinal()] += nanos;
+    }
+
+    public long getNanos(RequestLayer layer) {
+        return layerNanos[layer.ordinal()];
+    }
+
+    /**
+     * Cache outcome of the request: {@code miss} if any lookup missed, {@code hit} if all lookups hit,
+     * {@code none} if no cache was consulted.
+     */
+    public String getCacheStatus() {
+        if (cacheMisses > 0) {
+            return "miss";
+        }
+        return cacheHits > 0 ? "hit" : "none";
+    }
+
+    /**
+     * Work that may fail with an {@link IOException}, such as writing a response body.
+     */
+    @FunctionalInterface
+    interface IoBlock {
+
+        void run() throws IOException;
+    }
+}
@@ -5,7 +5,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,14 +16,11 @@ import java.time.LocalDateTime;
 
 /**
  * Product entity optimized for high-performance operations.
- * Uses indexes on frequently queried fields for faster lookups.
+ * The table and its indexes, shaped after the repository queries, are defined by the Flyway migrations in
+ * {@code db/migration}.
  */
 @Entity
-@Table(name = "products", indexes = {
-        @Index(name = "idx_product_name", columnList = "name"),
-        @Index(name = "idx_product_category", columnList = "category"),
-        @Index(name = "idx_product_price", columnList = "price")
-})
+@Table(name = "products")
 @Data
 @Builder
 @NoArgsConstructor
@@ -37,6 +33,9 @@ public class Product {
     @Schema(description = "Unique identifier of the product", example = "1")
     private Long id;
 
+    @Schema(description = "External stock keeping unit; bulk upserts match products by it", example = "SKU-100234")
+    private String sku;
+
     @Schema(description = "Name of the product", example = "Smartphone XYZ", requiredMode = Schema.RequiredMode.REQUIRED)
     private String name;
 
@@ -0,0 +1,41 @@
+package id.my.hendisantika.demo.pool;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a method, or every method of a class, on connections from the named pool of
+ * {@code app.connection-pools.pools}.
+ * <p>
+ * The pool is chosen when a connection is taken, so a method joining a transaction that is already running keeps
+ * using that transaction's connection. Work the method hands to other threads runs on the default pool unless it
+ * is wrapped in {@link ConnectionPoolContext}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ConnectionPool {
+
+    /**
+     * Latency-sensitive point reads and single-product writes; the default pool.
+     */
+    String OLTP = "oltp";
+
+    /**
+     * Scans and long-running reads such as price ranges, low-stock lists, analytics snapshots and exports.
+     */
+    String REPORTING = "reporting";
+
+    /**
+     * Bulk inserts, upserts and dataset loads.
+     */
+    String BULK = "bulk";
+
+    /**
+     * Name of the pool.
+     */
+    String value();
+}
@@ -0,0 +1,34 @@
+package id.my.hendisantika.demo.pool;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Binds methods annotated with {@link ConnectionPool} to their pool.
+ * <p>
+ * Ordered ahead of {@code @Transactional}, so the pool is chosen before the transaction takes its connection.
+ * {@code @Async} methods are handed to their thread first and choose the pool there.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolAspect {
+
+    @Around("@annotation(id.my.hendisantika.demo.pool.ConnectionPool) || @within(id.my.hendisantika.demo.pool.ConnectionPool)")
+    public Object usePool(ProceedingJoinPoint joinPoint) throws Throwable {
+        return ConnectionPoolContext.call(pool(joinPoint), joinPoint::proceed);
+    }
+
+    private static String pool(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        ConnectionPool annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), ConnectionPool.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), ConnectionPool.class);
+        }
+        return annotation.value();
+    }
+}
@@ -0,0 +1,58 @@
+package id.my.hendisantika.demo.pool;
+
+/**
+ * Thread-bound choice of the connection pool that {@link WorkloadRoutingDataSource} hands out connections from.
+ * <p>
+ * {@link ConnectionPool} sets it for annotated methods; background tasks that are not called through a Spring proxy
+ * use {@link #run} and {@link #call} directly. Scopes nest, and the previous pool is restored when one ends.
+ */
+public final class ConnectionPoolContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConnectionPoolContext() {
+    }
+
+    /**
+     * Pool chosen for the current thread, or {@code null} for the default pool.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run a block on connections from the given pool.
+     */
+    public static void run(String pool, Runnable task) {
+        call(pool, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run a block on connections from the given pool and return its result.
+     */
+    public static <T, E extends Throwable> T call(String pool, Task<T, E> task) throws E {
+        String outer = CURRENT.get();
+        CURRENT.set(pool);
+        try {
+            return task.call();
+        } finally {
+            if (outer != null) {
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * A block that may throw a checked exception, e.g. taking a JDBC connection.
+     */
+    @FunctionalInterface
+    public interface Task<T, E extends Throwable> {
+
+        T call() throws E;
+    }
+}
@@ -0,0 +1,59 @@
+package id.my.hendisantika.demo.pool;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for the workload-isolated connection pools.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.connection-pools")
+public class ConnectionPoolProperties {
+
+    /**
+     * Whether connections come from separate pools per workload instead of the single
+     * {@code spring.datasource.hikari} pool.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pool used by code that does not ask for one.
+     */
+    private String defaultPool = ConnectionPool.OLTP;
+
+    /**
+     * Pools by name. Every pool starts from {@code spring.datasource.hikari.*} and overrides what is set here.
+     */
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    /**
+     * Settings of one pool; unset values are taken from {@code spring.datasource.hikari.*}.
+     */
+    @Data
+    public static class Pool {
+
+        /**
+         * Connections the pool may open.
+         */
+        private Integer maximumPoolSize;
+
+        /**
+         * Idle connections the pool keeps open.
+         */
+        private Integer minimumIdle;
+
+        /**
+         * Time a caller waits for a connection before failing.
+         */
+        private Duration connectionTimeout;
+
+        /**
+         * Time an idle connection above {@code minimum-idle} is kept open.
+         */
+        private Duration idleTimeout;
+    }
+}
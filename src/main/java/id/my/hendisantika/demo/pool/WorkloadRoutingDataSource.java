@@ -0,0 +1,49 @@
+package id.my.hendisantika.demo.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool chosen by {@link ConnectionPoolContext}, or the default pool when none is.
+ * An unknown pool name fails instead of silently falling back, so a typo cannot put bulk work on the default pool.
+ */
+@Slf4j
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<String, HikariDataSource> pools, String defaultPool) {
+        if (!pools.containsKey(defaultPool)) {
+            throw new IllegalArgumentException("Default connection pool '" + defaultPool + "' is not configured");
+        }
+        this.pools = Map.copyOf(pools);
+        setTargetDataSources(new LinkedHashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(defaultPool));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ConnectionPoolContext.current();
+    }
+
+    /**
+     * The pools by name, e.g. for metrics and tests.
+     */
+    public Map<String, HikariDataSource> getPools() {
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        pools.forEach((name, pool) -> {
+            log.debug("Closing connection pool {}", name);
+            pool.close();
+        });
+    }
+}
@@ -0,0 +1,495 @@
+package id.my.hendisantika.demo.replica;
+
+import id.my.hendisantika.demo.model.Product;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Products in fixed 64-byte records in direct (off-heap) memory, addressed by id.
+ * <p>
+ * A record holds the price as unscaled cents, timestamps as epoch microseconds, the stock as an int, the category
+ * as a code into a small dictionary and the other strings as references into an append-only UTF-8 arena. Names
+ * are indexed by an off-heap open-addressing table of ids. There is a single writer (all mutators are synchronized);
+ * readers take no lock. Each record starts with a sequence number the writer makes odd while it changes the record,
+ * so a reader that saw it change, or saw it odd, reads the record again.
+ * <p>
+ * A record is only ever returned whole and current: products marked dirty (changed, not yet read back) are
+ * reported as missing so the caller asks the database.
+ */
+public class OffHeapProductStore {
+
+    static final int RECORD_BYTES = 64;
+    private static final int RECORDS_PER_CHUNK_SHIFT = 14;
+    private static final int RECORDS_PER_CHUNK = 1 << RECORDS_PER_CHUNK_SHIFT;
+    private static final int ARENA_CHUNK_SHIFT = 20;
+    private static final int ARENA_CHUNK_BYTES = 1 << ARENA_CHUNK_SHIFT;
+    private static final int MAX_ARENA_CHUNKS = 1 << (31 - ARENA_CHUNK_SHIFT);
+    private static final int MIN_NAME_SLOTS = 1024;
+
+    // Record layout
+    private static final int VERSION = 0;
+    private static final int ID = 8;
+    private static final int PRICE = 16;
+    private static final int CREATED_AT = 24;
+    private static final int UPDATED_AT = 32;
+    private static final int STOCK = 40;
+    private static final int FLAGS = 44;
+    private static final int NAME = 48;
+    private static final int DESCRIPTION = 52;
+    private static final int SKU = 56;
+    private static final int CATEGORY = 60;
+
+    private static final int PRESENT = 1;
+    private static final int DIRTY = 2;
+    private static final int NO_PRICE = 4;
+    private static final int NO_STOCK = 8;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int NO_STRING = -1;
+
+    // Name table slots
+    private static final long EMPTY = 0;
+    private static final long DELETED = -1;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final long maxId;
+    private volatile ByteBuffer[] records = new ByteBuffer[0];
+    private volatile ByteBuffer[] arena = new ByteBuffer[0];
+    private volatile String[] categories = new String[0];
+    private volatile NameTable names = new NameTable(MIN_NAME_SLOTS);
+    private volatile int size;
+    private final Map<String, Integer> categoryCodes = new HashMap<>();
+    private int arenaPosition = ARENA_CHUNK_BYTES;
+    private long arenaBytesUsed;
+    private int nameEntries;
+    private int nameSlotsUsed;
+
+    public OffHeapProductStore(long maxId) {
+        this.maxId = Math.min(maxId, (long) Integer.MAX_VALUE << RECORDS_PER_CHUNK_SHIFT);
+    }
+
+    /**
+     * Product with the given id, or {@code null} if it is not stored or is waiting to be read back.
+     */
+    public Product get(long id) {
+        ByteBuffer[] chunks = records;
+        if (id <= 0 || id >>> RECORDS_PER_CHUNK_SHIFT >= chunks.length) {
+            return null;
+        }
+        ByteBuffer chunk = chunks[(int) (id >>> RECORDS_PER_CHUNK_SHIFT)];
+        int base = offset(id);
+        while (true) {
+            long version = (long) LONGS.getAcquire(chunk, base + VERSION);
+            if ((version & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int flags = chunk.getInt(base + FLAGS);
+            long price = chunk.getLong(base + PRICE);
+            long createdAt = chunk.getLong(base + CREATED_AT);
+            long updatedAt = chunk.getLong(base + UPDATED_AT);
+            int stock = chunk.getInt(base + STOCK);
+            int name = chunk.getInt(base + NAME);
+            int description = chunk.getInt(base + DESCRIPTION);
+            int sku = chunk.getInt(base + SKU);
+            int category = chunk.getInt(base + CATEGORY);
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getOpaque(chunk, base + VERSION) != version) {
+                continue;
+            }
+            if ((flags & PRESENT) == 0 || (flags & DIRTY) != 0) {
+                return null;
+            }
+            // The references are consistent now; arena bytes are never overwritten
+            return Product.builder()
+                    .id(id)
+                    .sku(readString(sku))
+                    .name(readString(name))
+                    .description(readString(description))
+                    .category(category < 0 ? null : categories[category])
+                    .price((flags & NO_PRICE) != 0 ? null : BigDecimal.valueOf(price, 2))
+                    .stock((flags & NO_STOCK) != 0 ? null : stock)
+                    .createdAt(fromMicros(createdAt))
+                    .updatedAt(fromMicros(updatedAt))
+                    .build();
+        }
+    }
+
+    /**
+     * A product with the given name, or {@code null} if none is stored (or the ones stored are waiting to be read back).
+     */
+    public Product findByName(String name) {
+        if (name == null) {
+            return null;
+        }
+        NameTable table = names;
+        for (int i = table.index(name), probes = 0; probes < table.capacity; i = (i + 1) & table.mask, probes++) {
+            long id = table.get(i);
+            if (id == EMPTY) {
+                return null;
+            }
+            if (id != DELETED) {
+                Product product = get(id);
+                if (product != null && name.equals(product.getName())) {
+                    return product;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store a product, replacing the stored version.
+     *
+     * @return {@code false} if the product cannot be stored (id out of range, price not representable in cents);
+     * any older version is removed then
+     * @throws ArenaFullException when the strings no longer fit; strings of replaced versions are only reclaimed by
+     * loading a new store
+     */
+    public synchronized boolean put(Product product) {
+        Long id = product.getId();
+        if (id == null || id <= 0 || id > maxId) {
+            return false;
+        }
+        int flags = PRESENT;
+        long price = 0;
+        if (product.getPrice() == null) {
+            flags |= NO_PRICE;
+        } else {
+            try {
+                price = product.getPrice().setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                remove(id);
+                return false;
+            }
+        }
+        if (product.getStock() == null) {
+            flags |= NO_STOCK;
+        }
+
+        ensureCapacity(id);
+        ByteBuffer chunk = records[(int) (id >>> RECORDS_PER_CHUNK_SHIFT)];
+        int base = offset(id);
+        boolean existed = (chunk.getInt(base + FLAGS) & PRESENT) != 0;
+        String previousName = existed ? readString(chunk.getInt(base + NAME)) : null;
+        int name = reuseOrWrite(chunk, base + NAME, existed, product.getName());
+        int description = reuseOrWrite(chunk, base + DESCRIPTION, existed, product.getDescription());
+        int sku = reuseOrWrite(chunk, base + SKU, existed, product.getSku());
+        int category = categoryCode(product.getCategory());
+
+        long version = beginWrite(chunk, base);
+        chunk.putLong(base + ID, id);
+        chunk.putLong(base + PRICE, price);
+        chunk.putLong(base + CREATED_AT, toMicros(product.getCreatedAt()));
+        chunk.putLong(base + UPDATED_AT, toMicros(product.getUpdatedAt()));
+        chunk.putInt(base + STOCK, product.getStock() == null ? 0 : product.getStock());
+        chunk.putInt(base + FLAGS, flags);
+        chunk.putInt(base + NAME, name);
+        chunk.putInt(base + DESCRIPTION, description);
+        chunk.putInt(base + SKU, sku);
+        chunk.putInt(base + CATEGORY, category);
+        endWrite(chunk, base, version);
+
+        if (!existed) {
+            size++;
+            addName(product.getName(), id);
+        } else if (!Objects.equals(previousName, product.getName())) {
+            removeName(previousName, id);
+            addName(product.getName(), id);
+        }
+        return true;
+    }
+
+    /**
+     * Hide a product until it is stored again.
+     */
+    public synchronized void markDirty(long id) {
+        ByteBuffer[] chunks = records;
+        if (id <= 0 || id >>> RECORDS_PER_CHUNK_SHIFT >= chunks.length) {
+            return;
+        }
+        ByteBuffer chunk = chunks[(int) (id >>> RECORDS_PER_CHUNK_SHIFT)];
+        int base = offset(id);
+        int flags = chunk.getInt(base + FLAGS);
+        if ((flags & PRESENT) != 0) {
+            long version = beginWrite(chunk, base);
+            chunk.putInt(base + FLAGS, flags | DIRTY);
+            endWrite(chunk, base, version);
+        }
+    }
+
+    public synchronized void remove(long id) {
+        ByteBuffer[] chunks = records;
+        if (id <= 0 || id >>> RECORDS_PER_CHUNK_SHIFT >= chunks.length) {
+            return;
+        }
+        ByteBuffer chunk = chunks[(int) (id >>> RECORDS_PER_CHUNK_SHIFT)];
+        int base = offset(id);
+        if ((chunk.getInt(base + FLAGS) & PRESENT) == 0) {
+            return;
+        }
+        String name = readString(chunk.getInt(base + NAME));
+        long version = beginWrite(chunk, base);
+        chunk.putInt(base + FLAGS, 0);
+        endWrite(chunk, base, version);
+        size--;
+        removeName(name, id);
+    }
+
+    /**
+     * Number of stored products, including those waiting to be read back.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Direct memory allocated for records.
+     */
+    public long recordBytes() {
+        return (long) records.length * RECORDS_PER_CHUNK * RECORD_BYTES;
+    }
+
+    /**
+     * Direct memory allocated for strings and the name index.
+     */
+    public long stringBytes() {
+        return (long) arena.length * ARENA_CHUNK_BYTES + (long) names.capacity * Long.BYTES;
+    }
+
+    /**
+     * Bytes of string data written, including versions that have since been replaced.
+     */
+    public synchronized long arenaBytesUsed() {
+        return arenaBytesUsed;
+    }
+
+    /**
+     * Allocated direct memory divided by the number of stored products.
+     */
+    public double bytesPerProduct() {
+        int products = size;
+        return products == 0 ? 0 : (double) (recordBytes() + stringBytes()) / products;
+    }
+
+    private static long beginWrite(ByteBuffer chunk, int base) {
+        long version = chunk.getLong(base + VERSION);
+        LONGS.setOpaque(chunk, base + VERSION, version + 1);
+        VarHandle.storeStoreFence();
+        return version;
+    }
+
+    private static void endWrite(ByteBuffer chunk, int base, long version) {
+        LONGS.setRelease(chunk, base + VERSION, version + 2);
+    }
+
+    private static int offset(long id) {
+        return (int) (id & (RECORDS_PER_CHUNK - 1)) * RECORD_BYTES;
+    }
+
+    private void ensureCapacity(long id) {
+        int needed = (int) (id >>> RECORDS_PER_CHUNK_SHIFT) + 1;
+        if (needed > records.length) {
+            ByteBuffer[] grown = Arrays.copyOf(records, needed);
+            for (int i = records.length; i < needed; i++) {
+                grown[i] = allocate(RECORDS_PER_CHUNK * RECORD_BYTES);
+            }
+            records = grown;
+        }
+    }
+
+    private int categoryCode(String category) {
+        if (category == null) {
+            return -1;
+        }
+        Integer code = categoryCodes.get(category);
+        if (code == null) {
+            code = categories.length;
+            String[] grown = Arrays.copyOf(categories, code + 1);
+            grown[code] = category;
+            // Published before any record refers to the code
+            categories = grown;
+            categoryCodes.put(category, code);
+        }
+        return code;
+    }
+
+    private int reuseOrWrite(ByteBuffer chunk, int field, boolean existed, String value) {
+        if (existed) {
+            int current = chunk.getInt(field);
+            if (Objects.equals(readString(current), value)) {
+                return current;
+            }
+        }
+        return writeString(value);
+    }
+
+    private int writeString(String value) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("String of " + bytes.length + " bytes cannot be stored");
+        }
+        int needed = Short.BYTES + bytes.length;
+        if (arenaPosition + needed > ARENA_CHUNK_BYTES) {
+            if (arena.length == MAX_ARENA_CHUNKS) {
+                throw new ArenaFullException();
+            }
+            ByteBuffer[] grown = Arrays.copyOf(arena, arena.length + 1);
+            grown[arena.length] = allocate(ARENA_CHUNK_BYTES);
+            arena = grown;
+            arenaPosition = 0;
+        }
+        int chunkIndex = arena.length - 1;
+        ByteBuffer chunk = arena[chunkIndex];
+        chunk.putShort(arenaPosition, (short) bytes.length);
+        chunk.put(arenaPosition + Short.BYTES, bytes);
+        int reference = chunkIndex << ARENA_CHUNK_SHIFT | arenaPosition;
+        arenaPosition += needed;
+        arenaBytesUsed += needed;
+        return reference;
+    }
+
+    private String readString(int reference) {
+        if (reference == NO_STRING) {
+            return null;
+        }
+        ByteBuffer chunk = arena[reference >>> ARENA_CHUNK_SHIFT];
+        int position = reference & (ARENA_CHUNK_BYTES - 1);
+        byte[] bytes = new byte[chunk.getShort(position) & 0xFFFF];
+        chunk.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void addName(String name, long id) {
+        if (name == null) {
+            return;
+        }
+        if ((nameSlotsUsed + 1) * 2 > names.capacity) {
+            rebuildNames();
+        }
+        NameTable table = names;
+        for (int i = table.index(name); ; i = (i + 1) & table.mask) {
+            long slot = table.get(i);
+            if (slot == EMPTY || slot == DELETED) {
+                if (slot == EMPTY) {
+                    nameSlotsUsed++;
+                }
+                table.set(i, id);
+                nameEntries++;
+                return;
+            }
+        }
+    }
+
+    private void removeName(String name, long id) {
+        if (name == null) {
+            return;
+        }
+        NameTable table = names;
+        for (int i = table.index(name); ; i = (i + 1) & table.mask) {
+            long slot = table.get(i);
+            if (slot == EMPTY) {
+                return;
+            }
+            if (slot == id) {
+                table.set(i, DELETED);
+                nameEntries--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copy the live entries into a table at most a quarter full and publish it; readers finish on the old one.
+     */
+    private void rebuildNames() {
+        NameTable old = names;
+        NameTable table = new NameTable(Math.max(MIN_NAME_SLOTS, Integer.highestOneBit((nameEntries + 1) * 4 - 1) << 1));
+        for (int i = 0; i < old.capacity; i++) {
+            long id = old.get(i);
+            if (id == EMPTY || id == DELETED) {
+                continue;
+            }
+            String name = readString(records[(int) (id >>> RECORDS_PER_CHUNK_SHIFT)].getInt(offset(id) + NAME));
+            int slot = table.index(name);
+            while (table.get(slot) != EMPTY) {
+                slot = (slot + 1) & table.mask;
+            }
+            table.set(slot, id);
+        }
+        nameSlotsUsed = nameEntries;
+        names = table;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time == null ? NO_TIME : time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        // Aligned so the sequence numbers and name slots can be read and written atomically
+        return ByteBuffer.allocateDirect(bytes + Long.BYTES - 1).alignedSlice(Long.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Thrown when the string arena has no room left.
+     */
+    static final class ArenaFullException extends IllegalStateException {
+
+        ArenaFullException() {
+            super("Replica string arena is full");
+        }
+    }
+
+    /**
+     * Open-addressing table of product ids keyed by name hash, with linear probing.
+     */
+    private static final class NameTable {
+
+        final int capacity;
+        final int mask;
+        final int shift;
+        final ByteBuffer slots;
+
+        NameTable(int capacity) {
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+            this.slots = allocate(capacity * Long.BYTES);
+        }
+
+        int index(String name) {
+            return (name.hashCode() * 0x9E3779B9) >>> shift;
+        }
+
+        long get(int index) {
+            return (long) LONGS.getAcquire(slots, index * Long.BYTES);
+        }
+
+        void set(int index, long id) {
+            LONGS.setRelease(slots, index * Long.BYTES, id);
+        }
+    }
+}
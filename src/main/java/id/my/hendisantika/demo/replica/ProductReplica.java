@@ -0,0 +1,238 @@
+package id.my.hendisantika.demo.replica;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.pool.ConnectionPool;
+import id.my.hendisantika.demo.pool.ConnectionPoolContext;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.util.CoalescingTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an {@link OffHeapProductStore} in step with the database.
+ * <p>
+ * The catalog is streamed into the store once the application is ready; until then every lookup goes to the
+ * database. Committed changes hide the product right away and it is read back in the next refresh, so a lookup
+ * never returns a version older than the caller's own committed write. Changes made on other nodes arrive through
+ * the cross-node cache invalidation.
+ */
+@Slf4j
+public class ProductReplica {
+
+    private static final String LOAD_SQL =
+            "SELECT id, sku, name, description, category, price, stock, created_at, updated_at FROM products";
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final Object lock = new Object();
+    private volatile OffHeapProductStore store;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CoalescingTask reloads;
+    private final ReplicaProperties properties;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public ProductReplica(ProductRepository productRepository, JdbcTemplate jdbcTemplate,
+                          TransactionTemplate readOnlyTransaction, AsyncTaskExecutor taskExecutor,
+                          ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.store = new OffHeapProductStore(properties.getMaxId());
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.reloads = new CoalescingTask(taskExecutor, this::load);
+        this.properties = properties;
+        Gauge.builder("product.replica.products", this, replica -> replica.store.size())
+                .description("Products held by the in-process replica")
+                .register(meterRegistry);
+        Gauge.builder("product.replica.memory", this, replica -> replica.store.recordBytes())
+                .description("Direct memory allocated by the in-process replica")
+                .baseUnit("bytes")
+                .tag("area", "records")
+                .register(meterRegistry);
+        Gauge.builder("product.replica.memory", this, replica -> replica.store.stringBytes())
+                .description("Direct memory allocated by the in-process replica")
+                .baseUnit("bytes")
+                .tag("area", "strings")
+                .register(meterRegistry);
+        Gauge.builder("product.replica.ready", this, replica -> replica.ready ? 1 : 0)
+                .description("Whether lookups are served by the in-process replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Product with the given id, or {@code null} when the replica cannot answer and the database must.
+     */
+    public Product findById(Long id) {
+        return ready && id != null ? store.get(id) : null;
+    }
+
+    /**
+     * A product with the given name, or {@code null} when the replica cannot answer and the database must.
+     */
+    public Product findByName(String name) {
+        return ready ? store.findByName(name) : null;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    OffHeapProductStore getStore() {
+        return store;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Load the whole catalog again in the background, answering nothing until it is done. A reload requested while
+     * one is running starts another once it finishes, as the running one may have read too early.
+     */
+    public void reload() {
+        synchronized (lock) {
+            reloads.markRequested();
+            ready = false;
+        }
+        reloads.startIfIdle();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChange(ProductChangeEvent event) {
+        if (event.productId() == null) {
+            return;
+        }
+        if (event.type() == ProductChangeEvent.ChangeType.DELETED) {
+            synchronized (lock) {
+                store.remove(event.productId());
+                // Stops a refresh that read the product before the delete from storing it again
+                pending.add(event.productId());
+            }
+        } else {
+            refresh(List.of(event.productId()));
+        }
+    }
+
+    /**
+     * Hide the given products until their current version has been read back.
+     */
+    public void refresh(Collection<Long> productIds) {
+        synchronized (lock) {
+            productIds.forEach(store::markDirty);
+            pending.addAll(productIds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.replica.refresh-interval:50ms}")
+    public void flush() {
+        if (!ready || pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size()));
+            try {
+                Set<Long> missing = new HashSet<>(batch);
+                for (Product product : productRepository.findAllById(batch)) {
+                    missing.remove(product.getId());
+                    storeUnlessChangedAgain(product.getId(), product);
+                }
+                missing.forEach(id -> storeUnlessChangedAgain(id, null));
+            } catch (OffHeapProductStore.ArenaFullException e) {
+                // Retrying cannot help: replaced strings are only reclaimed by loading a fresh store
+                log.warn("Replica string arena is full, reloading the replica");
+                pending.addAll(ids.subList(from, ids.size()));
+                reload();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh {} replicated products, will retry", batch.size(), e);
+                pending.addAll(batch);
+            }
+        }
+    }
+
+    /**
+     * A product changed again after it was read stays hidden; the next refresh reads it once more.
+     */
+    private void storeUnlessChangedAgain(Long id, Product product) {
+        synchronized (lock) {
+            if (pending.contains(id)) {
+                return;
+            }
+            if (product != null) {
+                store.put(product);
+            } else {
+                store.remove(id);
+            }
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        OffHeapProductStore loaded = new OffHeapProductStore(properties.getMaxId());
+        try {
+            ConnectionPoolContext.run(ConnectionPool.REPORTING, () ->
+                    readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                        PreparedStatement statement = connection.prepareStatement(LOAD_SQL);
+                        statement.setFetchSize(properties.getFetchSize());
+                        return statement;
+                    }, resultSet -> {
+                        loaded.put(toProduct(resultSet));
+                    })));
+        } catch (RuntimeException e) {
+            log.warn("Failed to load the product replica; lookups stay on the database", e);
+            return;
+        }
+        synchronized (lock) {
+            store = loaded;
+            // Changes committed while loading may have been loaded in their older version
+            pending.forEach(loaded::markDirty);
+            if (reloads.isRequested()) {
+                return;
+            }
+            ready = true;
+        }
+        log.info("Loaded {} products into the replica in {} ms: {} bytes of direct memory per product",
+                loaded.size(), (System.nanoTime() - start) / 1_000_000, Math.round(loaded.bytesPerProduct()));
+        flush();
+    }
+
+    private static Product toProduct(ResultSet resultSet) throws SQLException {
+        Timestamp createdAt = resultSet.getTimestamp("created_at");
+        Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+        return Product.builder()
+                .id(resultSet.getLong("id"))
+                .sku(resultSet.getString("sku"))
+                .name(resultSet.getString("name"))
+                .description(resultSet.getString("description"))
+                .category(resultSet.getString("category"))
+                .price(resultSet.getBigDecimal("price"))
+                .stock(resultSet.getObject("stock", Integer.class))
+                .createdAt(createdAt == null ? null : createdAt.toLocalDateTime())
+                .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+                .build();
+    }
+}
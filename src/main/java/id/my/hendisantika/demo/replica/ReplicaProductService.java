@@ -0,0 +1,122 @@
+package id.my.hendisantika.demo.replica;
+
+import id.my.hendisantika.demo.count.CountMode;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves lookups by id and name from the {@link ProductReplica}, falling back to the wrapped service when the
+ * replica cannot answer. Everything else is passed through unchanged.
+ */
+public class ReplicaProductService implements ProductService {
+
+    private final ProductService delegate;
+    private final ProductReplica replica;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReplicaProductService(ProductService delegate, ProductReplica replica, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.replica = replica;
+        this.hits = Counter.builder("product.replica.lookups")
+                .description("Product lookups by id or name, by whether the replica answered them")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("product.replica.lookups")
+                .description("Product lookups by id or name, by whether the replica answered them")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        Product product = replica.findById(id);
+        if (product != null) {
+            hits.increment();
+            return Optional.of(product);
+        }
+        misses.increment();
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Product> findByName(String name) {
+        Product product = replica.findByName(name);
+        if (product != null) {
+            hits.increment();
+            return Optional.of(product);
+        }
+        misses.increment();
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public Product saveProduct(Product product) {
+        return delegate.saveProduct(product);
+    }
+
+    @Override
+    public Page<Product> findAllProducts(Pageable pageable) {
+        return delegate.findAllProducts(pageable);
+    }
+
+    @Override
+    public Slice<Product> findAllProducts(Pageable pageable, CountMode countMode) {
+        return delegate.findAllProducts(pageable, countMode);
+    }
+
+    @Override
+    public Page<Product> findByCategory(String category, Pageable pageable) {
+        return delegate.findByCategory(category, pageable);
+    }
+
+    @Override
+    public Slice<Product> findByCategory(String category, Pageable pageable, CountMode countMode) {
+        return delegate.findByCategory(category, pageable, countMode);
+    }
+
+    @Override
+    public List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return delegate.findByPriceRange(minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findLowStockProducts(Integer threshold) {
+        return delegate.findLowStockProducts(threshold);
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findLowStockProductsAsync(Integer threshold) {
+        return delegate.findLowStockProductsAsync(threshold);
+    }
+
+    @Override
+    public Product updateStock(Long productId, Integer newStock) {
+        return delegate.updateStock(productId, newStock);
+    }
+
+    @Override
+    public void deleteProduct(Long id) {
+        delegate.deleteProduct(id);
+    }
+
+    @Override
+    public long countByCategory(String category) {
+        return delegate.countByCategory(category);
+    }
+
+    @Override
+    public List<Product> saveAllProducts(List<Product> products) {
+        return delegate.saveAllProducts(products);
+    }
+}
@@ -0,0 +1,34 @@
+package id.my.hendisantika.demo.replica;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process product replica.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether {@code findById} and {@code findByName} are served from an off-heap copy of the catalog.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Products with a larger id are not replicated and always read from the database.
+     */
+    private long maxId = 50_000_000;
+
+    /**
+     * How often changed products are read back into the replica. Until then they are read from the database.
+     */
+    private Duration refreshInterval = Duration.ofMillis(50);
+
+    /**
+     * Rows fetched per round trip while the replica is loaded.
+     */
+    private int fetchSize = 10_000;
+}
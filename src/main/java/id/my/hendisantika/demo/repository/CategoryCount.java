@@ -0,0 +1,11 @@
+package id.my.hendisantika.demo.repository;
+
+/**
+ * Projection of the number of products in a category.
+ */
+public interface CategoryCount {
+
+    String getCategory();
+
+    long getTotal();
+}
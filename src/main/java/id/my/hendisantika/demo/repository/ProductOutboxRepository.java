@@ -0,0 +1,52 @@
+package id.my.hendisantika.demo.repository;
+
+import id.my.hendisantika.demo.model.ProductOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the product change outbox.
+ */
+@Repository
+public interface ProductOutboxRepository extends JpaRepository<ProductOutboxEvent, Long> {
+
+    /**
+     * Read events after an offset, up to and including another, in offset order.
+     */
+    @Query("SELECT e FROM ProductOutboxEvent e WHERE e.id > :after AND e.id <= :upTo ORDER BY e.id")
+    List<ProductOutboxEvent> findRange(@Param("after") long after, @Param("upTo") long upTo, Limit limit);
+
+    /**
+     * Read events after an offset in offset order.
+     */
+    @Query("SELECT e FROM ProductOutboxEvent e WHERE e.id > :after ORDER BY e.id")
+    List<ProductOutboxEvent> findAfter(@Param("after") long after, Limit limit);
+
+    /**
+     * Highest offset written before a point in time, or 0; later offsets may still belong to open transactions.
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ProductOutboxEvent e WHERE e.createdAt < :before")
+    long findMaxOffsetBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Lowest offset still retained, or {@code null} when the outbox is empty.
+     */
+    @Query("SELECT MIN(e.id) FROM ProductOutboxEvent e")
+    Long findMinOffset();
+
+    /**
+     * Delete events older than the retention period.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductOutboxEvent e WHERE e.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,8 +2,10 @@ package id.my.hendisantika.demo.repository;
 
 import id.my.hendisantika.demo.model.Product;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
@@ -11,8 +13,11 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Product entity with optimized query methods for high performance.
@@ -21,32 +26,100 @@ import java.util.Optional;
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     /**
-     * Find product by name with query cache enabled.
+     * Find product by name.
      */
-    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Product> findByName(String name);
 
+    /**
+     * Find one page of all products without the count query (the total is known by the caller).
+     */
+    @Query("SELECT p FROM Product p")
+    List<Product> findPage(Pageable pageable);
+
+    /**
+     * Find one slice of all products; one row more than the page is read to tell whether another page follows.
+     */
+    Slice<Product> findSliceBy(Pageable pageable);
+
     /**
      * Find products by category with pagination support.
      */
     Page<Product> findByCategory(String category, Pageable pageable);
 
     /**
-     * Find products by price range with optimized query and cache enabled.
+     * Find one slice of products by category; one row more than the page is read to tell whether another page follows.
+     */
+    Slice<Product> findSliceByCategory(String category, Pageable pageable);
+
+    /**
+     * Find one page of products by category without the count query (the total is known by the caller).
+     */
+    @Query("SELECT p FROM Product p WHERE p.category = :category")
+    List<Product> findPageByCategory(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Find products by price range with optimized query.
      */
     @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price")
-    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Product> findByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
 
+    /**
+     * Stock level below which products are covered by the partial low-stock index.
+     */
+    int LOW_STOCK_CEILING = 10;
+
     /**
      * Find products with stock below threshold.
+     * <p>
+     * Thresholds up to {@link #LOW_STOCK_CEILING} repeat the index predicate as a literal, so even the generic
+     * plan of the prepared statement can use the partial index. A {@code null} threshold matches no product.
      */
+    default List<Product> findLowStockProducts(Integer threshold) {
+        return threshold != null && threshold <= LOW_STOCK_CEILING
+                ? findByStockBelowCeiling(threshold)
+                : findByStockBelow(threshold);
+    }
+
     @Query("SELECT p FROM Product p WHERE p.stock < :threshold")
-    List<Product> findLowStockProducts(@Param("threshold") Integer threshold);
+    List<Product> findByStockBelow(@Param("threshold") Integer threshold);
+
+    @Query("SELECT p FROM Product p WHERE p.stock < :threshold AND p.stock < " + LOW_STOCK_CEILING)
+    List<Product> findByStockBelowCeiling(@Param("threshold") Integer threshold);
 
     /**
-     * Count products by category with cache enabled.
+     * Count products by category.
      */
-    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     long countByCategory(String category);
+
+    /**
+     * Count products for several categories in one query; categories without products are absent.
+     */
+    @Query("SELECT p.category AS category, COUNT(p) AS total FROM Product p WHERE p.category IN :categories GROUP BY p.category")
+    List<CategoryCount> countByCategoryIn(@Param("categories") Collection<String> categories);
+
+    /**
+     * Find products changed after an (updatedAt, id) keyset position, up to and including {@code until}, in keyset order.
+     */
+    @Query("SELECT p FROM Product p WHERE (p.updatedAt, p.id) > (:updatedAt, :id) AND p.updatedAt <= :until "
+            + "ORDER BY p.updatedAt, p.id")
+    List<Product> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id,
+                                   @Param("until") LocalDateTime until, Limit limit);
+
+    /**
+     * Rows fetched per round trip by {@link #streamAll()}.
+     */
+    int STREAM_FETCH_SIZE = 10_000;
+
+    /**
+     * Stream every product through a server-side cursor, {@link #STREAM_FETCH_SIZE} rows per round trip.
+     * <p>
+     * Must be consumed inside a transaction, and the caller must clear the persistence context as it goes or every
+     * product stays in memory.
+     */
+    @Query("SELECT p FROM Product p")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Product> streamAll();
 }
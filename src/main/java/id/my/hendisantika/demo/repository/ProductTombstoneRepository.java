@@ -0,0 +1,36 @@
+package id.my.hendisantika.demo.repository;
+
+import id.my.hendisantika.demo.model.ProductTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for tombstones of deleted products.
+ */
+@Repository
+public interface ProductTombstoneRepository extends JpaRepository<ProductTombstone, Long> {
+
+    /**
+     * Read tombstones after a (deletedAt, id) keyset position, up to and including {@code until}, in keyset order.
+     */
+    @Query("SELECT t FROM ProductTombstone t WHERE (t.deletedAt, t.id) > (:deletedAt, :id) AND t.deletedAt <= :until "
+            + "ORDER BY t.deletedAt, t.id")
+    List<ProductTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt, @Param("id") long id,
+                                            @Param("until") LocalDateTime until, Limit limit);
+
+    /**
+     * Delete tombstones older than the retention period.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
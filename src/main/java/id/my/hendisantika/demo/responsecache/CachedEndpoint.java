@@ -0,0 +1,49 @@
+package id.my.hendisantika.demo.responsecache;
+
+/**
+ * Product endpoints whose encoded responses are cached, with the service cache each one is rendered from.
+ */
+public enum CachedEndpoint {
+
+    ALL_PRODUCTS("allProducts"),
+    PRODUCTS_BY_CATEGORY("productsByCategory");
+
+    private static final String ALL_PRODUCTS_PATH = "/api/products";
+    private static final String CATEGORY_PREFIX = ALL_PRODUCTS_PATH + "/category/";
+
+    private final String sourceCache;
+
+    CachedEndpoint(String sourceCache) {
+        this.sourceCache = sourceCache;
+    }
+
+    public String sourceCache() {
+        return sourceCache;
+    }
+
+    /**
+     * Endpoint served at the given request URI, or {@code null} if its responses are not cached.
+     */
+    public static CachedEndpoint forPath(String uri) {
+        if (uri.equals(ALL_PRODUCTS_PATH)) {
+            return ALL_PRODUCTS;
+        }
+        if (uri.startsWith(CATEGORY_PREFIX) && uri.indexOf('/', CATEGORY_PREFIX.length()) < 0
+                && uri.length() > CATEGORY_PREFIX.length()) {
+            return PRODUCTS_BY_CATEGORY;
+        }
+        return null;
+    }
+
+    /**
+     * Endpoint rendered from the named service cache, or {@code null} if none is.
+     */
+    public static CachedEndpoint forSourceCache(String cacheName) {
+        for (CachedEndpoint endpoint : values()) {
+            if (endpoint.sourceCache.equals(cacheName)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package id.my.hendisantika.demo.responsecache;
+
+/**
+ * An encoded response body as it was written to the client, plus its gzip encoding when one was worth making.
+ *
+ * @param contentType the negotiated content type, e.g. {@code application/json}
+ * @param body        the uncompressed body
+ * @param gzipBody    the gzip-compressed body, or {@code null}
+ */
+public record CachedResponse(String contentType, byte[] body, byte[] gzipBody) {
+
+    int weight() {
+        return body.length + (gzipBody == null ? 0 : gzipBody.length);
+    }
+}
@@ -0,0 +1,95 @@
+package id.my.hendisantika.demo.responsecache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded product list responses keyed by their canonical request.
+ * <p>
+ * Every endpoint has a generation that is part of the key. Evicting or clearing the service cache an
+ * endpoint is rendered from moves it to a new generation, so no response older than the eviction is served
+ * again, including one that was still being rendered from the old data when the eviction happened.
+ */
+@Slf4j
+public class ResponseCache {
+
+    private final Cache<Key, CachedResponse> cache;
+    private final Map<CachedEndpoint, AtomicLong> generations = new EnumMap<>(CachedEndpoint.class);
+    private final ResponseCacheProperties properties;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((Key key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        for (CachedEndpoint endpoint : CachedEndpoint.values()) {
+            generations.put(endpoint, new AtomicLong());
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responses");
+    }
+
+    /**
+     * Current generation of an endpoint. Read it before rendering a response and store the response under it.
+     */
+    public long generation(CachedEndpoint endpoint) {
+        return generations.get(endpoint).get();
+    }
+
+    public CachedResponse get(CachedEndpoint endpoint, String canonicalRequest) {
+        return cache.getIfPresent(new Key(endpoint, generation(endpoint), canonicalRequest));
+    }
+
+    /**
+     * Store a rendered response, compressing it once if gzip is enabled and the body is large enough.
+     * A response rendered under an earlier generation is stored but can no longer be looked up.
+     */
+    public void put(CachedEndpoint endpoint, long generation, String canonicalRequest, String contentType, byte[] body) {
+        byte[] gzipBody = properties.isGzip() && body.length >= properties.getGzipMinSize().toBytes() ? gzip(body) : null;
+        cache.put(new Key(endpoint, generation, canonicalRequest), new CachedResponse(contentType, body, gzipBody));
+    }
+
+    /**
+     * Drop every response of an endpoint.
+     */
+    public void invalidate(CachedEndpoint endpoint) {
+        long current = generations.get(endpoint).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.endpoint() == endpoint && key.generation() < current);
+        log.debug("Invalidated cached {} responses (generation {})", endpoint, current);
+    }
+
+    /**
+     * Wrap a service cache so that evicting or clearing it also invalidates the responses rendered from it.
+     * Caches no endpoint is rendered from are returned unchanged.
+     */
+    public org.springframework.cache.Cache invalidateWith(org.springframework.cache.Cache sourceCache) {
+        CachedEndpoint endpoint = CachedEndpoint.forSourceCache(sourceCache.getName());
+        return endpoint == null ? sourceCache : new ResponseInvalidatingCache(sourceCache, this, endpoint);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Key(CachedEndpoint endpoint, long generation, String canonicalRequest) {
+    }
+}
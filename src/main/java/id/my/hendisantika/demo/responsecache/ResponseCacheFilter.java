@@ -0,0 +1,101 @@
+package id.my.hendisantika.demo.responsecache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Serves product list responses from {@link ResponseCache} without reaching the controller, so a hit costs
+ * neither the service cache lookup nor Jackson serialization; the stored bytes (or their precompressed gzip copy)
+ * are copied straight to the client.
+ * <p>
+ * On a miss the response is buffered as it is written and stored if it is a complete {@code 200}.
+ */
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final ResponseCache responseCache;
+
+    /**
+     * Key of a request: path, query parameters in name order and the {@code Accept} header, which picks the encoding.
+     */
+    static String canonicalRequest(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                key.append(name).append('=').append(String.join(",", values)).append('&'));
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return key.append('|')
+                .append(accept == null ? "*/*" : accept.replace(" ", "").toLowerCase(Locale.ROOT))
+                .toString();
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().toLowerCase(Locale.ROOT))
+                .anyMatch(coding -> coding.equals("gzip")
+                        || coding.startsWith("gzip;") && !coding.replace(" ", "").matches("gzip;q=0(\\.0*)?"));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || CachedEndpoint.forPath(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CachedEndpoint endpoint = CachedEndpoint.forPath(request.getRequestURI());
+        String canonicalRequest = canonicalRequest(request);
+
+        CachedResponse cached = responseCache.get(endpoint, canonicalRequest);
+        if (cached != null) {
+            write(cached, acceptsGzip(request), response);
+            return;
+        }
+
+        // Read before rendering: an eviction while the response is being rendered makes it unreachable
+        long generation = responseCache.generation(endpoint);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && !request.isAsyncStarted()
+                    && wrapper.getContentType() != null) {
+                responseCache.put(endpoint, generation, canonicalRequest, wrapper.getContentType(),
+                        wrapper.getContentAsByteArray());
+            }
+            wrapper.setHeader(HttpHeaders.VARY, VARY);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void write(CachedResponse cached, boolean gzip, HttpServletResponse response) throws IOException {
+        byte[] body = gzip && cached.gzipBody() != null ? cached.gzipBody() : cached.body();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setHeader(HttpHeaders.VARY, VARY);
+        if (body != cached.body()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
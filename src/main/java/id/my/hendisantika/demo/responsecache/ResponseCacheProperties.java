@@ -0,0 +1,41 @@
+package id.my.hendisantika.demo.responsecache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the cache of encoded product list responses.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * Whether product list responses are served from the cache of encoded bodies.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long an encoded response is kept. Shorter than the service caches' expiry, so a response never
+     * outlives the entry it was rendered from by much.
+     */
+    private Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * Upper bound on the bytes held by the cache (identity and gzip bodies together).
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Whether a gzip copy of each body is compressed once when it is stored.
+     */
+    private boolean gzip = true;
+
+    /**
+     * Bodies smaller than this are only stored uncompressed.
+     */
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+}
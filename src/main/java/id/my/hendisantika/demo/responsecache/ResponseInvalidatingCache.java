@@ -0,0 +1,95 @@
+package id.my.hendisantika.demo.responsecache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Service cache decorator that invalidates the cached responses of an endpoint whenever an entry
+ * of the cache it is rendered from is evicted or the cache is cleared.
+ */
+class ResponseInvalidatingCache implements Cache {
+
+    private final Cache delegate;
+    private final ResponseCache responseCache;
+    private final CachedEndpoint endpoint;
+
+    ResponseInvalidatingCache(Cache delegate, ResponseCache responseCache, CachedEndpoint endpoint) {
+        this.delegate = delegate;
+        this.responseCache = responseCache;
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        responseCache.invalidate(endpoint);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        responseCache.invalidate(endpoint);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        responseCache.invalidate(endpoint);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        responseCache.invalidate(endpoint);
+        return invalidated;
+    }
+}
@@ -0,0 +1,24 @@
+package id.my.hendisantika.demo.service;
+
+import id.my.hendisantika.demo.count.CountMode;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Key of a cached {@code productsByCategory} page, so evictions and warm-up can read the category back without
+ * parsing strings. Renders as {@code category_page_size}, followed by the count mode unless it is exact.
+ */
+public record CategoryPageKey(String category, int page, int size, CountMode countMode) {
+
+    public static CategoryPageKey of(String category, Pageable pageable) {
+        return of(category, pageable, CountMode.EXACT);
+    }
+
+    public static CategoryPageKey of(String category, Pageable pageable, CountMode countMode) {
+        return new CategoryPageKey(category, pageable.getPageNumber(), pageable.getPageSize(), countMode);
+    }
+
+    @Override
+    public String toString() {
+        return category + "_" + page + "_" + size + countMode.cacheKeySuffix();
+    }
+}
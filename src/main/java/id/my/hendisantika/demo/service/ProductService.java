@@ -1,8 +1,10 @@
 package id.my.hendisantika.demo.service;
 
+import id.my.hendisantika.demo.count.CountMode;
 import id.my.hendisantika.demo.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -34,16 +36,33 @@ public interface ProductService {
      */
     Page<Product> findAllProducts(Pageable pageable);
 
+    /**
+     * Find all products with pagination, with the total obtained as the count mode says; a {@link Page} unless the
+     * mode is {@link CountMode#NONE}.
+     */
+    Slice<Product> findAllProducts(Pageable pageable, CountMode countMode);
+
     /**
      * Find products by category with pagination.
      */
     Page<Product> findByCategory(String category, Pageable pageable);
 
+    /**
+     * Find products by category with pagination, with the total obtained as the count mode says; a {@link Page}
+     * unless the mode is {@link CountMode#NONE}.
+     */
+    Slice<Product> findByCategory(String category, Pageable pageable, CountMode countMode);
+
     /**
      * Find products by price range.
      */
     List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
 
+    /**
+     * Find products with stock below the threshold.
+     */
+    List<Product> findLowStockProducts(Integer threshold);
+
     /**
      * Find products with low stock asynchronously.
      */
@@ -1,15 +1,23 @@
 package id.my.hendisantika.demo.service.impl;
 
+import id.my.hendisantika.demo.count.CountMode;
+import id.my.hendisantika.demo.count.ProductCounter;
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.event.ProductChangeEvent.ChangeType;
 import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.pool.ConnectionPool;
 import id.my.hendisantika.demo.repository.ProductRepository;
 import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,27 +25,54 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of ProductService with optimizations for high performance.
+ * Every method is timed as {@code product.service}, tagged with the method name.
+ * Every write publishes a {@link ProductChangeEvent}.
+ * Scans run on the reporting connection pool and bulk saves on the bulk pool, so neither can take the connections
+ * of point reads.
  */
 @Service
+@Timed(value = "product.service", description = "Latency of ProductService methods")
 @RequiredArgsConstructor
 @Slf4j
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductCounter productCounter;
 
     @Override
     @Transactional
     public Product saveProduct(Product product) {
+        ChangeType type = product.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
+        // Read the stored name and category before the merge copies the new ones onto the managed instance
+        Product previous = type == ChangeType.CREATED ? null
+                : productRepository.findById(product.getId()).filter(stored -> stored != product).orElse(null);
+        String previousName = previous == null ? null : previous.getName();
+        String previousCategory = previous == null ? null : previous.getCategory();
         if (product.getCreatedAt() == null) {
             product.setCreatedAt(LocalDateTime.now());
         }
         product.setUpdatedAt(LocalDateTime.now());
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(type == ChangeType.CREATED ? ProductChangeEvent.of(type, saved)
+                : updated(saved, previousName, previousCategory));
+        return saved;
+    }
+
+    /**
+     * Event for an update; a renamed or moved product is published without name or category, so that every node
+     * clears the cache still holding it under the old key.
+     */
+    private static ProductChangeEvent updated(Product saved, String previousName, String previousCategory) {
+        return new ProductChangeEvent(ChangeType.UPDATED, saved.getId(),
+                Objects.equals(previousName, saved.getName()) ? saved.getName() : null,
+                Objects.equals(previousCategory, saved.getCategory()) ? saved.getCategory() : null);
     }
 
     @Override
@@ -62,21 +97,56 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "productsByCategory", key = "#category + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "allProducts",
+            key = "#pageable.pageNumber + '_' + #pageable.pageSize + #countMode.cacheKeySuffix()")
+    public Slice<Product> findAllProducts(Pageable pageable, CountMode countMode) {
+        log.debug("Finding all products with pagination: {}, count mode: {}", pageable, countMode);
+        return switch (countMode) {
+            case EXACT -> productRepository.findAll(pageable);
+            case NONE -> productRepository.findSliceBy(pageable);
+            case ESTIMATED, CACHED -> withTotal(productRepository.findPage(pageable), pageable, null, countMode);
+        };
+    }
+
+    @Override
+    @Cacheable(value = "productsByCategory",
+            key = "T(id.my.hendisantika.demo.service.CategoryPageKey).of(#category, #pageable)")
     public Page<Product> findByCategory(String category, Pageable pageable) {
         log.debug("Finding products by category: {} with pagination: {}", category, pageable);
         return productRepository.findByCategory(category, pageable);
     }
 
     @Override
+    @Cacheable(value = "productsByCategory",
+            key = "T(id.my.hendisantika.demo.service.CategoryPageKey).of(#category, #pageable, #countMode)")
+    public Slice<Product> findByCategory(String category, Pageable pageable, CountMode countMode) {
+        log.debug("Finding products by category: {} with pagination: {}, count mode: {}", category, pageable, countMode);
+        return switch (countMode) {
+            case EXACT -> productRepository.findByCategory(category, pageable);
+            case NONE -> productRepository.findSliceByCategory(category, pageable);
+            case ESTIMATED, CACHED ->
+                    withTotal(productRepository.findPageByCategory(category, pageable), pageable, category, countMode);
+        };
+    }
+
+    @Override
+    @ConnectionPool(ConnectionPool.REPORTING)
     @Cacheable(value = "productsByPriceRange", key = "#minPrice.toString() + '_' + #maxPrice.toString()")
     public List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         log.debug("Finding products by price range: {} - {}", minPrice, maxPrice);
         return productRepository.findByPriceRange(minPrice, maxPrice);
     }
 
+    @Override
+    @ConnectionPool(ConnectionPool.REPORTING)
+    public List<Product> findLowStockProducts(Integer threshold) {
+        log.debug("Finding low stock products with threshold: {}", threshold);
+        return productRepository.findLowStockProducts(threshold);
+    }
+
     @Override
     @Async
+    @ConnectionPool(ConnectionPool.REPORTING)
     public CompletableFuture<List<Product>> findLowStockProductsAsync(Integer threshold) {
         log.debug("Finding low stock products asynchronously with threshold: {}", threshold);
         return CompletableFuture.completedFuture(productRepository.findLowStockProducts(threshold));
@@ -84,14 +154,15 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @CachePut(value = "products", key = "#productId")
     public Product updateStock(Long productId, Integer newStock) {
         log.debug("Updating stock for product ID: {} to {}", productId, newStock);
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
         product.setStock(newStock);
         product.setUpdatedAt(LocalDateTime.now());
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangeEvent.of(ChangeType.UPDATED, saved));
+        return saved;
     }
 
     @Override
@@ -101,6 +172,7 @@ public class ProductServiceImpl implements ProductService {
     public void deleteProduct(Long id) {
         log.debug("Deleting product with ID: {}", id);
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangeEvent.deleted(id));
     }
 
     @Override
@@ -112,15 +184,32 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
+    @ConnectionPool(ConnectionPool.BULK)
     public List<Product> saveAllProducts(List<Product> products) {
         log.debug("Bulk saving {} products", products.size());
         LocalDateTime now = LocalDateTime.now();
+        List<ChangeType> types = products.stream()
+                .map(product -> product.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED)
+                .toList();
         products.forEach(product -> {
             if (product.getCreatedAt() == null) {
                 product.setCreatedAt(now);
             }
             product.setUpdatedAt(now);
         });
-        return productRepository.saveAll(products);
+        List<Product> saved = productRepository.saveAll(products);
+        for (int i = 0; i < saved.size(); i++) {
+            eventPublisher.publishEvent(ProductChangeEvent.of(types.get(i), saved.get(i)));
+        }
+        return saved;
+    }
+
+    /**
+     * Like the repository's pages, the total is only asked for when the content does not tell it; it is never less
+     * than the products already listed, so an estimate that is too low cannot end the listing early.
+     */
+    private Page<Product> withTotal(List<Product> content, Pageable pageable, String category, CountMode countMode) {
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> Math.max(productCounter.count(category, countMode), pageable.getOffset() + content.size()));
     }
-}
\ No newline at end of file
+}
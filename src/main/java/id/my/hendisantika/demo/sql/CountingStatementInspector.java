@@ -0,0 +1,15 @@
+package id.my.hendisantika.demo.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares for the tracked scope. The SQL itself is left untouched.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementTracker.statementPrepared(sql);
+        return sql;
+    }
+}
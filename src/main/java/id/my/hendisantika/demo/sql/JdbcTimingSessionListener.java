@@ -0,0 +1,43 @@
+package id.my.hendisantika.demo.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures time spent waiting for a pooled connection and executing JDBC statements and batches.
+ * Hibernate creates one instance per session.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private transient long acquisitionStart;
+    private transient long executeStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        SqlStatementTracker.connectionAcquired(System.nanoTime() - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementTracker.jdbcTime(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementTracker.jdbcTime(System.nanoTime() - executeStart);
+    }
+}
@@ -0,0 +1,39 @@
+package id.my.hendisantika.demo.sql;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request SQL statement budget.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlBudgetProperties {
+
+    /**
+     * Whether statements are counted per request and tagged onto metrics.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of statements a single request may issue before it is flagged.
+     */
+    private int maxStatements = 10;
+
+    /**
+     * Largest table (in estimated rows) the query plan check lets a statement scan sequentially.
+     */
+    private long maxSeqScanRows = 10_000;
+
+    /**
+     * Budgets for individual endpoints, keyed by their URI pattern (e.g. {@code /api/products/{id}}).
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, maxStatements);
+    }
+}
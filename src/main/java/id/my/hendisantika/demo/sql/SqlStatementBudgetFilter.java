@@ -0,0 +1,81 @@
+package id.my.hendisantika.demo.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the statements, rows and JDBC time of every API request and records them per endpoint.
+ * Requests that issue more statements than their budget are logged and counted, which is how N+1
+ * patterns show up before they reach production traffic.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementTracker.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats stats = SqlStatementTracker.stop();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : UNKNOWN_ENDPOINT;
+        String method = request.getMethod();
+
+        DistributionSummary.builder("product.sql.statements")
+                .description("SQL statements issued per request")
+                .tags("endpoint", endpoint, "method", method)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("product.sql.rows")
+                .description("Entity rows fetched per request")
+                .tags("endpoint", endpoint, "method", method)
+                .register(meterRegistry)
+                .record(stats.getRowsFetched());
+        Timer.builder("product.sql.jdbc")
+                .description("Time spent executing JDBC statements per request")
+                .tags("endpoint", endpoint, "method", method)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.getStatements() > budget) {
+            Counter.builder("product.sql.budget.exceeded")
+                    .description("Requests that issued more SQL statements than their budget")
+                    .tags("endpoint", endpoint, "method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("SQL budget exceeded for {} {}: {} (budget {})", method, endpoint, stats, budget);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package id.my.hendisantika.demo.sql;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Database work performed on behalf of a single request or captured block.
+ * Instances are confined to the thread that started them.
+ */
+@Getter
+public class SqlStatementStats {
+
+    private long statements;
+    private long rowsFetched;
+    private long jdbcNanos;
+    private long connectionAcquireNanos;
+
+    /**
+     * SQL of every statement, only kept for scopes started with {@link SqlStatementTracker#captureSql}.
+     */
+    private final List<String> sql = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private final boolean keepSql;
+
+    SqlStatementStats() {
+        this(false);
+    }
+
+    SqlStatementStats(boolean keepSql) {
+        this.keepSql = keepSql;
+    }
+
+    void recordStatement(String statement) {
+        statements++;
+        if (keepSql) {
+            sql.add(statement);
+        }
+    }
+
+    void recordRows(long rows) {
+        rowsFetched += rows;
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void recordConnectionAcquireTime(long nanos) {
+        connectionAcquireNanos += nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements + ", rows=" + rowsFetched + ", jdbcMillis=" + jdbcNanos / 1_000_000;
+    }
+}
@@ -0,0 +1,124 @@
+package id.my.hendisantika.demo.sql;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound collector for SQL statistics.
+ * <p>
+ * The Hibernate hooks in this package report into whatever {@link SqlStatementStats} is active on the
+ * current thread; outside a tracked scope they do nothing. Tests can use {@link #capture(Runnable)} to
+ * assert how many statements a service call issues, e.g. that a category page costs at most two.
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Start tracking on the current thread, replacing any previous scope.
+     */
+    public static SqlStatementStats start() {
+        return start(false);
+    }
+
+    private static SqlStatementStats start(boolean keepSql) {
+        SqlStatementStats stats = new SqlStatementStats(keepSql);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop tracking on the current thread.
+     *
+     * @return the statistics of the scope that ended, or {@code null} if none was active
+     */
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Statistics of the active scope, or {@code null} when the current thread is not tracked.
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run a block and return the database work it caused.
+     */
+    public static SqlStatementStats capture(Runnable action) {
+        return capture(() -> {
+            action.run();
+            return null;
+        }).stats();
+    }
+
+    /**
+     * Run a block and return both its result and the database work it caused.
+     */
+    public static <T> Captured<T> capture(Supplier<T> action) {
+        return capture(action, false);
+    }
+
+    /**
+     * Run a block and return its statistics including the SQL of every statement, e.g. to EXPLAIN them.
+     */
+    public static SqlStatementStats captureSql(Runnable action) {
+        return capture(() -> {
+            action.run();
+            return null;
+        }, true).stats();
+    }
+
+    private static <T> Captured<T> capture(Supplier<T> action, boolean keepSql) {
+        SqlStatementStats outer = CURRENT.get();
+        SqlStatementStats stats = start(keepSql);
+        try {
+            return new Captured<>(action.get(), stats);
+        } finally {
+            if (outer != null) {
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void statementPrepared(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+    }
+
+    static void rowsFetched(long rows) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordRows(rows);
+        }
+    }
+
+    static void jdbcTime(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordJdbcTime(nanos);
+        }
+    }
+
+    static void connectionAcquired(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordConnectionAcquireTime(nanos);
+        }
+    }
+
+    /**
+     * Result of a captured block together with its statistics.
+     */
+    public record Captured<T>(T result, SqlStatementStats stats) {
+    }
+}
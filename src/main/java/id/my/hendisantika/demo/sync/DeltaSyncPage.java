@@ -0,0 +1,32 @@
+package id.my.hendisantika.demo.sync;
+
+import id.my.hendisantika.demo.model.Product;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of a delta sync.
+ */
+@Schema(description = "Products changed and deleted since the client's cursor")
+public record DeltaSyncPage(
+        @Schema(description = "Products created or updated, ordered by (updatedAt, id)")
+        List<Product> changed,
+        @Schema(description = "Products deleted, ordered by deletion time")
+        List<Deletion> deleted,
+        @Schema(description = "Cursor to pass on the next request; store it once hasMore is false")
+        String cursor,
+        @Schema(description = "Whether another page is available right away")
+        boolean hasMore,
+        @Schema(description = "The cursor was missing or too old: drop the local copy and rebuild it from these pages")
+        boolean reset,
+        @Schema(description = "Changes up to this time are included once hasMore is false", example = "2023-06-16T15:45:00")
+        LocalDateTime syncedUntil) {
+
+    /**
+     * A deleted product.
+     */
+    public record Deletion(Long productId, LocalDateTime deletedAt) {
+    }
+}
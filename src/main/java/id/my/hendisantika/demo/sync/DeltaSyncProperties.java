@@ -0,0 +1,45 @@
+package id.my.hendisantika.demo.sync;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the product delta-sync endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.delta-sync")
+public class DeltaSyncProperties {
+
+    /**
+     * Whether deletes leave tombstones and {@code /api/products/sync} is served.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Page size when the client does not ask for one.
+     */
+    private int defaultLimit = 500;
+
+    /**
+     * Largest page size a client may ask for.
+     */
+    private int maxLimit = 5000;
+
+    /**
+     * Changes younger than this are left for the next sync. Timestamps are taken before commit, so a
+     * transaction (or a node clock) lagging by more than this could otherwise land behind a client's cursor.
+     */
+    private Duration settleTime = Duration.ofSeconds(5);
+
+    /**
+     * How long tombstones are kept; clients whose cursor is older must reload their copy.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * How often tombstones past the retention period are deleted.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+}
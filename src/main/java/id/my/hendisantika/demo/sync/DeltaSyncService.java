@@ -0,0 +1,87 @@
+package id.my.hendisantika.demo.sync;
+
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.model.ProductTombstone;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.repository.ProductTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Answers "what changed since my cursor" with keyset pages over products (updatedAt, id) and tombstones
+ * (deletedAt, id), so a sync costs O(changes) instead of O(catalog).
+ * <p>
+ * Each page only covers changes older than the settle time. Once a keyset is exhausted its position moves
+ * to that bound, so the cursor a client keeps after the last page means "everything up to syncedUntil".
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DeltaSyncService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ProductRepository productRepository;
+    private final ProductTombstoneRepository tombstoneRepository;
+    private final DeltaSyncProperties properties;
+
+    /**
+     * Read the next page after a cursor, or after {@code since} when no cursor is given.
+     * Without either, or when the tombstone position is older than the retention, the client gets a reset
+     * and a full listing.
+     *
+     * @throws IllegalArgumentException when the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public DeltaSyncPage sync(String cursorToken, LocalDateTime since, Integer limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(properties.getSettleTime());
+
+        SyncCursor cursor = null;
+        if (cursorToken != null) {
+            cursor = SyncCursor.decode(cursorToken);
+        } else if (since != null) {
+            cursor = SyncCursor.at(since);
+        }
+        // Tombstones after an expired position may already be purged; the product position may be old legitimately
+        boolean reset = cursor == null || cursor.deletedAt().isBefore(now.minus(properties.getTombstoneRetention()));
+        if (reset) {
+            // An empty copy has nothing to delete
+            cursor = new SyncCursor(BEGINNING, 0, until, Long.MAX_VALUE);
+        }
+
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : properties.getDefaultLimit(), properties.getMaxLimit()));
+        List<Product> changed = productRepository.findChangedAfter(cursor.changedAt(), cursor.changedId(), until,
+                Limit.of(pageSize));
+        List<ProductTombstone> tombstones = tombstoneRepository.findDeletedAfter(cursor.deletedAt(), cursor.deletedId(),
+                until, Limit.of(pageSize));
+
+        boolean moreChanged = changed.size() == pageSize;
+        boolean moreDeleted = tombstones.size() == pageSize;
+        Product lastChanged = moreChanged ? changed.get(pageSize - 1) : null;
+        ProductTombstone lastDeleted = moreDeleted ? tombstones.get(pageSize - 1) : null;
+        SyncCursor next = new SyncCursor(
+                lastChanged != null ? lastChanged.getUpdatedAt() : until,
+                lastChanged != null ? lastChanged.getId() : Long.MAX_VALUE,
+                lastDeleted != null ? lastDeleted.getDeletedAt() : until,
+                lastDeleted != null ? lastDeleted.getId() : Long.MAX_VALUE);
+
+        List<DeltaSyncPage.Deletion> deleted = tombstones.stream()
+                .map(t -> new DeltaSyncPage.Deletion(t.getProductId(), t.getDeletedAt()))
+                .toList();
+        return new DeltaSyncPage(changed, deleted, next.encode(), moreChanged || moreDeleted, reset, until);
+    }
+
+    @Scheduled(fixedDelayString = "${app.delta-sync.cleanup-interval:1h}")
+    public void cleanup() {
+        int deleted = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(properties.getTombstoneRetention()));
+        if (deleted > 0) {
+            log.info("Removed {} product tombstones older than {}", deleted, properties.getTombstoneRetention());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package id.my.hendisantika.demo.sync;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position of a delta-sync client: the last (updatedAt, id) of changed products and the last
+ * (deletedAt, id) of tombstones it has seen. Sent to clients as an opaque URL-safe token.
+ */
+record SyncCursor(LocalDateTime changedAt, long changedId, LocalDateTime deletedAt, long deletedId) {
+
+    /**
+     * Position that has seen everything up to and including {@code time}.
+     */
+    static SyncCursor at(LocalDateTime time) {
+        return new SyncCursor(time, Long.MAX_VALUE, time, Long.MAX_VALUE);
+    }
+
+    String encode() {
+        String raw = changedAt + "|" + changedId + "|" + deletedAt + "|" + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode()}
+     */
+    static SyncCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed sync cursor: " + token);
+            }
+            return new SyncCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed sync cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package id.my.hendisantika.demo.sync;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.model.ProductTombstone;
+import id.my.hendisantika.demo.repository.ProductTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records a tombstone for every deleted product inside the transaction that deleted it.
+ */
+@RequiredArgsConstructor
+public class TombstoneWriter {
+
+    private final ProductTombstoneRepository tombstoneRepository;
+
+    @EventListener(condition = "#event.type() == T(id.my.hendisantika.demo.event.ProductChangeEvent.ChangeType).DELETED")
+    public void onProductDeleted(ProductChangeEvent event) {
+        tombstoneRepository.save(ProductTombstone.builder()
+                .productId(event.productId())
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,27 @@
+package id.my.hendisantika.demo.upsert;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the SKU-keyed bulk upsert.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulk-upsert")
+public class BulkUpsertProperties {
+
+    /**
+     * Whether {@code PUT /api/products/bulk} is served.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Largest number of items accepted in one request.
+     */
+    private int maxItems = 10_000;
+
+    /**
+     * Items sent to the database in one {@code INSERT ... ON CONFLICT} statement.
+     */
+    private int batchSize = 1000;
+}
@@ -0,0 +1,16 @@
+package id.my.hendisantika.demo.upsert;
+
+import java.util.List;
+
+/**
+ * Counts per status and the outcome of every item, in request order.
+ */
+public record BulkUpsertResult(int inserted, int updated, int unchanged, int rejected, List<UpsertOutcome> items) {
+
+    static BulkUpsertResult of(List<UpsertOutcome> items) {
+        int[] counts = new int[UpsertStatus.values().length];
+        items.forEach(item -> counts[item.status().ordinal()]++);
+        return new BulkUpsertResult(counts[UpsertStatus.INSERTED.ordinal()], counts[UpsertStatus.UPDATED.ordinal()],
+                counts[UpsertStatus.UNCHANGED.ordinal()], counts[UpsertStatus.REJECTED.ordinal()], items);
+    }
+}
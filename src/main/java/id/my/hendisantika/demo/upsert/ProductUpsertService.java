@@ -0,0 +1,168 @@
+package id.my.hendisantika.demo.upsert;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.event.ProductChangeEvent.ChangeType;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.pool.ConnectionPool;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Inserts or updates products matched by SKU and reports per item what happened.
+ * <p>
+ * Invalid items and repeated SKUs are rejected up front; the rest are written in batches of
+ * {@code app.bulk-upsert.batch-size} within one transaction, so a request applies completely or not at all.
+ * Items equal to the stored product are reported as unchanged and cost no write, no change event and no eviction.
+ */
+@Slf4j
+@Timed(value = "product.service", description = "Latency of ProductService methods")
+public class ProductUpsertService {
+
+    private static final int SKU_LENGTH = 64;
+    private static final int TEXT_LENGTH = 255;
+
+    private final ProductUpserter upserter;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final UpsertCacheEvictor cacheEvictor;
+    private final BulkUpsertProperties properties;
+
+    public ProductUpsertService(ProductUpserter upserter, ProductRepository productRepository,
+                                ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                                CacheManager cacheManager, BulkUpsertProperties properties) {
+        this.upserter = upserter;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheEvictor = new UpsertCacheEvictor(cacheManager);
+        this.properties = properties;
+    }
+
+    /**
+     * Upsert products by SKU.
+     *
+     * @throws IllegalArgumentException when the request has more than {@code app.bulk-upsert.max-items} items
+     */
+    @ConnectionPool(ConnectionPool.BULK)
+    public BulkUpsertResult upsert(List<Product> products) {
+        if (products.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxItems() + " products can be upserted at once");
+        }
+        UpsertOutcome[] outcomes = new UpsertOutcome[products.size()];
+        Map<String, Integer> indexBySku = new HashMap<>();
+        // Sorted, so concurrent upserts lock the rows they share in the same order
+        Map<String, Product> accepted = new TreeMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            String reason = validate(product);
+            if (reason == null && indexBySku.putIfAbsent(product.getSku(), i) != null) {
+                reason = "duplicate sku in request";
+            }
+            if (reason != null) {
+                outcomes[i] = UpsertOutcome.rejected(i, product == null ? null : product.getSku(), reason);
+            } else {
+                accepted.put(product.getSku(), product);
+            }
+        }
+
+        List<ProductUpserter.Change> changes = accepted.isEmpty()
+                ? List.of()
+                : transactionTemplate.execute(status -> write(new ArrayList<>(accepted.values())));
+        for (ProductUpserter.Change change : changes) {
+            int index = indexBySku.get(change.sku());
+            outcomes[index] = new UpsertOutcome(index, change.sku(),
+                    change.inserted() ? UpsertStatus.INSERTED : UpsertStatus.UPDATED, change.id(), null);
+        }
+        for (String sku : accepted.keySet()) {
+            int index = indexBySku.get(sku);
+            if (outcomes[index] == null) {
+                outcomes[index] = new UpsertOutcome(index, sku, UpsertStatus.UNCHANGED, null, null);
+            }
+        }
+        // After commit, so a concurrent reader cannot cache the old rows again
+        cacheEvictor.evict(changes, accepted);
+
+        BulkUpsertResult result = BulkUpsertResult.of(Arrays.asList(outcomes));
+        log.debug("Upserted {} products - inserted: {}, updated: {}, unchanged: {}, rejected: {}", products.size(),
+                result.inserted(), result.updated(), result.unchanged(), result.rejected());
+        return result;
+    }
+
+    private List<ProductUpserter.Change> write(List<Product> products) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductUpserter.Change> changes = new ArrayList<>();
+        for (int from = 0; from < products.size(); from += properties.getBatchSize()) {
+            List<Product> batch = products.subList(from, Math.min(from + properties.getBatchSize(), products.size()));
+            changes.addAll(upserter.upsert(batch, now));
+        }
+        if (changes.isEmpty()) {
+            return changes;
+        }
+        // One query for all changed rows; listeners that read a product back (the outbox writer) then find it
+        // in the persistence context
+        productRepository.findAllById(changes.stream().map(ProductUpserter.Change::id).toList());
+        Map<String, Product> productsBySku = new HashMap<>();
+        products.forEach(product -> productsBySku.put(product.getSku(), product));
+        for (ProductUpserter.Change change : changes) {
+            Product product = productsBySku.get(change.sku());
+            if (change.inserted()) {
+                eventPublisher.publishEvent(new ProductChangeEvent(ChangeType.CREATED, change.id(),
+                        product.getName(), product.getCategory(), true));
+            } else {
+                // A key that changed is unknown to other nodes' caches: they clear that cache instead
+                eventPublisher.publishEvent(new ProductChangeEvent(ChangeType.UPDATED, change.id(),
+                        Objects.equals(change.previousName(), product.getName()) ? product.getName() : null,
+                        Objects.equals(change.previousCategory(), product.getCategory()) ? product.getCategory() : null,
+                        true));
+            }
+        }
+        return changes;
+    }
+
+    private static String validate(Product product) {
+        if (product == null) {
+            return "empty item";
+        }
+        if (isBlank(product.getSku())) {
+            return "sku is required";
+        }
+        if (product.getSku().length() > SKU_LENGTH) {
+            return "sku is longer than " + SKU_LENGTH + " characters";
+        }
+        if (isBlank(product.getName())) {
+            return "name is required";
+        }
+        if (isBlank(product.getCategory())) {
+            return "category is required";
+        }
+        if (product.getPrice() == null || product.getPrice().signum() < 0) {
+            return "price must be zero or positive";
+        }
+        if (product.getStock() == null || product.getStock() < 0) {
+            return "stock must be zero or positive";
+        }
+        if (product.getName().length() > TEXT_LENGTH || product.getCategory().length() > TEXT_LENGTH
+                || product.getDescription() != null && product.getDescription().length() > TEXT_LENGTH) {
+            return "name, category and description are limited to " + TEXT_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,133 @@
+package id.my.hendisantika.demo.upsert;
+
+import id.my.hendisantika.demo.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a batch of products keyed by SKU with a single {@code INSERT ... ON CONFLICT DO UPDATE}.
+ * <p>
+ * The batch travels as one array per column and is expanded with {@code unnest}, so the statement text is the same
+ * for every batch size. Rows whose values equal the stored ones are skipped by the {@code WHERE} of the update:
+ * they are not rewritten, keep their {@code updated_at} and are not returned. The values a changed row had before
+ * are read from the statement's snapshot, so callers can evict exactly the cache entries it was listed under; a row
+ * without previous values was inserted ({@code xmax = 0} cannot be read from a partitioned table).
+ * <p>
+ * On the partitioned layout the unique SKU index includes the category, so the conflict target cannot match a
+ * product whose category changes. Those products are moved to their new category by an {@code UPDATE} first,
+ * which leaves nothing for the upsert to change.
+ */
+@RequiredArgsConstructor
+public class ProductUpserter {
+
+    private static final String INPUT_CTE = """
+            WITH input AS (
+                SELECT i.sku, i.name, i.description, i.category, i.price::numeric(38, 2) AS price, i.stock
+                FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[], ?::int[])
+                         AS i(sku, name, description, category, price, stock)
+            ),
+            previous AS (
+                SELECT p.id, p.sku, p.name, p.category, p.price
+                FROM products p
+                WHERE p.sku IN (SELECT sku FROM input)
+            )""";
+
+    private static final String UPSERT_SQL = INPUT_CTE + """
+            ,
+            upserted AS (
+                INSERT INTO products AS p (sku, name, description, category, price, stock, created_at, updated_at)
+                SELECT sku, name, description, category, price, stock, ?, ?
+                FROM input
+                ON CONFLICT (%s) DO UPDATE
+                    SET name = EXCLUDED.name, description = EXCLUDED.description, category = EXCLUDED.category,
+                        price = EXCLUDED.price, stock = EXCLUDED.stock, updated_at = EXCLUDED.updated_at
+                    WHERE (p.name, p.description, p.category, p.price, p.stock)
+                              IS DISTINCT FROM
+                          (EXCLUDED.name, EXCLUDED.description, EXCLUDED.category, EXCLUDED.price, EXCLUDED.stock)
+                RETURNING p.id, p.sku
+            )
+            SELECT u.id, u.sku, o.id IS NULL AS inserted, o.name AS previous_name, o.category AS previous_category,
+                   o.price AS previous_price
+            FROM upserted u
+                     LEFT JOIN previous o ON o.id = u.id
+            """;
+
+    private static final String MOVE_SQL = INPUT_CTE + """
+
+            UPDATE products p
+            SET name = i.name, description = i.description, category = i.category, price = i.price, stock = i.stock,
+                updated_at = ?
+            FROM input i
+                     JOIN previous o ON o.sku = i.sku
+            WHERE p.id = o.id
+              AND p.category = o.category
+              AND o.category <> i.category
+            RETURNING p.id, p.sku, false AS inserted, o.name AS previous_name, o.category AS previous_category,
+                      o.price AS previous_price
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean partitioned;
+    private volatile String upsertSql;
+
+    /**
+     * A product the statement inserted or changed, with the values it was cached under before.
+     */
+    public record Change(long id, String sku, boolean inserted, String previousName, String previousCategory,
+                         BigDecimal previousPrice) {
+    }
+
+    /**
+     * Upsert a batch of products with distinct SKUs. Must run inside a transaction.
+     *
+     * @return the inserted and changed products; unchanged ones are left out
+     */
+    public List<Change> upsert(List<Product> batch, LocalDateTime now) {
+        String sql = upsertSql();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Change> changes = new ArrayList<>();
+        if (partitioned) {
+            changes.addAll(query(MOVE_SQL, batch, timestamp));
+        }
+        changes.addAll(query(sql, batch, timestamp, timestamp));
+        return changes;
+    }
+
+    private List<Change> query(String sql, List<Product> batch, Timestamp... timestamps) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("varchar", batch.stream().map(Product::getSku).toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", batch.stream().map(Product::getName).toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar", batch.stream().map(Product::getDescription).toArray()));
+            statement.setArray(4, connection.createArrayOf("varchar", batch.stream().map(Product::getCategory).toArray()));
+            statement.setArray(5, connection.createArrayOf("numeric", batch.stream().map(Product::getPrice).toArray()));
+            statement.setArray(6, connection.createArrayOf("int4", batch.stream().map(Product::getStock).toArray()));
+            for (int i = 0; i < timestamps.length; i++) {
+                statement.setTimestamp(7 + i, timestamps[i]);
+            }
+            return statement;
+        }, (rs, rowNum) -> new Change(rs.getLong("id"), rs.getString("sku"), rs.getBoolean("inserted"),
+                rs.getString("previous_name"), rs.getString("previous_category"), rs.getBigDecimal("previous_price")));
+    }
+
+    /**
+     * The conflict target has to name the columns of the unique SKU index, which on the partitioned layout
+     * includes the category.
+     */
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String relkind = jdbcTemplate.queryForObject(
+                    "SELECT relkind::text FROM pg_class WHERE oid = 'products'::regclass", String.class);
+            partitioned = "p".equals(relkind);
+            upsertSql = UPSERT_SQL.formatted(partitioned ? "sku, category" : "sku");
+        }
+        return upsertSql;
+    }
+}
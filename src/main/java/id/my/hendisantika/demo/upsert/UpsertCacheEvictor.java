@@ -0,0 +1,103 @@
+package id.my.hendisantika.demo.upsert;
+
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.service.CategoryPageKey;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Evicts the cache entries a bulk upsert made stale, and only those: a product by id, its old and new name,
+ * the counts of categories it entered or left, the category pages and price ranges it was or is listed in.
+ * The unkeyed product pages are cleared as soon as anything changed.
+ */
+class UpsertCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    UpsertCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    void evict(List<ProductUpserter.Change> changes, Map<String, Product> productsBySku) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<String> listedCategories = new HashSet<>();
+        List<BigDecimal> listedPrices = new ArrayList<>();
+        for (ProductUpserter.Change change : changes) {
+            Product product = productsBySku.get(change.sku());
+            evict("products", change.id());
+            evict("productsByName", product.getName());
+            listedCategories.add(product.getCategory());
+            listedPrices.add(product.getPrice());
+            if (change.inserted()) {
+                evict("productCountByCategory", product.getCategory());
+                continue;
+            }
+            if (!Objects.equals(change.previousName(), product.getName())) {
+                evict("productsByName", change.previousName());
+            }
+            if (!Objects.equals(change.previousCategory(), product.getCategory())) {
+                evict("productCountByCategory", product.getCategory());
+                evict("productCountByCategory", change.previousCategory());
+                listedCategories.add(change.previousCategory());
+            }
+            listedPrices.add(change.previousPrice());
+        }
+        // Pages of every count mode; a key of another kind is dropped, which is always safe
+        evictKeys("productsByCategory", key -> !(key instanceof CategoryPageKey page)
+                || listedCategories.contains(page.category()));
+        // Keys are min_max (see ProductServiceImpl#findByPriceRange)
+        evictKeys("productsByPriceRange",
+                key -> listedPrices.stream().anyMatch(price -> inRange(String.valueOf(key), price)));
+        Cache allProducts = cacheManager.getCache("allProducts");
+        if (allProducts != null) {
+            allProducts.clear();
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void evictKeys(String cacheName, Predicate<Object> stale) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return;
+        }
+        // Copy first: evicting goes through the Spring cache (and its decorators) and modifies the map
+        List<Object> keys = new ArrayList<>(nativeCache.asMap().keySet());
+        for (Object key : keys) {
+            if (stale.test(key)) {
+                cache.evict(key);
+            }
+        }
+    }
+
+    private static boolean inRange(String key, BigDecimal price) {
+        if (price == null) {
+            return false;
+        }
+        int separator = key.indexOf('_');
+        try {
+            BigDecimal min = new BigDecimal(key.substring(0, separator));
+            BigDecimal max = new BigDecimal(key.substring(separator + 1));
+            return price.compareTo(min) >= 0 && price.compareTo(max) <= 0;
+        } catch (RuntimeException e) {
+            // Not a key this class understands; dropping it is always safe
+            return true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package id.my.hendisantika.demo.upsert;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk upsert.
+ *
+ * @param index  position of the item in the request
+ * @param sku    SKU of the item
+ * @param status what was done with it
+ * @param id     id of the inserted or updated product; absent for unchanged and rejected items
+ * @param reason why the item was rejected
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UpsertOutcome(int index, String sku, UpsertStatus status, Long id, String reason) {
+
+    static UpsertOutcome rejected(int index, String sku, String reason) {
+        return new UpsertOutcome(index, sku, UpsertStatus.REJECTED, null, reason);
+    }
+}
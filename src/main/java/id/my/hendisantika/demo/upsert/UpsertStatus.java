@@ -0,0 +1,8 @@
+package id.my.hendisantika.demo.upsert;
+
+/**
+ * What a bulk upsert did with one item.
+ */
+public enum UpsertStatus {
+    INSERTED, UPDATED, UNCHANGED, REJECTED
+}
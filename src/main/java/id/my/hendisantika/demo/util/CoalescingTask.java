@@ -0,0 +1,68 @@
+package id.my.hendisantika.demo.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a task in the background on request, at most once at a time. Requests made while the task runs are
+ * coalesced into one more run after it finishes, as the running one may have started too early.
+ */
+public class CoalescingTask {
+
+    private final Executor executor;
+    private final Runnable task;
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CoalescingTask(Executor executor, Runnable task) {
+        this.executor = executor;
+        this.task = task;
+    }
+
+    /**
+     * Request a run and start it unless one is already running.
+     */
+    public void request() {
+        markRequested();
+        startIfIdle();
+    }
+
+    /**
+     * Request a run without starting it, e.g. while holding a lock that {@link #isRequested()} is checked under;
+     * {@link #startIfIdle()} must follow unless the task is known to be running.
+     */
+    public void markRequested() {
+        requested.set(true);
+    }
+
+    /**
+     * Whether a run has been requested that has not started yet, so the result of the current one is already stale.
+     */
+    public boolean isRequested() {
+        return requested.get();
+    }
+
+    public void startIfIdle() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::runWhileRequested);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void runWhileRequested() {
+        do {
+            try {
+                while (requested.getAndSet(false)) {
+                    task.run();
+                }
+            } finally {
+                running.set(false);
+            }
+        } while (requested.get() && running.compareAndSet(false, true));
+    }
+}
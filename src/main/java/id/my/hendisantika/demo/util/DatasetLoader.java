@@ -0,0 +1,127 @@
+package id.my.hendisantika.demo.util;
+
+import id.my.hendisantika.demo.pool.ConnectionPool;
+import id.my.hendisantika.demo.pool.ConnectionPoolContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the products table with the synthetic dataset using PostgreSQL COPY.
+ * <p>
+ * Only runs when {@code app.dataset.enabled=true}, e.g.
+ * {@code ./mvnw spring-boot:run -Dspring-boot.run.arguments="--app.dataset.enabled=true --app.dataset.rows=10000000"}.
+ * The row range is split into chunks that are generated and copied in parallel, each chunk on its own
+ * connection from the bulk pool and committed on its own, so memory use stays flat regardless of the dataset size.
+ * Runs before the other startup runners so cache warm-up sees the loaded data.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.dataset", name = "enabled", havingValue = "true")
+public class DatasetLoader implements CommandLineRunner {
+
+    private static final String COPY_SQL = "COPY products (name, description, category, price, stock, created_at, updated_at) "
+            + "FROM STDIN WITH (FORMAT csv)";
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetProperties properties;
+
+    @Override
+    @ConnectionPool(ConnectionPool.BULK)
+    public void run(String... args) throws Exception {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Products table already contains {} rows, skipping dataset load", existing);
+            return;
+        }
+
+        long rows = properties.getRows();
+        int chunkSize = properties.getChunkSize();
+        long chunks = (rows + chunkSize - 1) / chunkSize;
+        log.info("Loading {} synthetic products (seed {}) in {} chunks with parallelism {}",
+                rows, properties.getSeed(), chunks, properties.getParallelism());
+
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(properties);
+        AtomicLong loaded = new AtomicLong();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long first = chunk * chunkSize;
+                long last = Math.min(rows, first + chunkSize);
+                futures.add(executor.submit(() -> {
+                    copyChunk(generator, first, last);
+                    long done = loaded.addAndGet(last - first);
+                    log.info("Loaded {}/{} products", done, rows);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dataset load failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // VACUUM also sets the visibility map, without which the covering indexes cannot answer index-only
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Dataset load complete: {} products in {} s ({} rows/s)",
+                rows, String.format("%.1f", seconds), Math.round(rows / seconds));
+    }
+
+    private void copyChunk(SyntheticProductGenerator generator, long firstRow, long lastRow) throws SQLException {
+        try (Connection connection = ConnectionPoolContext.call(ConnectionPool.BULK, dataSource::getConnection)) {
+            connection.setAutoCommit(true);
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+                for (long row = firstRow; row < lastRow; row++) {
+                    generator.row(row).appendCsv(buffer);
+                    if (buffer.length() >= FLUSH_BYTES) {
+                        write(copyIn, buffer);
+                    }
+                }
+                write(copyIn, buffer);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,54 @@
+package id.my.hendisantika.demo.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * Settings for the synthetic product dataset.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dataset")
+public class DatasetProperties {
+
+    /**
+     * Whether the dataset is loaded at startup. Off by default so normal boots stay fast.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of products to generate.
+     */
+    private long rows = 10_000;
+
+    /**
+     * Seed; the same seed and row count always produce the same rows.
+     */
+    private long seed = 42;
+
+    /**
+     * Number of rows generated and copied per chunk (one COPY and one commit per chunk).
+     */
+    private int chunkSize = 50_000;
+
+    /**
+     * Number of chunks loaded concurrently, each on its own connection.
+     */
+    private int parallelism = Math.min(8, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Skew of the category distribution (Zipf exponent; 0 is uniform).
+     */
+    private double categorySkew = 1.1;
+
+    /**
+     * Skew of the product name distribution (Zipf exponent; 0 is uniform).
+     */
+    private double nameSkew = 1.0;
+
+    /**
+     * Latest timestamp in the dataset; creation dates are spread over the two years before it.
+     */
+    private LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+}
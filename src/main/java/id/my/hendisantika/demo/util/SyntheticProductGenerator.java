@@ -0,0 +1,160 @@
+package id.my.hendisantika.demo.util;
+
+import id.my.hendisantika.demo.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of realistic product rows.
+ * <p>
+ * Every row is derived from {@code (seed, rowNumber)} only, so the dataset is identical no matter how
+ * it is split into chunks or how many threads generate it. Categories and product names follow Zipf
+ * distributions (a few dominate), prices are log-normal with a long tail and stock is skewed towards
+ * low values with a share of sold-out products.
+ */
+public class SyntheticProductGenerator {
+
+    private static final String[] CATEGORIES = {
+            "Electronics", "Clothing", "Books", "Home", "Sports", "Toys", "Beauty", "Grocery",
+            "Automotive", "Garden", "Health", "Office", "Pet Supplies", "Music", "Movies", "Jewelry",
+            "Shoes", "Tools", "Baby", "Outdoors", "Kitchen", "Furniture", "Video Games", "Crafts"
+    };
+    private static final String[] PRODUCT_NAMES = {
+            "Smartphone", "Laptop", "Headphones", "T-shirt", "Jeans", "Novel", "Textbook", "Sofa",
+            "Chair", "Basketball", "Football", "Doll", "Action Figure", "Shampoo", "Lotion", "Bread",
+            "Milk", "Car Parts", "Tools", "Plants", "Monitor", "Keyboard", "Mouse", "Backpack",
+            "Sneakers", "Watch", "Camera", "Blender", "Lamp", "Desk", "Tent", "Bicycle", "Helmet",
+            "Guitar", "Puzzle", "Board Game", "Perfume", "Vitamins", "Dog Food", "Cat Toy"
+    };
+    private static final String[] ADJECTIVES = {
+            "Classic", "Pro", "Ultra", "Mini", "Deluxe", "Eco", "Smart", "Compact", "Premium", "Basic"
+    };
+
+    private static final long ROW_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+    private static final double PRICE_MEDIAN = 30.0;
+    private static final double PRICE_SIGMA = 1.1;
+    private static final long MAX_PRICE_CENTS = 9_999_999L;
+    private static final double SOLD_OUT_SHARE = 0.05;
+    private static final double MEAN_STOCK = 120.0;
+    private static final int MAX_STOCK = 10_000;
+    private static final long CREATION_SPAN_SECONDS = 2L * 365 * 24 * 3600;
+
+    private final long seed;
+    private final LocalDateTime baseTime;
+    private final ZipfDistribution categories;
+    private final ZipfDistribution names;
+
+    public SyntheticProductGenerator(long seed, double categorySkew, double nameSkew, LocalDateTime baseTime) {
+        this.seed = seed;
+        this.baseTime = baseTime;
+        this.categories = new ZipfDistribution(CATEGORIES.length, categorySkew);
+        this.names = new ZipfDistribution(PRODUCT_NAMES.length, nameSkew);
+    }
+
+    public SyntheticProductGenerator(DatasetProperties properties) {
+        this(properties.getSeed(), properties.getCategorySkew(), properties.getNameSkew(), properties.getBaseTime());
+    }
+
+    /**
+     * Generate the row with the given zero-based number.
+     */
+    public Row row(long rowNumber) {
+        SplittableRandom random = random(rowNumber);
+
+        String category = CATEGORIES[categories.sample(random.nextDouble())];
+        String baseName = PRODUCT_NAMES[names.sample(random.nextDouble())];
+        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+        // The row number keeps names unique, which findByName relies on
+        String name = adjective + " " + baseName + " " + (rowNumber + 1);
+
+        double price = PRICE_MEDIAN * Math.exp(PRICE_SIGMA * gaussian(random));
+        long priceCents = Math.max(99, Math.min(MAX_PRICE_CENTS, Math.round(price * 100)));
+
+        int stock = random.nextDouble() < SOLD_OUT_SHARE
+                ? 0
+                : (int) Math.min(MAX_STOCK, Math.round(-Math.log(1.0 - random.nextDouble()) * MEAN_STOCK));
+
+        long ageSeconds = random.nextLong(CREATION_SPAN_SECONDS);
+        LocalDateTime createdAt = baseTime.minusSeconds(ageSeconds);
+        LocalDateTime updatedAt = createdAt.plusSeconds(random.nextLong(ageSeconds + 1));
+
+        return new Row(name, "Description for " + name, category, priceCents, stock, createdAt, updatedAt);
+    }
+
+    /**
+     * Random stream of one row. Seeds of neighbouring rows are hashed apart: seeds one gamma apart would give row
+     * {@code r + 1} the stream of row {@code r} shifted by one draw.
+     */
+    SplittableRandom random(long rowNumber) {
+        return new SplittableRandom(mix64(seed ^ (rowNumber * ROW_MULTIPLIER)));
+    }
+
+    private static long mix64(long z) {
+        // Stafford's variant 13 of the MurmurHash3 finalizer, as used by SplittableRandom
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    /**
+     * One generated product, with the price in cents.
+     */
+    public record Row(String name, String description, String category, long priceCents, int stock,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        public BigDecimal price() {
+            return BigDecimal.valueOf(priceCents, 2);
+        }
+
+        public Product toProduct() {
+            return Product.builder()
+                    .name(name)
+                    .description(description)
+                    .category(category)
+                    .price(price())
+                    .stock(stock)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        /**
+         * Append this row as a line of PostgreSQL COPY CSV.
+         */
+        public void appendCsv(StringBuilder out) {
+            appendQuoted(out, name).append(',');
+            appendQuoted(out, description).append(',');
+            appendQuoted(out, category).append(',');
+            out.append(priceCents / 100).append('.');
+            long cents = priceCents % 100;
+            if (cents < 10) {
+                out.append('0');
+            }
+            out.append(cents).append(',');
+            out.append(stock).append(',');
+            out.append(createdAt).append(',');
+            out.append(updatedAt).append('\n');
+        }
+
+        private static StringBuilder appendQuoted(StringBuilder out, String value) {
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.append('"');
+                }
+                out.append(c);
+            }
+            return out.append('"');
+        }
+    }
+}
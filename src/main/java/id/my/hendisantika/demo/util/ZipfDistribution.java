@@ -0,0 +1,33 @@
+package id.my.hendisantika.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Zipf distribution over ranks {@code 0..n-1}: rank {@code k} is drawn with probability proportional
+ * to {@code 1 / (k + 1)^exponent}. Sampling is a binary search over the precomputed CDF.
+ */
+public class ZipfDistribution {
+
+    private final double[] cdf;
+
+    public ZipfDistribution(int n, double exponent) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+    }
+
+    /**
+     * Map a uniform value in {@code [0, 1)} to a rank.
+     */
+    public int sample(double uniform) {
+        int index = Arrays.binarySearch(cdf, uniform);
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+}
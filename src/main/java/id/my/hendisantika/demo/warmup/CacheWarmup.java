@@ -0,0 +1,219 @@
+package id.my.hendisantika.demo.warmup;
+
+import id.my.hendisantika.demo.count.CountMode;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.CategoryCount;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.CategoryPageKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persists the hottest keys of the product caches at shutdown and prefetches them at startup.
+ * <p>
+ * Warm-up runs as an {@link ApplicationRunner}, so readiness only reports {@code UP} once it has finished
+ * (or {@code app.cache-warmup.timeout} has passed). Products are loaded in batches by id and category
+ * counts with one grouped query per batch; category pages reuse those counts as their totals.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.cache-warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmup implements ApplicationRunner {
+
+    static final String PRODUCTS = "products";
+    static final String PRODUCTS_BY_CATEGORY = "productsByCategory";
+    static final String PRODUCT_COUNT_BY_CATEGORY = "productCountByCategory";
+
+    private final CacheManager cacheManager;
+    private final ProductRepository productRepository;
+    private final CacheWarmupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Files.exists(properties.getFile())) {
+            log.info("No hot-key snapshot at {}, starting with cold caches", properties.getFile());
+            return;
+        }
+        HotKeySnapshot snapshot;
+        try {
+            snapshot = HotKeySnapshot.read(properties.getFile());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable hot-key snapshot {}", properties.getFile(), e);
+            return;
+        }
+        warmUp(snapshot);
+    }
+
+    /**
+     * Write the hottest keys while the caches are still populated.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        HotKeySnapshot snapshot = snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            snapshot.write(properties.getFile());
+            log.info("Wrote hot-key snapshot to {}: {} products, {} category pages, {} category counts",
+                    properties.getFile(), snapshot.productIds().size(), snapshot.categoryPages().size(),
+                    snapshot.countCategories().size());
+        } catch (IOException e) {
+            log.warn("Failed to write hot-key snapshot to {}", properties.getFile(), e);
+        }
+    }
+
+    /**
+     * Collect the hottest keys of the snapshotted caches.
+     */
+    HotKeySnapshot snapshot() {
+        List<Long> ids = new ArrayList<>();
+        for (Object key : hottestKeys(PRODUCTS)) {
+            if (key instanceof Long id) {
+                ids.add(id);
+            }
+        }
+        List<HotKeySnapshot.CategoryPage> pages = new ArrayList<>();
+        for (Object key : hottestKeys(PRODUCTS_BY_CATEGORY)) {
+            // Only exact pages: warm-up restores them with exact totals
+            if (key instanceof CategoryPageKey page && page.countMode() == CountMode.EXACT) {
+                pages.add(new HotKeySnapshot.CategoryPage(page.category(), page.page(), page.size()));
+            }
+        }
+        List<String> counts = hottestKeys(PRODUCT_COUNT_BY_CATEGORY).stream().map(String::valueOf).toList();
+        return new HotKeySnapshot(ids, pages, counts);
+    }
+
+    /**
+     * Prefetch the keys of a snapshot into the caches.
+     */
+    void warmUp(HotKeySnapshot snapshot) {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism());
+        try {
+            Map<String, Long> counts = Collections.synchronizedMap(new HashMap<>());
+            Set<String> categories = new LinkedHashSet<>(snapshot.countCategories());
+            snapshot.categoryPages().forEach(page -> categories.add(page.category()));
+
+            List<CompletableFuture<?>> batches = new ArrayList<>();
+            for (List<Long> ids : partition(snapshot.productIds())) {
+                batches.add(CompletableFuture.runAsync(() -> loadProducts(ids), executor));
+            }
+            for (List<String> batch : partition(new ArrayList<>(categories))) {
+                batches.add(CompletableFuture.runAsync(() -> counts.putAll(loadCounts(batch)), executor));
+            }
+            awaitAll(batches, start);
+
+            Cache countCache = cache(PRODUCT_COUNT_BY_CATEGORY);
+            snapshot.countCategories().forEach(category -> countCache.put(category, counts.getOrDefault(category, 0L)));
+
+            List<CompletableFuture<?>> pages = new ArrayList<>();
+            for (HotKeySnapshot.CategoryPage page : snapshot.categoryPages()) {
+                long total = counts.getOrDefault(page.category(), 0L);
+                pages.add(CompletableFuture.runAsync(() -> loadCategoryPage(page, total), executor));
+            }
+            awaitAll(pages, start);
+
+            log.info("Cache warm-up complete in {} ms: {} products, {} category pages, {} category counts",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), snapshot.productIds().size(),
+                    snapshot.categoryPages().size(), snapshot.countCategories().size());
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up did not finish within {}, continuing with partially warm caches",
+                    properties.getTimeout());
+        } catch (ExecutionException e) {
+            log.warn("Cache warm-up failed, continuing with partially warm caches", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void loadProducts(List<Long> ids) {
+        Cache cache = cache(PRODUCTS);
+        for (Product product : productRepository.findAllById(ids)) {
+            cache.put(product.getId(), product);
+        }
+    }
+
+    private Map<String, Long> loadCounts(List<String> categories) {
+        Map<String, Long> counts = new HashMap<>();
+        for (CategoryCount count : productRepository.countByCategoryIn(categories)) {
+            counts.put(count.getCategory(), count.getTotal());
+        }
+        return counts;
+    }
+
+    private void loadCategoryPage(HotKeySnapshot.CategoryPage page, long total) {
+        PageRequest pageable = PageRequest.of(page.page(), page.size());
+        List<Product> content = productRepository.findPageByCategory(page.category(), pageable);
+        // Same key as ProductServiceImpl#findByCategory
+        cache(PRODUCTS_BY_CATEGORY).put(CategoryPageKey.of(page.category(), pageable),
+                new PageImpl<>(content, pageable, total));
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> futures, long start)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long remaining = properties.getTimeout().toNanos() - (System.nanoTime() - start);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    private <T> List<List<T>> partition(List<T> values) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += properties.getBatchSize()) {
+            batches.add(values.subList(i, Math.min(values.size(), i + properties.getBatchSize())));
+        }
+        return batches;
+    }
+
+    private List<Object> hottestKeys(String cacheName) {
+        if (!(cache(cacheName).getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> cache)) {
+            return List.of();
+        }
+        return cache.policy().eviction()
+                .map(eviction -> eviction.hottest(properties.getMaxKeysPerCache()).entrySet().stream()
+                        .filter(entry -> !(entry.getValue() instanceof NullValue))
+                        .<Object>map(Map.Entry::getKey)
+                        .toList())
+                .orElse(List.of());
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,45 @@
+package id.my.hendisantika.demo.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the hot-key snapshot and the cache warm-up at startup.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache-warmup")
+public class CacheWarmupProperties {
+
+    /**
+     * Whether a snapshot is written at shutdown and replayed at startup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Snapshot file; should live on a volume that survives redeploys.
+     */
+    private Path file = Path.of("cache-snapshot.bin");
+
+    /**
+     * Number of hottest keys kept per cache.
+     */
+    private int maxKeysPerCache = 2000;
+
+    /**
+     * Number of ids or categories loaded per query.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Number of warm-up queries run concurrently.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Upper bound on how long warm-up may delay readiness.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+}
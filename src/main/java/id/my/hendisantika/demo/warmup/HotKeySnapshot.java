@@ -0,0 +1,124 @@
+package id.my.hendisantika.demo.warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hottest keys of the product caches, stored in a compact binary file.
+ * <p>
+ * Layout (big-endian): magic, product id count and ids, category page count and
+ * {@code (category, page, size)} entries, count category count and categories. Strings are
+ * length-prefixed UTF-8.
+ */
+public record HotKeySnapshot(List<Long> productIds, List<CategoryPage> categoryPages, List<String> countCategories) {
+
+    private static final int MAGIC = 0x484B5331; // "HKS1"
+
+    /**
+     * One cached page of {@code productsByCategory}.
+     */
+    public record CategoryPage(String category, int page, int size) {
+    }
+
+    public boolean isEmpty() {
+        return productIds.isEmpty() && categoryPages.isEmpty() && countCategories.isEmpty();
+    }
+
+    /**
+     * Write the snapshot to a temporary file and move it over the target, so a crash never leaves a partial file.
+     */
+    public void write(Path file) throws IOException {
+        List<byte[]> pageCategories = categoryPages.stream().map(page -> utf8(page.category())).toList();
+        List<byte[]> counts = countCategories.stream().map(HotKeySnapshot::utf8).toList();
+        int size = 4 + 4 + productIds.size() * Long.BYTES + 4 + 4;
+        for (byte[] category : pageCategories) {
+            size += 4 + category.length + 8;
+        }
+        for (byte[] category : counts) {
+            size += 4 + category.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putInt(productIds.size());
+        productIds.forEach(buffer::putLong);
+        buffer.putInt(categoryPages.size());
+        for (int i = 0; i < categoryPages.size(); i++) {
+            putBytes(buffer, pageCategories.get(i));
+            buffer.putInt(categoryPages.get(i).page());
+            buffer.putInt(categoryPages.get(i).size());
+        }
+        buffer.putInt(counts.size());
+        counts.forEach(category -> putBytes(buffer, category));
+        buffer.flip();
+
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a snapshot through a memory-mapped view of the file.
+     *
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static HotKeySnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("Not a hot-key snapshot: " + file);
+                }
+                int idCount = buffer.getInt();
+                List<Long> ids = new ArrayList<>(idCount);
+                for (int i = 0; i < idCount; i++) {
+                    ids.add(buffer.getLong());
+                }
+                int pageCount = buffer.getInt();
+                List<CategoryPage> pages = new ArrayList<>(pageCount);
+                for (int i = 0; i < pageCount; i++) {
+                    pages.add(new CategoryPage(getString(buffer), buffer.getInt(), buffer.getInt()));
+                }
+                int countCount = buffer.getInt();
+                List<String> counts = new ArrayList<>(countCount);
+                for (int i = 0; i < countCount; i++) {
+                    counts.add(getString(buffer));
+                }
+                return new HotKeySnapshot(ids, pages, counts);
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupt hot-key snapshot: " + file, e);
+            }
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+-- Schema previously generated by Hibernate (ddl-auto=update). IF NOT EXISTS lets databases created that way
+-- adopt migrations: they are baselined at version 0 and this script leaves their tables untouched.
+
+CREATE TABLE IF NOT EXISTS products (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    category    VARCHAR(255),
+    price       NUMERIC(38, 2),
+    stock       INTEGER,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_name ON products (name);
+CREATE INDEX IF NOT EXISTS idx_product_category ON products (category);
+CREATE INDEX IF NOT EXISTS idx_product_price ON products (price);
+CREATE INDEX IF NOT EXISTS idx_product_updated_at_id ON products (updated_at, id);
+
+CREATE TABLE IF NOT EXISTS product_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id  BIGINT       NOT NULL,
+    change_type VARCHAR(16)  NOT NULL CHECK (change_type IN ('CREATED', 'UPDATED', 'DELETED')),
+    payload     TEXT,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_outbox_created_at ON product_outbox (created_at);
+
+CREATE TABLE IF NOT EXISTS product_tombstones (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id BIGINT       NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_tombstone_deleted_at_id ON product_tombstones (deleted_at, id);
@@ -0,0 +1,14 @@
+-- Indexes shaped after the ProductRepository queries; QueryPlanIntegrationTest fails if one of them falls
+-- back to a sequential scan.
+
+-- findByCategory / findPageByCategory ordered by id, and the category counts (index-only)
+CREATE INDEX IF NOT EXISTS idx_product_category_id ON products (category, id);
+DROP INDEX IF EXISTS idx_product_category;
+
+-- findByPriceRange: ordered range scan that can answer from the index without visiting the heap
+CREATE INDEX IF NOT EXISTS idx_product_price_covering ON products (price)
+    INCLUDE (id, name, description, category, stock, created_at, updated_at);
+DROP INDEX IF EXISTS idx_product_price;
+
+-- findLowStockProducts: only the few rows under the low-stock ceiling (ProductRepository.LOW_STOCK_CEILING)
+CREATE INDEX IF NOT EXISTS idx_product_low_stock ON products (stock) WHERE stock < 10;
@@ -0,0 +1,22 @@
+-- External stock keeping unit, the key of bulk upserts (PUT /api/products/bulk). Existing products have none, and
+-- NULLs never conflict with each other.
+ALTER TABLE products ADD COLUMN IF NOT EXISTS sku VARCHAR(64);
+
+-- A unique index on a partitioned table (db/partitioning) must contain the partition key, so there SKUs are only
+-- unique per category and the upsert's conflict target follows the index
+DO
+$$
+    BEGIN
+        IF (SELECT relkind FROM pg_class WHERE oid = 'products'::regclass) = 'p' THEN
+            CREATE UNIQUE INDEX IF NOT EXISTS idx_product_sku ON products (sku, category);
+        ELSE
+            CREATE UNIQUE INDEX IF NOT EXISTS idx_product_sku ON products (sku);
+        END IF;
+    END
+$$;
+
+-- The entity now selects sku as well; keep findByPriceRange answerable from the covering index alone
+CREATE INDEX idx_product_price_covering_sku ON products (price)
+    INCLUDE (id, name, description, category, stock, created_at, updated_at, sku);
+DROP INDEX idx_product_price_covering;
+ALTER INDEX idx_product_price_covering_sku RENAME TO idx_product_price_covering;
@@ -0,0 +1,19 @@
+-- When the partitioned profile is switched on for a database already at V4, V3 runs out of order and rebuilds
+-- products with the V1 columns only. Keep the SKUs aside so V4_1 can put them back. On a new database, or one that
+-- is partitioned already, there is nothing to keep.
+DO
+$$
+    BEGIN
+        IF (SELECT relkind FROM pg_class WHERE oid = 'products'::regclass) = 'r'
+            AND EXISTS (SELECT 1
+                        FROM pg_attribute
+                        WHERE attrelid = 'products'::regclass
+                          AND attname = 'sku'
+                          AND NOT attisdropped) THEN
+            CREATE TABLE product_sku_before_partitioning AS
+            SELECT id, sku
+            FROM products
+            WHERE sku IS NOT NULL;
+        END IF;
+    END
+$$;
@@ -0,0 +1,87 @@
+-- Optional (spring profile "partitioned"): turn products into a table LIST-partitioned by category, so category
+-- queries are pruned to one partition and each partition is vacuumed on its own. The largest existing categories
+-- get their own partition, everything else (including NULL) lands in products_default. Split a category out of
+-- the default partition later with: CALL add_product_category_partition('Garden');
+--
+-- The primary key of a partitioned table must contain the partition key, so ids stay unique through the identity
+-- sequence alone: the identity is GENERATED ALWAYS, so an insert cannot pick an id that is taken in another
+-- partition, and the unique (id, category) index only holds per category. That index also serves lookups by id,
+-- but without a category such a lookup cannot be pruned and probes the index of every partition.
+
+ALTER TABLE products RENAME TO products_unpartitioned;
+ALTER TABLE products_unpartitioned RENAME CONSTRAINT products_pkey TO products_unpartitioned_pkey;
+ALTER SEQUENCE IF EXISTS products_id_seq RENAME TO products_unpartitioned_id_seq;
+
+CREATE TABLE products (
+    id          BIGINT GENERATED ALWAYS AS IDENTITY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    category    VARCHAR(255),
+    price       NUMERIC(38, 2),
+    stock       INTEGER,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+) PARTITION BY LIST (category);
+
+CREATE TABLE products_default PARTITION OF products DEFAULT;
+
+CREATE FUNCTION product_category_partition_name(p_category TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT 'products_' || left(regexp_replace(lower(p_category), '[^a-z0-9]+', '_', 'g'), 40) || '_'
+           || left(md5(p_category), 6)
+$$;
+
+DO
+$$
+    DECLARE
+        c TEXT;
+    BEGIN
+        FOR c IN SELECT category
+                 FROM products_unpartitioned
+                 WHERE category IS NOT NULL
+                 GROUP BY category
+                 ORDER BY count(*) DESC
+                 LIMIT 64
+            LOOP
+                EXECUTE format('CREATE TABLE %I PARTITION OF products FOR VALUES IN (%L)',
+                               product_category_partition_name(c), c);
+            END LOOP;
+    END
+$$;
+
+INSERT INTO products (id, name, description, category, price, stock, created_at, updated_at)
+    OVERRIDING SYSTEM VALUE
+SELECT id, name, description, category, price, stock, created_at, updated_at
+FROM products_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('products', 'id'), COALESCE(max(id), 0) + 1, false)
+FROM products;
+
+DROP TABLE products_unpartitioned;
+
+-- Same indexes as the plain table (V1, V2), created once on the parent and cascaded to every partition
+CREATE UNIQUE INDEX idx_product_id_category ON products (id, category);
+CREATE INDEX idx_product_name ON products (name);
+CREATE INDEX idx_product_category_id ON products (category, id);
+CREATE INDEX idx_product_price_covering ON products (price)
+    INCLUDE (id, name, description, category, stock, created_at, updated_at);
+CREATE INDEX idx_product_low_stock ON products (stock) WHERE stock < 10;
+CREATE INDEX idx_product_updated_at_id ON products (updated_at, id);
+
+-- Move a category out of the default partition into its own. Takes an exclusive lock on products while the
+-- category's rows are moved; run it off-peak for large categories.
+CREATE PROCEDURE add_product_category_partition(p_category TEXT)
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    ALTER TABLE products DETACH PARTITION products_default;
+    EXECUTE format('CREATE TABLE %I PARTITION OF products FOR VALUES IN (%L)',
+                   product_category_partition_name(p_category), p_category);
+    INSERT INTO products OVERRIDING SYSTEM VALUE SELECT * FROM products_default WHERE category = p_category;
+    DELETE FROM products_default WHERE category = p_category;
+    ALTER TABLE products ATTACH PARTITION products_default DEFAULT;
+END
+$$;
+
+ANALYZE products;
@@ -0,0 +1,36 @@
+-- Bring the SKU column and its indexes back after V3 ran out of order on a database already at V4 (see V2_9).
+-- On a database partitioned before V4 ran, V4 created all of this already and nothing changes.
+ALTER TABLE products ADD COLUMN IF NOT EXISTS sku VARCHAR(64);
+
+DO
+$$
+    BEGIN
+        IF to_regclass('product_sku_before_partitioning') IS NOT NULL THEN
+            UPDATE products p
+            SET sku = kept.sku
+            FROM product_sku_before_partitioning kept
+            WHERE p.id = kept.id;
+            DROP TABLE product_sku_before_partitioning;
+        END IF;
+    END
+$$;
+
+-- SKUs were unique across the table, so they are unique per category too
+CREATE UNIQUE INDEX IF NOT EXISTS idx_product_sku ON products (sku, category);
+
+-- V3 recreated the covering index without sku; keep findByPriceRange answerable from it alone
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_index i
+                                JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY (i.indkey)
+                       WHERE i.indexrelid = 'idx_product_price_covering'::regclass
+                         AND a.attname = 'sku') THEN
+            CREATE INDEX idx_product_price_covering_sku ON products (price)
+                INCLUDE (id, name, description, category, stock, created_at, updated_at, sku);
+            DROP INDEX idx_product_price_covering;
+            ALTER INDEX idx_product_price_covering_sku RENAME TO idx_product_price_covering;
+        END IF;
+    END
+$$;
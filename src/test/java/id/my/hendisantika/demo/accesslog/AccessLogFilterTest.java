@@ -0,0 +1,157 @@
+package id.my.hendisantika.demo.accesslog;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import id.my.hendisantika.demo.metrics.InstrumentedCache;
+import id.my.hendisantika.demo.metrics.RequestTimings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessLogFilterTest {
+
+    private static final String ENDPOINT = "/api/products/{id}";
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogFilter.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private AccessLogProperties properties;
+    private AccessLogFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+        accessLogger.setLevel(Level.INFO);
+        properties = new AccessLogProperties();
+        properties.setDefaultSampleRate(0);
+        properties.setSlowThreshold(Duration.ofMinutes(1));
+        filter = new AccessLogFilter(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(null);
+        RequestTimings.stop();
+    }
+
+    @Test
+    void doFilter_ShouldLogAtInfo_WhenEndpointIsSampled() throws Exception {
+        // Arrange
+        properties.getSampleRates().put(ENDPOINT, 1.0);
+
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // Assert
+        assertThat(appender.list).hasSize(1);
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(fields(event)).containsEntry("endpoint", ENDPOINT).containsEntry("status", 200)
+                .containsEntry("reason", "sampled");
+    }
+
+    @Test
+    void doFilter_ShouldLogNothing_WhenFastSuccessfulRequestIsNotSampled() throws Exception {
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // Assert
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void doFilter_ShouldLogAtWarn_WhenRequestIsSlow() throws Exception {
+        // Arrange
+        properties.setSlowThreshold(Duration.ZERO);
+
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // Assert
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(fields(event)).containsEntry("reason", "slow");
+        });
+    }
+
+    @Test
+    void doFilter_ShouldLogAtWarn_WhenRequestFailsOrAnswersServerError() throws Exception {
+        // Arrange
+        MockHttpServletResponse unavailable = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), unavailable, (req, res) -> unavailable.setStatus(503));
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Assert
+        assertThat(appender.list).hasSize(2).allSatisfy(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(fields(event)).containsEntry("reason", "error");
+        });
+        assertThat(fields(appender.list.get(0))).containsEntry("status", 503).doesNotContainKey("error");
+        assertThat(fields(appender.list.get(1))).containsEntry("status", 500)
+                .containsEntry("error", IllegalStateException.class.getName());
+    }
+
+    @Test
+    void doFilter_ShouldLogRecordedCacheOutcome_WhenAsyncRequestCompletes() throws Exception {
+        // Arrange
+        properties.setDefaultSampleRate(1.0);
+        InstrumentedCache cache = new InstrumentedCache(new ConcurrentMapCache("products"), new SimpleMeterRegistry());
+        cache.put(1L, "Lamp");
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+        RequestTimings.start();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            cache.get(1L);
+            req.startAsync();
+        });
+        RequestTimings.stop();
+        assertThat(appender.list).isEmpty();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // Assert
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(fields(event)).containsEntry("cache", "hit"));
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ENDPOINT);
+        return request;
+    }
+
+    private static Map<String, Object> fields(ILoggingEvent event) {
+        Map<String, Object> fields = new HashMap<>();
+        for (KeyValuePair pair : event.getKeyValuePairs()) {
+            fields.put(pair.key, pair.value);
+        }
+        return fields;
+    }
+}
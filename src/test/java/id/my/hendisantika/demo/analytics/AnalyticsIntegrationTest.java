@@ -0,0 +1,111 @@
+package id.my.hendisantika.demo.analytics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AnalyticsIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void aggregate_ShouldComputePerCategoryAggregates_WhenSnapshotIsRefreshed() throws Exception {
+        // Arrange
+        productRepository.saveAll(List.of(
+                product("Analytics Laptop", "Analytics Electronics", "1000.00", 2),
+                product("Analytics Phone", "Analytics Electronics", "500.00", 4),
+                product("Analytics Novel", "Analytics Books", "15.00", 100)));
+        Instant before = Instant.now();
+        mockMvc.perform(post("/api/products/analytics/refresh")).andExpect(status().isAccepted());
+        awaitSnapshotAfter(before);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/products/analytics")
+                        .param("groupBy", "category")
+                        .param("minPrice", "100")
+                        .param("percentiles", "50,100"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        AnalyticsResult result = objectMapper.readValue(body, AnalyticsResult.class);
+
+        // Assert
+        assertThat(result.rowsScanned()).isEqualTo(3);
+        assertThat(result.rowsMatched()).isEqualTo(2);
+        assertThat(result.groups()).singleElement().satisfies(group -> {
+            assertThat(group.category()).isEqualTo("Analytics Electronics");
+            assertThat(group.count()).isEqualTo(2);
+            assertThat(group.averagePrice()).isEqualByComparingTo("750.00");
+            assertThat(group.totalStock()).isEqualTo(6);
+            assertThat(group.stockValue()).isEqualByComparingTo("4000.00");
+            assertThat(group.pricePercentiles().get("p50")).isEqualByComparingTo("500.00");
+            assertThat(group.pricePercentiles().get("p100")).isEqualByComparingTo("1000.00");
+        });
+    }
+
+    @Test
+    void aggregate_ShouldReturnBadRequest_WhenQueryIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/products/analytics").param("groupBy", "name"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/analytics").param("minPrice", "10").param("maxPrice", "1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/analytics").param("percentiles", "150"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void awaitSnapshotAfter(Instant instant) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (analyticsService.snapshotTakenAt().filter(takenAt -> !takenAt.isBefore(instant)).isEmpty()) {
+            assertThat(System.currentTimeMillis()).as("timed out waiting for the snapshot").isLessThan(deadline);
+            // A refresh that was already running when this one was requested may have been skipped
+            analyticsService.refresh();
+            Thread.sleep(20);
+        }
+    }
+
+    private static Product product(String name, String category, String price, int stock) {
+        return Product.builder()
+                .name(name)
+                .category(category)
+                .price(new BigDecimal(price))
+                .stock(stock)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
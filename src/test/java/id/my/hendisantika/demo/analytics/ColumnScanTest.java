@@ -0,0 +1,127 @@
+package id.my.hendisantika.demo.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnScanTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void scan_ShouldAggregatePerCategory_WhenGroupedByCategory() {
+        // Arrange
+        ProductColumns.Builder builder = ProductColumns.builder();
+        builder.add("Books", new BigDecimal("10.00"), 5);
+        builder.add("Books", new BigDecimal("20.00"), 1);
+        builder.add("Books", null, 7);
+        builder.add("Toys", new BigDecimal("3.50"), null);
+        builder.add(null, new BigDecimal("1.00"), 2);
+        AnalyticsQuery query = new AnalyticsQuery(null, null, null, null, null, true, List.of(50.0));
+
+        // Act
+        List<AnalyticsResult.Group> groups = run(builder.build(Instant.now()), query, 1);
+
+        // Assert
+        assertThat(groups).extracting(AnalyticsResult.Group::category).containsExactly("Books", "Toys", null);
+        AnalyticsResult.Group books = groups.get(0);
+        assertThat(books.count()).isEqualTo(3);
+        assertThat(books.averagePrice()).isEqualByComparingTo("15.00");
+        assertThat(books.minPrice()).isEqualByComparingTo("10.00");
+        assertThat(books.maxPrice()).isEqualByComparingTo("20.00");
+        assertThat(books.totalStock()).isEqualTo(13);
+        assertThat(books.stockValue()).isEqualByComparingTo("70.00");
+        assertThat(books.pricePercentiles()).containsOnlyKeys("p50");
+        assertThat(books.pricePercentiles().get("p50")).isEqualByComparingTo("10.00");
+        assertThat(groups.get(1).totalStock()).isZero();
+        assertThat(groups.get(1).stockValue()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void scan_ShouldMatchSequentialAggregation_WhenRowsAreSplitAcrossTasks() {
+        // Arrange
+        Random random = new Random(11);
+        List<String> categories = List.of("Electronics", "Books", "Garden", "Toys");
+        ProductColumns.Builder builder = ProductColumns.builder();
+        long count = 0;
+        long priceSum = 0;
+        long priced = 0;
+        long stockValue = 0;
+        for (int row = 0; row < 100_000; row++) {
+            String category = categories.get(random.nextInt(categories.size()));
+            long cents = random.nextInt(100_000);
+            int stock = random.nextInt(500);
+            builder.add(category, BigDecimal.valueOf(cents, 2), stock);
+            if (!category.equals("Toys") && cents >= 1_000 && stock <= 250) {
+                count++;
+                priced++;
+                priceSum += cents;
+                stockValue += cents * stock;
+            }
+        }
+        AnalyticsQuery query = new AnalyticsQuery(Set.of("Electronics", "Books", "Garden", "Unknown"),
+                new BigDecimal("10.00"), null, null, 250, false, List.of(100.0));
+
+        // Act
+        List<AnalyticsResult.Group> forked = run(builder.build(Instant.now()), query, 1_000);
+        List<AnalyticsResult.Group> single = run(builder.build(Instant.now()), query, Integer.MAX_VALUE);
+
+        // Assert
+        assertThat(forked).isEqualTo(single);
+        AnalyticsResult.Group all = forked.get(0);
+        assertThat(all.category()).isNull();
+        assertThat(all.count()).isEqualTo(count);
+        assertThat(all.averagePrice()).isEqualByComparingTo(BigDecimal.valueOf(priceSum, 2)
+                .divide(BigDecimal.valueOf(priced), 2, RoundingMode.HALF_UP));
+        assertThat(all.stockValue()).isEqualByComparingTo(BigDecimal.valueOf(stockValue, 2));
+        assertThat(all.pricePercentiles().get("p100")).isEqualByComparingTo(all.maxPrice());
+    }
+
+    @Test
+    void scan_ShouldReturnEmptyGroup_WhenNothingMatches() {
+        // Arrange
+        ProductColumns.Builder builder = ProductColumns.builder();
+        builder.add("Books", new BigDecimal("10.00"), 5);
+        AnalyticsQuery query = new AnalyticsQuery(null, new BigDecimal("50"), new BigDecimal("60"), null, null,
+                false, List.of(90.0));
+
+        // Act
+        List<AnalyticsResult.Group> groups = run(builder.build(Instant.now()), query, 1);
+
+        // Assert
+        assertThat(groups).singleElement().satisfies(group -> {
+            assertThat(group.count()).isZero();
+            assertThat(group.averagePrice()).isNull();
+            assertThat(group.pricePercentiles()).isEmpty();
+        });
+    }
+
+    @Test
+    void query_ShouldRejectInvalidBoundsAndPercentiles() {
+        assertThatThrownBy(() -> new AnalyticsQuery(null, BigDecimal.TEN, BigDecimal.ONE, null, null, false, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AnalyticsQuery(null, null, null, 5, 1, false, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AnalyticsQuery(null, null, null, null, null, false, List.of(0.0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<AnalyticsResult.Group> run(ProductColumns columns, AnalyticsQuery query, int splitThreshold) {
+        return pool.invoke(ColumnScan.of(columns, query, splitThreshold)).groups(columns, query);
+    }
+}
@@ -0,0 +1,85 @@
+package id.my.hendisantika.demo.batch;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BatchIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void runBatch_ShouldReturnResultPerOperation_WhenScreenNeedsSeveralReads() throws Exception {
+        // Arrange
+        Product lamp = productRepository.save(Product.builder()
+                .name("Batch Lamp")
+                .category("Batch Home")
+                .price(new BigDecimal("15.00"))
+                .stock(2)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        String body = """
+                [
+                  {"id": "product", "type": "PRODUCT", "productId": %d},
+                  {"id": "page", "type": "CATEGORY", "category": "Batch Home", "size": 10},
+                  {"id": "count", "type": "COUNT_BY_CATEGORY", "category": "Batch Home"},
+                  {"id": "again", "type": "PRODUCT", "productId": %d, "timeoutMillis": 1000},
+                  {"id": "low", "type": "LOW_STOCK", "threshold": 5},
+                  {"id": "missing", "type": "PRODUCT", "productId": 999}
+                ]
+                """.formatted(lamp.getId(), lamp.getId());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/products/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operations").value(6))
+                .andExpect(jsonPath("$.executed").value(5))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].body.name").value("Batch Lamp"))
+                .andExpect(jsonPath("$.results[1].body.content", hasSize(1)))
+                .andExpect(jsonPath("$.results[2].body").value(1))
+                .andExpect(jsonPath("$.results[3].deduplicated").value(true))
+                .andExpect(jsonPath("$.results[3].body.id").value(lamp.getId()))
+                .andExpect(jsonPath("$.results[4].body[0].id").value(lamp.getId()))
+                .andExpect(jsonPath("$.results[5].status").value(404));
+    }
+
+    @Test
+    void runBatch_ShouldReturnBadRequest_WhenBatchIsEmpty() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/products/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,173 @@
+package id.my.hendisantika.demo.batch;
+
+import id.my.hendisantika.demo.limiter.Bulkhead;
+import id.my.hendisantika.demo.limiter.EndpointClass;
+import id.my.hendisantika.demo.limiter.GradientLimit;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchServiceTest {
+
+    @Mock
+    private ProductService productService;
+
+    private BatchProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BatchProperties();
+        properties.setMaxOperations(5);
+        meterRegistry = new SimpleMeterRegistry();
+        batchService = new BatchService(productService, null, properties, meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldRunIdenticalOperationsOnce_WhenOnlyLabelsAndTimeoutsDiffer() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Lamp").build();
+        when(productService.findById(1L)).thenReturn(Optional.of(product));
+        when(productService.findByPriceRange(any(), any())).thenReturn(List.of(product));
+
+        // Act
+        BatchResponse response = batchService.execute(List.of(
+                operation("a", BatchOperationType.PRODUCT).productId(1L).build(),
+                operation("b", BatchOperationType.PRODUCT).productId(1L).timeoutMillis(500L).build(),
+                operation("c", BatchOperationType.PRICE_RANGE).minPrice(new BigDecimal("1.0")).maxPrice(new BigDecimal("5")).build(),
+                operation("d", BatchOperationType.PRICE_RANGE).minPrice(new BigDecimal("1")).maxPrice(new BigDecimal("5.00")).build()));
+
+        // Assert
+        assertThat(response.operations()).isEqualTo(4);
+        assertThat(response.executed()).isEqualTo(2);
+        assertThat(response.results()).extracting(BatchResult::id).containsExactly("a", "b", "c", "d");
+        assertThat(response.results()).extracting(BatchResult::status).containsOnly(200);
+        assertThat(response.results()).extracting(BatchResult::deduplicated).containsExactly(false, true, false, true);
+        assertThat(response.results().get(1).body()).isSameAs(product);
+        verify(productService, times(1)).findById(1L);
+        verify(productService, times(1)).findByPriceRange(any(), any());
+        assertThat(meterRegistry.get("product.batch.operations").tag("outcome", "deduplicated").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void execute_ShouldTimeOutAndCancelSlowOperation_WhenOthersSucceed() throws InterruptedException {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(productService.countByCategory("Slow")).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 1L;
+        });
+        when(productService.countByCategory("Fast")).thenReturn(3L);
+
+        // Act
+        long start = System.nanoTime();
+        BatchResponse response = batchService.execute(List.of(
+                operation("slow", BatchOperationType.COUNT_BY_CATEGORY).category("Slow").timeoutMillis(100L).build(),
+                operation("fast", BatchOperationType.COUNT_BY_CATEGORY).category("Fast").build()));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(504, 200);
+        assertThat(response.results().get(1).body()).isEqualTo(3L);
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void execute_ShouldAnswerPerOperation_WhenOperationIsInvalidOrProductMissing() {
+        // Arrange
+        when(productService.findByName("Missing")).thenReturn(Optional.empty());
+
+        // Act
+        BatchResponse response = batchService.execute(List.of(
+                operation(null, BatchOperationType.PRODUCT).build(),
+                operation(null, BatchOperationType.CATEGORY).category("Books").page(-1).build(),
+                operation(null, BatchOperationType.PRODUCT_BY_NAME).name("Missing").build()));
+
+        // Assert
+        assertThat(response.results()).extracting(BatchResult::id).containsExactly("0", "1", "2");
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(400, 400, 404);
+        assertThat(response.results().get(0).error()).isEqualTo("productId is required");
+        assertThat(response.executed()).isEqualTo(1);
+        verify(productService, never()).findByCategory(any(), any());
+    }
+
+    @Test
+    void execute_ShouldAnswerServiceUnavailable_WhenReadBulkheadIsFull() {
+        // Arrange
+        Bulkhead readBulkhead = new Bulkhead(EndpointClass.READ, new GradientLimit(1, 1, 1, 0.2, 1.5, 600));
+        batchService = new BatchService(productService, readBulkhead, properties, meterRegistry);
+        readBulkhead.tryAcquire();
+
+        // Act
+        BatchResponse response = batchService.execute(List.of(
+                operation("low", BatchOperationType.LOW_STOCK).threshold(5).build()));
+
+        // Assert
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(503);
+        assertThat(readBulkhead.getRejectedCount()).isEqualTo(1);
+        verify(productService, never()).findLowStockProducts(any());
+    }
+
+    @Test
+    void execute_ShouldReleaseReadPermit_WhenOperationFinishes() {
+        // Arrange
+        properties.setParallelism(1);
+        Bulkhead readBulkhead = new Bulkhead(EndpointClass.READ, new GradientLimit(1, 1, 1, 0.2, 1.5, 600));
+        batchService = new BatchService(productService, readBulkhead, properties, meterRegistry);
+        when(productService.findLowStockProducts(5)).thenReturn(List.of());
+
+        // Act
+        BatchResponse response = batchService.execute(List.of(
+                operation("low", BatchOperationType.LOW_STOCK).threshold(5).build(),
+                operation("count", BatchOperationType.COUNT_BY_CATEGORY).category("Books").build()));
+
+        // Assert
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(200, 200);
+        assertThat(readBulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void execute_ShouldReject_WhenBatchIsEmptyOrTooLong() {
+        // Arrange
+        List<BatchOperation> tooMany = Collections.nCopies(6,
+                operation(null, BatchOperationType.PRODUCT).productId(1L).build());
+
+        // Act & Assert
+        assertThatThrownBy(() -> batchService.execute(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batchService.execute(tooMany)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BatchOperation.BatchOperationBuilder operation(String id, BatchOperationType type) {
+        return BatchOperation.builder().id(id).type(type);
+    }
+}
@@ -0,0 +1,68 @@
+package id.my.hendisantika.demo.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverMissAnAddedKey_WhenFilterIsFull() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(50_000, 0.01);
+
+        // Act
+        for (long id = 1; id <= 50_000; id++) {
+            filter.put(id);
+            filter.put("Product " + id);
+        }
+
+        // Assert
+        for (long id = 1; id <= 50_000; id++) {
+            assertThat(filter.mightContain(id)).isTrue();
+            assertThat(filter.mightContain("Product " + id)).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_ShouldStayNearConfiguredRate_WhenKeysWereNeverAdded() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        for (long id = 1; id <= 100_000; id++) {
+            filter.put(id);
+        }
+
+        // Act
+        int falsePositives = 0;
+        int absent = 200_000;
+        for (long id = 1_000_001; id <= 1_000_000 + absent; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        double observed = (double) falsePositives / absent;
+        assertThat(observed).isBetween(0.005, 0.015);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void expectedFalsePositiveRate_ShouldGrow_WhenMoreKeysThanExpectedAreAdded() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("name-" + i);
+        }
+        double atCapacity = filter.expectedFalsePositiveRate();
+
+        // Act
+        for (int i = 1_000; i < 3_000; i++) {
+            filter.put("name-" + i);
+        }
+
+        // Assert
+        assertThat(filter.expectedFalsePositiveRate()).isGreaterThan(2 * atCapacity);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+}
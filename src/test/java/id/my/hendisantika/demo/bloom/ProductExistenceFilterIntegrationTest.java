@@ -0,0 +1,115 @@
+package id.my.hendisantika.demo.bloom;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.bloom-filter.enabled=true")
+class ProductExistenceFilterIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductExistenceFilter productExistenceFilter;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        productExistenceFilter.reset();
+        await(productExistenceFilter::isReady);
+    }
+
+    @Test
+    void findById_ShouldBeRejectedByFilter_WhenProductDoesNotExist() {
+        // Arrange
+        double rejected = lookups("id", "rejected");
+
+        // Act
+        boolean present = productService.findById(Long.MAX_VALUE - 1).isPresent();
+
+        // Assert
+        assertThat(present).isFalse();
+        assertThat(lookups("id", "rejected")).isEqualTo(rejected + 1);
+        assertThat(cacheManager.getCache("products").get(Long.MAX_VALUE - 1)).isNull();
+    }
+
+    @Test
+    void findByName_ShouldFindProduct_WhenCreatedAndRenamedAfterFilterWasBuilt() {
+        // Arrange
+        Product saved = productService.saveProduct(product("Bloom Kettle"));
+
+        // Act
+        saved.setName("Bloom Teapot");
+        productService.saveProduct(saved);
+        boolean oldNamePresent = productService.findByName("Bloom Kettle").isPresent();
+
+        // Assert
+        assertThat(productService.findById(saved.getId())).isPresent();
+        assertThat(productService.findByName("Bloom Teapot")).get().extracting(Product::getId).isEqualTo(saved.getId());
+        assertThat(oldNamePresent).isFalse();
+    }
+
+    @Test
+    void reset_ShouldPickUpProductsWrittenBehindTheService() throws InterruptedException {
+        // Arrange
+        Product saved = productRepository.save(product("Bloom Mug"));
+
+        // Act
+        productExistenceFilter.reset();
+        await(productExistenceFilter::isReady);
+
+        // Assert
+        assertThat(productExistenceFilter.mightExist(saved.getId())).isTrue();
+        assertThat(productService.findByName("Bloom Mug")).get().extracting(Product::getId).isEqualTo(saved.getId());
+    }
+
+    private double lookups(String filter, String result) {
+        return meterRegistry.get("product.bloom.lookups").tag("filter", filter).tag("result", result).counter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out waiting").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .description("Filtered product")
+                .category("Kitchen")
+                .price(new BigDecimal("19.90"))
+                .stock(10)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
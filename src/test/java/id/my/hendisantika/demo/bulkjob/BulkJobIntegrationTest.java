@@ -0,0 +1,134 @@
+package id.my.hendisantika.demo.bulkjob;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.bulk-jobs.chunk-size=10",
+        "app.bulk-jobs.parallelism=2"
+})
+@AutoConfigureMockMvc
+class BulkJobIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void submitBulkJob_ShouldSaveAllChunksInBackground_WhenProductsAreValid() throws Exception {
+        // Arrange
+        List<Product> products = products(35);
+
+        // Act
+        MockHttpServletResponse response = submit(products);
+        BulkJobStatus finished = awaitFinished(response.getHeader(HttpHeaders.LOCATION));
+
+        // Assert
+        BulkJobStatus accepted = objectMapper.readValue(response.getContentAsByteArray(), BulkJobStatus.class);
+        assertThat(accepted.totalItems()).isEqualTo(35);
+        assertThat(accepted.totalChunks()).isEqualTo(4);
+        assertThat(response.getHeader(HttpHeaders.LOCATION)).endsWith("/api/products/bulk/jobs/" + accepted.id());
+        assertThat(finished.state()).isEqualTo(BulkJobState.COMPLETED);
+        assertThat(finished.savedItems()).isEqualTo(35);
+        assertThat(finished.completedChunks()).isEqualTo(4);
+        assertThat(finished.itemsPerSecond()).isPositive();
+        assertThat(productRepository.count()).isEqualTo(35);
+    }
+
+    @Test
+    void submitBulkJob_ShouldRollBackOnlyTheFailingChunk_WhenOneProductIsInvalid() throws Exception {
+        // Arrange
+        List<Product> products = products(30);
+        products.get(14).setName("x".repeat(300));
+
+        // Act
+        BulkJobStatus finished = awaitFinished(submit(products).getHeader(HttpHeaders.LOCATION));
+
+        // Assert
+        assertThat(finished.state()).isEqualTo(BulkJobState.COMPLETED_WITH_ERRORS);
+        assertThat(finished.savedItems()).isEqualTo(20);
+        assertThat(finished.failedItems()).isEqualTo(10);
+        assertThat(finished.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.chunk()).isEqualTo(1);
+            assertThat(failure.fromItem()).isEqualTo(10);
+            assertThat(failure.toItem()).isEqualTo(20);
+            assertThat(failure.error()).isNotBlank();
+        });
+        assertThat(productRepository.count()).isEqualTo(20);
+    }
+
+    @Test
+    void getBulkJob_ShouldReturnNotFound_WhenJobIsUnknown() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products/bulk/jobs/{id}", "unknown")).andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletResponse submit(List<Product> products) throws Exception {
+        return mockMvc.perform(post("/api/products/bulk/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(products)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse();
+    }
+
+    private BulkJobStatus awaitFinished(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            byte[] body = mockMvc.perform(get(location)).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            BulkJobStatus status = objectMapper.readValue(body, BulkJobStatus.class);
+            if (status.finishedAt() != null || System.currentTimeMillis() > deadline) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                    .name("Bulk Job Product " + i)
+                    .category("Bulk Job")
+                    .price(new BigDecimal("5.00"))
+                    .stock(i)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return products;
+    }
+}
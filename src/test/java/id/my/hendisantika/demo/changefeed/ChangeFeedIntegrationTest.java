@@ -0,0 +1,168 @@
+package id.my.hendisantika.demo.changefeed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChangeFeedIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final BlockingQueue<Event> received = new LinkedBlockingQueue<>();
+
+    @Test
+    void changes_ShouldStreamCreateUpdateAndDeleteInOrder() throws Exception {
+        // Arrange
+        CompletableFuture<HttpResponse<Stream<String>>> stream = openStream("");
+        try {
+            // Act
+            Product product = productService.saveProduct(product("Feed Product"));
+            productService.updateStock(product.getId(), 7);
+            productService.deleteProduct(product.getId());
+
+            // Assert
+            List<Event> events = take(3);
+            assertThat(events).extracting(Event::name).containsExactly("created", "updated", "deleted");
+            assertThat(events.get(0).id()).isLessThan(events.get(1).id());
+            assertThat(events.get(1).id()).isLessThan(events.get(2).id());
+            JsonNode updated = objectMapper.readTree(events.get(1).data());
+            assertThat(updated.get("productId").asLong()).isEqualTo(product.getId());
+            assertThat(updated.get("product").get("stock").asInt()).isEqualTo(7);
+            assertThat(objectMapper.readTree(events.get(2).data()).get("product").isNull()).isTrue();
+        } finally {
+            close(stream);
+        }
+    }
+
+    @Test
+    void changes_ShouldResumeAfterGivenOffset() throws Exception {
+        // Arrange
+        long start = currentOffset();
+        Product first = productService.saveProduct(product("Resume First"));
+        Product second = productService.saveProduct(product("Resume Second"));
+        waitForRelay(start + 2);
+
+        // Act
+        CompletableFuture<HttpResponse<Stream<String>>> stream = openStream("?from=" + (start + 1));
+        try {
+            // Assert
+            List<Event> events = take(1);
+            assertThat(events.get(0).id()).isEqualTo(start + 2);
+            assertThat(objectMapper.readTree(events.get(0).data()).get("productId").asLong()).isEqualTo(second.getId());
+            assertThat(first.getId()).isLessThan(second.getId());
+        } finally {
+            close(stream);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<Stream<String>>> openStream(String query) throws Exception {
+        double subscribers = meterRegistry.get("product.changefeed.subscribers").gauge().value();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products/changes" + query))
+                .header("Accept", "text/event-stream")
+                .build();
+        CompletableFuture<HttpResponse<Stream<String>>> response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+        response.thenAccept(r -> collect(r.body()));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (meterRegistry.get("product.changefeed.subscribers").gauge().value() <= subscribers) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        return response;
+    }
+
+    private static void close(CompletableFuture<HttpResponse<Stream<String>>> stream) {
+        stream.thenAccept(response -> response.body().close());
+    }
+
+    private void collect(Stream<String> lines) {
+        List<String> fields = new ArrayList<>();
+        lines.forEach(line -> {
+            if (!line.isEmpty()) {
+                fields.add(line);
+                return;
+            }
+            String id = field(fields, "id:");
+            if (id != null) {
+                received.add(new Event(Long.parseLong(id), field(fields, "event:"), field(fields, "data:")));
+            }
+            fields.clear();
+        });
+    }
+
+    private static String field(List<String> fields, String prefix) {
+        return fields.stream().filter(line -> line.startsWith(prefix)).map(line -> line.substring(prefix.length()))
+                .findFirst().orElse(null);
+    }
+
+    private List<Event> take(int count) throws InterruptedException {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Event event = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(event).as("event %d of %d", i + 1, count).isNotNull();
+            events.add(event);
+        }
+        return events;
+    }
+
+    private long currentOffset() {
+        return (long) meterRegistry.get("product.changefeed.offset").gauge().value();
+    }
+
+    private void waitForRelay(long offset) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (currentOffset() < offset) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name + " " + System.nanoTime())
+                .description("Change feed test product")
+                .category("Feed")
+                .price(new BigDecimal("5.00"))
+                .stock(1)
+                .build();
+    }
+
+    private record Event(long id, String name, String data) {
+    }
+}
@@ -6,6 +6,8 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.file.Path;
+
 /**
  * Base class for integration tests that require a PostgreSQL database.
  * Uses TestContainers to start a PostgreSQL container for testing.
@@ -36,6 +38,10 @@ public abstract class AbstractIntegrationTest {
                             "-c autovacuum=on"
             );
 
+    private static final Path WORK_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"),
+            "products-it-" + ProcessHandle.current().pid());
+    private static final Path CACHE_SNAPSHOT = WORK_DIRECTORY.resolve("cache-snapshot.bin");
+
     /**
      * Configure Spring Boot to use the TestContainer's PostgreSQL instance.
      */
@@ -45,8 +51,9 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.datasource.username", postgresContainer::getUsername);
         registry.add("spring.datasource.password", postgresContainer::getPassword);
 
-        // Ensure Hibernate creates the schema
-        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // Keep the hot-key snapshot and exports out of the working directory and away from previous test runs
+        registry.add("app.cache-warmup.file", () -> CACHE_SNAPSHOT.toString());
+        registry.add("app.export.directory", () -> WORK_DIRECTORY.resolve("exports").toString());
 
         // Disable Spring Boot's Docker Compose support to prevent conflicts with TestContainers
         registry.add("spring.docker.compose.enabled", () -> "false");
@@ -0,0 +1,113 @@
+package id.my.hendisantika.demo.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.util.DatasetProperties;
+import id.my.hendisantika.demo.util.SyntheticProductGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and encode/decode cost of product lists in JSON, CBOR and Smile.
+ * <p>
+ * Excluded from regular builds; run with {@code ./mvnw -Pbenchmark test -Dtest=ProductCodecBenchmarkTest}.
+ * Mappers are configured like Boot's (ISO date-times, unknown properties ignored), as the HTTP converters are.
+ */
+@Slf4j
+@Tag("benchmark")
+class ProductCodecBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2_000);
+    private static final int[] LIST_SIZES = {1, 20, 1_000};
+
+    @Test
+    void productLists_ShouldRoundTripInEveryFormat() throws IOException {
+        // Arrange
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", mapper(new JsonFactory()));
+        mappers.put("cbor", mapper(new CBORFactory()));
+        mappers.put("smile", mapper(new SmileFactory()));
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(new DatasetProperties());
+
+        log.info("Product codec benchmark, {} iterations (bytes, microseconds per operation)", ITERATIONS);
+        for (int size : LIST_SIZES) {
+            List<Product> products = LongStream.range(0, size)
+                    .mapToObj(row -> {
+                        Product product = generator.row(row).toProduct();
+                        product.setId(row + 1);
+                        return product;
+                    })
+                    .toList();
+
+            for (Map.Entry<String, ObjectMapper> format : mappers.entrySet()) {
+                ObjectMapper mapper = format.getValue();
+                JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, Product.class);
+
+                // Act
+                byte[] encoded = mapper.writeValueAsBytes(products);
+                int iterations = Math.max(10, ITERATIONS / size * 20);
+                long encodeNanos = time(iterations, () -> mapper.writeValueAsBytes(products));
+                long decodeNanos = time(iterations, () -> mapper.readValue(encoded, type));
+
+                // Assert
+                assertThat(mapper.<List<Product>>readValue(encoded, type)).isEqualTo(products);
+                log.info(String.format("%5d products  %-5s  size=%8d  gzip=%8d  encode=%9.1f  decode=%9.1f",
+                        size, format.getKey(), encoded.length, gzipSize(encoded),
+                        encodeNanos / 1000.0, decodeNanos / 1000.0));
+            }
+        }
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    /**
+     * Mean nanoseconds per call after a warm-up of the same length.
+     */
+    private static long time(int iterations, Codec codec) throws IOException {
+        for (int i = 0; i < iterations; i++) {
+            codec.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            codec.run();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    @FunctionalInterface
+    private interface Codec {
+        Object run() throws IOException;
+    }
+}
@@ -0,0 +1,108 @@
+package id.my.hendisantika.demo.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryContentNegotiationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    private Product saved;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        saved = productRepository.save(product("Binary Product"));
+    }
+
+    @Test
+    void getProductById_ShouldReturnCbor_WhenAcceptIsCbor() throws Exception {
+        // Arrange
+        ObjectMapper cbor = objectMapperBuilder.factory(new CBORFactory()).build();
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/products/{id}", saved.getId()).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        Product decoded = cbor.readValue(body, Product.class);
+        assertThat(decoded.getId()).isEqualTo(saved.getId());
+        assertThat(decoded.getPrice()).isEqualByComparingTo("12.34");
+        assertThat(decoded.getUpdatedAt()).isEqualTo(productRepository.findById(saved.getId()).orElseThrow().getUpdatedAt());
+    }
+
+    @Test
+    void createProductsBulk_ShouldAcceptAndReturnSmile_WhenContentTypeIsSmile() throws Exception {
+        // Arrange
+        ObjectMapper smile = objectMapperBuilder.factory(new SmileFactory()).build();
+        byte[] request = smile.writeValueAsBytes(List.of(product("Smile 1"), product("Smile 2")));
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/products/bulk").contentType(SMILE).accept(SMILE).content(request))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        List<Product> created = smile.readValue(body, new TypeReference<>() {
+        });
+        assertThat(created).extracting(Product::getName).containsExactly("Smile 1", "Smile 2");
+        assertThat(created).allSatisfy(product -> assertThat(product.getId()).isNotNull());
+    }
+
+    @Test
+    void getAllProducts_ShouldReturnJson_WhenAnyContentTypeIsAccepted() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .category("Binary")
+                .price(new BigDecimal("12.34"))
+                .stock(5)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package id.my.hendisantika.demo.count;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Estimates are never replaced by exact counts here, so the planner's answer is what the endpoint returns.
+ */
+@SpringBootTest(properties = "app.count.exact-threshold=0")
+@AutoConfigureMockMvc
+class CountModeIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CATEGORY = "Count Books";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCounter productCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        productCounter.clear();
+        for (int i = 0; i < 3; i++) {
+            productRepository.save(product("Count Novel " + i));
+        }
+    }
+
+    @Test
+    void getProductsByCategory_ShouldLeaveOutTotal_WhenCountIsNone() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products/category/{category}", CATEGORY)
+                        .param("size", "2")
+                        .param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getProductsByCategory_ShouldReturnPlannerEstimate_WhenCountIsEstimated() throws Exception {
+        // Arrange
+        jdbcTemplate.execute("ANALYZE products");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/category/{category}", CATEGORY)
+                        .param("size", "2")
+                        .param("count", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.totalElements").value(3));
+        // Often enough for the driver to switch to a server-side prepared statement
+        for (int i = 0; i < 6; i++) {
+            assertThat(productCounter.count(CATEGORY, CountMode.ESTIMATED)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void getAllProducts_ShouldAdjustCachedTotal_WhenProductIsCreatedWithoutCountingAgain() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/products").param("size", "2").param("count", "CACHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3));
+        productService.saveProduct(product("Count Poem"));
+        double counts = totals("count");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products").param("size", "2").param("count", "CACHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.totalElements").value(4));
+        assertThat(totals("count")).isEqualTo(counts);
+    }
+
+    private double totals(String source) {
+        return meterRegistry.get("product.page.totals").tag("source", source).counter().count();
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .category(CATEGORY)
+                .price(new BigDecimal("12.00"))
+                .stock(5)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package id.my.hendisantika.demo.count;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.event.ProductChangeEvent.ChangeType;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCounterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CountProperties properties;
+    private ProductCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CountProperties();
+        properties.setExactThreshold(1_000);
+        counter = new ProductCounter(productRepository, jdbcTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void count_ShouldReturnPlannerEstimate_WhenEstimateIsAboveThreshold() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<ResultSetExtractor<String>>any(), eq("Books")))
+                .thenReturn("Index Only Scan using idx_products_category on products  (cost=0.43..9876.54 rows=48210 width=4)");
+
+        // Act
+        long total = counter.count("Books", CountMode.ESTIMATED);
+
+        // Assert
+        assertThat(total).isEqualTo(48_210);
+        verify(productRepository, never()).countByCategory(any());
+    }
+
+    @Test
+    void count_ShouldCountExactly_WhenEstimateIsBelowThreshold() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<ResultSetExtractor<String>>any()))
+                .thenReturn("Seq Scan on products  (cost=0.00..12.40 rows=240 width=4)");
+        when(productRepository.count()).thenReturn(237L);
+
+        // Act
+        long total = counter.count(null, CountMode.ESTIMATED);
+
+        // Assert
+        assertThat(total).isEqualTo(237);
+    }
+
+    @Test
+    void count_ShouldAdjustCachedTotals_WhenProductsAreCreatedAndDeleted() {
+        // Arrange
+        when(productRepository.count()).thenReturn(100L);
+        when(productRepository.countByCategory("Books")).thenReturn(10L, 20L);
+        counter.count(null, CountMode.CACHED);
+        counter.count("Books", CountMode.CACHED);
+
+        // Act
+        counter.onProductChange(new ProductChangeEvent(ChangeType.CREATED, 1L, "Novel", "Books"));
+        counter.onProductChange(new ProductChangeEvent(ChangeType.CREATED, 2L, "Poem", "Books"));
+        long afterCreates = counter.count("Books", CountMode.CACHED);
+        counter.onProductChange(ProductChangeEvent.deleted(1L));
+
+        // Assert
+        assertThat(afterCreates).isEqualTo(12);
+        assertThat(counter.count(null, CountMode.CACHED)).isEqualTo(101);
+        // The deleted product's category is unknown, so category totals are counted again
+        assertThat(counter.count("Books", CountMode.CACHED)).isEqualTo(20);
+        verify(productRepository, times(1)).count();
+    }
+
+    @Test
+    void count_ShouldCountAgain_WhenCachedTotalIsOlderThanMaxAge() {
+        // Arrange
+        properties.setCachedMaxAge(Duration.ZERO);
+        when(productRepository.count()).thenReturn(5L, 6L);
+
+        // Act
+        long first = counter.count(null, CountMode.CACHED);
+        long second = counter.count(null, CountMode.CACHED);
+
+        // Assert
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isEqualTo(6);
+        assertThatThrownBy(() -> counter.count(null, CountMode.NONE)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
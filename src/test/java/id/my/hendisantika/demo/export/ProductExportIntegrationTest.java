@@ -0,0 +1,104 @@
+package id.my.hendisantika.demo.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.LocalInputFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.export.row-group-size=16KB")
+@AutoConfigureMockMvc
+class ProductExportIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void startExport_ShouldWriteParquetFile_WhenCatalogSpansSeveralRowGroups() throws Exception {
+        // Arrange
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            products.add(Product.builder()
+                    .name("Export Product " + i)
+                    .category("Export " + i % 3)
+                    .price(new BigDecimal("4.99"))
+                    .stock(i)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        productRepository.saveAll(products);
+
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(post("/api/products/export"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse();
+        ExportStatus finished = awaitFinished(response.getHeader(HttpHeaders.LOCATION));
+
+        // Assert
+        assertThat(finished.state()).isEqualTo(ExportState.COMPLETED);
+        assertThat(finished.rows()).isEqualTo(2_500);
+        assertThat(finished.rowsPerSecond()).isPositive();
+        Path file = Path.of(finished.file());
+        assertThat(Files.size(file)).isEqualTo(finished.bytes());
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            assertThat(reader.getRecordCount()).isEqualTo(2_500);
+            assertThat(reader.getRowGroups()).hasSizeGreaterThan(1);
+        }
+        try (var siblings = Files.list(file.getParent())) {
+            assertThat(siblings.map(Path::toString)).noneMatch(name -> name.endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    void getExport_ShouldReturnNotFound_WhenExportIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/products/export/unknown")).andExpect(status().isNotFound());
+    }
+
+    private ExportStatus awaitFinished(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            byte[] body = mockMvc.perform(get(location)).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            ExportStatus status = objectMapper.readValue(body, ExportStatus.class);
+            if (status.finishedAt() != null || System.currentTimeMillis() > deadline) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package id.my.hendisantika.demo.export;
+
+import id.my.hendisantika.demo.model.Product;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads the written files back with parquet-java's reader.
+ */
+class ProductParquetWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 5, 1, 8, 0, 0, 123_456_000);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void write_ShouldProduceReadableRowGroups_WhenRowsExceedRowGroupSize() throws IOException {
+        // Arrange
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            products.add(product(id, id % 2 == 0 ? "Books" : "Toys", id == 3 ? null : new BigDecimal("-" + id + ".25")));
+        }
+
+        // Act
+        Path file = write(products, 4_096, true);
+
+        // Assert
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            assertThat(reader.getRecordCount()).isEqualTo(1_000);
+            assertThat(reader.getFooter().getFileMetaData().getSchema()).isEqualTo(ProductParquetWriter.SCHEMA);
+            assertThat(reader.getRowGroups()).hasSizeGreaterThan(1);
+            ColumnChunkMetaData category = reader.getRowGroups().get(0).getColumns().get(4);
+            assertThat(category.getCodec()).isEqualTo(CompressionCodecName.GZIP);
+            assertThat(category.getEncodings()).contains(Encoding.PLAIN_DICTIONARY);
+
+            List<Group> rows = readAll(reader);
+            assertThat(rows).extracting(row -> row.getLong("id", 0)).startsWith(1L, 2L, 3L).endsWith(1_000L);
+            assertThat(rows).extracting(row -> row.getString("category", 0)).startsWith("Toys", "Books", "Toys");
+            assertThat(rows.get(0).getString("sku", 0)).isEqualTo("SKU-1");
+            assertThat(price(rows.get(0))).isEqualTo(new BigDecimal("-1.25"));
+            assertThat(rows.get(2).getFieldRepetitionCount("price")).isZero();
+            assertThat(rows.get(3).getInteger("stock", 0)).isEqualTo(4);
+            long micros = CREATED_AT.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + 123_456;
+            assertThat(rows).extracting(row -> row.getLong("created_at", 0)).containsOnly(micros);
+        }
+    }
+
+    @Test
+    void write_ShouldProduceValidFile_WhenThereAreNoRowsOrNoCompression() throws IOException {
+        // Act
+        Path empty = write(List.of(), 4_096, true);
+        Path uncompressed = write(List.of(product(9, null, BigDecimal.ONE)), 4_096, false);
+
+        // Assert
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(empty))) {
+            assertThat(reader.getRecordCount()).isZero();
+        }
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(uncompressed))) {
+            BlockMetaData rowGroup = reader.getRowGroups().get(0);
+            assertThat(rowGroup.getColumns()).extracting(ColumnChunkMetaData::getCodec)
+                    .containsOnly(CompressionCodecName.UNCOMPRESSED);
+            Group row = readAll(reader).get(0);
+            assertThat(row.getLong("id", 0)).isEqualTo(9);
+            assertThat(row.getFieldRepetitionCount("category")).isZero();
+            assertThat(price(row)).isEqualTo(new BigDecimal("1.00"));
+        }
+    }
+
+    private Path write(List<Product> products, long rowGroupSize, boolean gzip) throws IOException {
+        Path file = directory.resolve("products-" + products.size() + "-" + gzip + ".parquet");
+        try (ProductParquetWriter writer = new ProductParquetWriter(file, rowGroupSize, gzip)) {
+            for (Product product : products) {
+                writer.write(product);
+            }
+            assertThat(writer.rows()).isEqualTo(products.size());
+        }
+        return file;
+    }
+
+    private static List<Group> readAll(ParquetFileReader reader) throws IOException {
+        MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+        List<Group> rows = new ArrayList<>();
+        PageReadStore rowGroup;
+        while ((rowGroup = reader.readNextRowGroup()) != null) {
+            RecordReader<Group> records = new ColumnIOFactory().getColumnIO(schema)
+                    .getRecordReader(rowGroup, new GroupRecordConverter(schema));
+            for (long i = 0; i < rowGroup.getRowCount(); i++) {
+                rows.add(records.read());
+            }
+        }
+        return rows;
+    }
+
+    private static BigDecimal price(Group row) {
+        return new BigDecimal(new BigInteger(row.getBinary("price", 0).getBytes()), 2);
+    }
+
+    private static Product product(long id, String category, BigDecimal price) {
+        return Product.builder()
+                .id(id)
+                .sku("SKU-" + id)
+                .name("Product " + id)
+                .description(id % 3 == 0 ? null : "Description " + id)
+                .category(category)
+                .price(price)
+                .stock((int) id)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package id.my.hendisantika.demo.hotkey;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimate_ShouldNeverUndercountAndStayClose_WhenStreamIsSkewed() {
+        // Arrange
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        Map<Long, Integer> exact = new HashMap<>();
+        Random random = new Random(42);
+        int total = 200_000;
+
+        // Act
+        for (int i = 0; i < total; i++) {
+            // Half the lookups go to ten keys, the rest spread over a hundred thousand
+            long key = random.nextBoolean() ? random.nextInt(10) : 10 + random.nextInt(100_000);
+            sketch.add(key);
+            exact.merge(key, 1, Integer::sum);
+        }
+
+        // Assert
+        double maxError = Math.E / sketch.width() * total;
+        exact.forEach((key, count) -> assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(count));
+        for (long key = 0; key < 10; key++) {
+            assertThat((double) sketch.estimate(key)).isLessThanOrEqualTo(exact.get(key) + maxError);
+        }
+    }
+
+    @Test
+    void add_ShouldReturnEstimateIncludingThisOccurrence_WhenKeyIsCounted() {
+        // Arrange
+        CountMinSketch sketch = new CountMinSketch(1000, 3);
+
+        // Act
+        sketch.add("Books");
+        int estimate = sketch.add("Books");
+
+        // Assert
+        assertThat(sketch.width()).isEqualTo(1024);
+        assertThat(estimate).isEqualTo(2);
+        assertThat(sketch.estimate("Garden")).isZero();
+    }
+
+    @Test
+    void clear_ShouldForgetAllCounts() {
+        // Arrange
+        CountMinSketch sketch = new CountMinSketch(64, 2);
+        sketch.add(1L);
+
+        // Act
+        sketch.clear();
+
+        // Assert
+        assertThat(sketch.estimate(1L)).isZero();
+    }
+}
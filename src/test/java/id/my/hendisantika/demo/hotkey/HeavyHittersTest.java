@@ -0,0 +1,73 @@
+package id.my.hendisantika.demo.hotkey;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeavyHittersTest {
+
+    @Test
+    void rotate_ShouldRankMostFrequentKeys_WhenFewKeysDominate() {
+        // Arrange
+        HeavyHitters heavyHitters = new HeavyHitters(3, 2048, 4, 3, 100);
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            heavyHitters.record(1000L + random.nextInt(20_000));
+            if (i % 5 == 0) {
+                heavyHitters.record(1L);
+            }
+            if (i % 10 == 0) {
+                heavyHitters.record(2L);
+            }
+            if (i % 20 == 0) {
+                heavyHitters.record(3L);
+            }
+        }
+
+        // Act
+        heavyHitters.rotate();
+
+        // Assert
+        assertThat(heavyHitters.top()).extracting(HotKey::key).containsExactly("1", "2", "3");
+        assertThat(heavyHitters.top().get(0).count()).isGreaterThanOrEqualTo(10_000);
+        assertThat(heavyHitters.isHot(1L)).isTrue();
+        assertThat(heavyHitters.isHot(1001L)).isFalse();
+    }
+
+    @Test
+    void rotate_ShouldForgetKeys_WhenTheyLeaveTheWindow() {
+        // Arrange
+        HeavyHitters heavyHitters = new HeavyHitters(2, 256, 4, 5, 10);
+        for (int i = 0; i < 20; i++) {
+            heavyHitters.record("Books");
+        }
+
+        // Act
+        heavyHitters.rotate();
+        boolean hotInWindow = heavyHitters.isHot("Books");
+        heavyHitters.rotate();
+        heavyHitters.rotate();
+
+        // Assert
+        assertThat(hotInWindow).isTrue();
+        assertThat(heavyHitters.isHot("Books")).isFalse();
+        assertThat(heavyHitters.top()).isEmpty();
+        assertThat(heavyHitters.estimate("Books")).isZero();
+    }
+
+    @Test
+    void isHot_ShouldBeFalse_WhenRankedKeyHasTooFewLookups() {
+        // Arrange
+        HeavyHitters heavyHitters = new HeavyHitters(2, 256, 4, 5, 10);
+        heavyHitters.record("Garden");
+
+        // Act
+        heavyHitters.rotate();
+
+        // Assert
+        assertThat(heavyHitters.top()).extracting(HotKey::key).containsExactly("Garden");
+        assertThat(heavyHitters.isHot("Garden")).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+package id.my.hendisantika.demo.hotkey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyExpiryTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toNanos();
+
+    private HotKeyTracker tracker;
+    private HotKeyExpiry expiry;
+
+    @BeforeEach
+    void setUp() {
+        HotKeyProperties properties = new HotKeyProperties();
+        properties.setMinHotCount(10);
+        properties.setHotTtl(Duration.ofMinutes(30));
+        properties.setHotMaxAge(Duration.ofMinutes(60));
+        tracker = new HotKeyTracker(properties, new SimpleMeterRegistry());
+        expiry = tracker.expiry("products", Duration.ofMinutes(5), 100);
+        for (int i = 0; i < 20; i++) {
+            tracker.record("products", 1L);
+        }
+        tracker.record("products", 2L);
+        tracker.rotate();
+    }
+
+    @Test
+    void expireAfterRead_ShouldExtendToHotTtl_WhenKeyIsHot() {
+        // Arrange
+        long remaining = expiry.expireAfterCreate(1L, "lamp", 0);
+
+        // Act
+        long hot = expiry.expireAfterRead(1L, "lamp", MINUTE, remaining - MINUTE);
+        long cold = expiry.expireAfterRead(2L, "mug", MINUTE, remaining - MINUTE);
+
+        // Assert
+        assertThat(hot).isEqualTo(30 * MINUTE);
+        assertThat(cold).isEqualTo(4 * MINUTE);
+    }
+
+    @Test
+    void expireAfterRead_ShouldNotExtendPastMaxAge_WhenHotKeyIsReadForLong() {
+        // Arrange
+        expiry.expireAfterCreate(1L, "lamp", 0);
+
+        // Act
+        long nearMaxAge = expiry.expireAfterRead(1L, "lamp", 50 * MINUTE, MINUTE);
+        long pastMaxAge = expiry.expireAfterRead(1L, "lamp", 61 * MINUTE, 0);
+
+        // Assert
+        assertThat(nearMaxAge).isEqualTo(10 * MINUTE);
+        assertThat(pastMaxAge).isZero();
+    }
+
+    @Test
+    void expireAfterRead_ShouldCountMaxAgeFromLatestWrite_WhenHotKeyIsUpdated() {
+        // Arrange
+        expiry.expireAfterCreate(1L, "lamp", 0);
+        long afterUpdate = expiry.expireAfterUpdate(1L, "lamp v2", 50 * MINUTE, MINUTE);
+
+        // Act
+        long extended = expiry.expireAfterRead(1L, "lamp v2", 51 * MINUTE, afterUpdate - MINUTE);
+
+        // Assert
+        assertThat(afterUpdate).isEqualTo(5 * MINUTE);
+        assertThat(extended).isEqualTo(30 * MINUTE);
+    }
+}
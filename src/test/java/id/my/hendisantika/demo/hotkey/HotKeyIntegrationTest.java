@@ -0,0 +1,118 @@
+package id.my.hendisantika.demo.hotkey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.hot-keys.min-hot-count=10",
+        "app.hot-keys.rotate-interval=1h"
+})
+@AutoConfigureMockMvc
+class HotKeyIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private HotKeyTracker hotKeyTracker;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void hotKeys_ShouldRankKeyAndExtendItsExpiry_WhenKeyIsLookedUpOften() throws Exception {
+        // Arrange
+        Product lamp = productRepository.save(Product.builder()
+                .name("Hot Lamp")
+                .category("Hot Home")
+                .price(new BigDecimal("9.00"))
+                .stock(4)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        for (int i = 0; i < 20; i++) {
+            productService.findById(lamp.getId());
+        }
+        productService.countByCategory("Hot Home");
+
+        // Act
+        hotKeyTracker.rotate();
+        productService.findById(lamp.getId());
+
+        // Assert
+        mockMvc.perform(get("/actuator/hotkeys"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.caches.products[?(@.key == '%s')].count", lamp.getId()).value(contains(20)))
+                .andExpect(jsonPath("$.caches.productCountByCategory[0].key").value("Hot Home"));
+        assertThat(hotKeyTracker.isHot("products", lamp.getId())).isTrue();
+        assertThat(hotKeyTracker.isHot("productCountByCategory", "Hot Home")).isFalse();
+        Duration expiresAfter = nativeCache("products").policy().expireVariably().orElseThrow()
+                .getExpiresAfter(lamp.getId()).orElseThrow();
+        Duration coldExpiresAfter = nativeCache("productCountByCategory").policy().expireVariably().orElseThrow()
+                .getExpiresAfter("Hot Home").orElseThrow();
+        assertThat(expiresAfter).isGreaterThan(Duration.ofMinutes(25));
+        assertThat(coldExpiresAfter).isLessThanOrEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findById_ShouldReturnUpdatedProduct_WhenHotKeyIsUpdatedOnThisNode() {
+        // Arrange
+        Product lamp = productService.saveProduct(Product.builder()
+                .name("Hot Desk Lamp")
+                .category("Hot Home")
+                .price(new BigDecimal("9.00"))
+                .stock(4)
+                .build());
+        for (int i = 0; i < 20; i++) {
+            productService.findById(lamp.getId());
+        }
+        hotKeyTracker.rotate();
+        productService.findById(lamp.getId());
+
+        // Act
+        lamp.setPrice(new BigDecimal("11.00"));
+        productService.saveProduct(lamp);
+
+        // Assert
+        assertThat(hotKeyTracker.isHot("products", lamp.getId())).isTrue();
+        assertThat(productService.findById(lamp.getId())).get()
+                .extracting(Product::getPrice).isEqualTo(new BigDecimal("11.00"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+}
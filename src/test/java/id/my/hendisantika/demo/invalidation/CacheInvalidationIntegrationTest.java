@@ -0,0 +1,194 @@
+package id.my.hendisantika.demo.invalidation;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class CacheInvalidationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private CacheInvalidationProperties properties;
+
+    @Autowired
+    private CacheInvalidationPublisher publisher;
+
+    @Autowired
+    private CacheInvalidationListener listener;
+
+    @MockitoSpyBean
+    private LocalCacheInvalidator invalidator;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        product = productRepository.save(Product.builder()
+                .name("Invalidation Product " + System.nanoTime())
+                .description("Invalidation test product")
+                .category("Invalidation")
+                .price(new BigDecimal("12.50"))
+                .stock(10)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        await(listener::isConnected);
+    }
+
+    @Test
+    void remoteInvalidation_ShouldEvictLocalCacheEntries() {
+        // Arrange
+        Cache products = cacheManager.getCache("products");
+        productService.findById(product.getId());
+        productService.countByCategory(product.getCategory());
+        assertThat(products.get(product.getId())).isNotNull();
+        InvalidationMessage remote = new InvalidationMessage("other-node", false, List.of(
+                new InvalidationMessage.Entry(product.getId(), product.getCategory(), product.getName())));
+
+        // Act
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, properties.getChannel(), remote.encode());
+
+        // Assert
+        Cache counts = cacheManager.getCache("productCountByCategory");
+        await(() -> products.get(product.getId()) == null && counts.get(product.getCategory()) == null);
+    }
+
+    @Test
+    void remoteInvalidation_ShouldClearLocalCachesAndKeepListening_WhenApplyingFails() {
+        // Arrange
+        Cache products = cacheManager.getCache("products");
+        productService.findById(product.getId());
+        doThrow(new IllegalStateException("boom")).doCallRealMethod().when(invalidator).invalidate(anyList());
+        InvalidationMessage remote = new InvalidationMessage("other-node", false, List.of(
+                new InvalidationMessage.Entry(product.getId(), product.getCategory(), product.getName())));
+
+        // Act
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, properties.getChannel(), remote.encode());
+        await(() -> products.get(product.getId()) == null);
+        productService.findById(product.getId());
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, properties.getChannel(), remote.encode());
+
+        // Assert
+        await(() -> products.get(product.getId()) == null);
+        verify(invalidator, times(2)).invalidate(anyList());
+        verify(invalidator).invalidateAll();
+        assertThat(listener.isConnected()).isTrue();
+    }
+
+    @Test
+    void updateStock_ShouldBroadcastInvalidationAfterCommit() throws Exception {
+        // Arrange
+        try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+            }
+
+            // Act
+            productService.updateStock(product.getId(), 3);
+
+            // Assert
+            PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications((int) TIMEOUT_MILLIS);
+            assertThat(notifications).isNotEmpty();
+            InvalidationMessage message = InvalidationMessage.decode(notifications[0].getParameter());
+            assertThat(message.nodeId()).isEqualTo(publisher.getNodeId());
+            assertThat(message.entries()).containsExactly(
+                    new InvalidationMessage.Entry(product.getId(), product.getCategory(), product.getName()));
+        }
+    }
+
+    @Test
+    void saveProduct_ShouldBroadcastRenameWithoutName_WhenNameChanges() throws Exception {
+        // Arrange
+        try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+            }
+            product.setName(product.getName() + " Renamed");
+
+            // Act
+            productService.saveProduct(product);
+
+            // Assert
+            PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications((int) TIMEOUT_MILLIS);
+            assertThat(notifications).isNotEmpty();
+            InvalidationMessage message = InvalidationMessage.decode(notifications[0].getParameter());
+            assertThat(message.entries()).containsExactly(
+                    new InvalidationMessage.Entry(product.getId(), product.getCategory(), null));
+        }
+    }
+
+    @Test
+    void droppedListenerConnection_ShouldReconnectAndClearLocalCaches() {
+        // Arrange
+        Cache products = cacheManager.getCache("products");
+        productService.findById(product.getId());
+        assertThat(products.get(product.getId())).isNotNull();
+
+        // Act
+        jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                CacheInvalidationListener.APPLICATION_NAME);
+
+        // Assert
+        await(() -> products.get(product.getId()) == null);
+        await(listener::isConnected);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
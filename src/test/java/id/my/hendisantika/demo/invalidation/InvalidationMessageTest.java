@@ -0,0 +1,59 @@
+package id.my.hendisantika.demo.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvalidationMessageTest {
+
+    @Test
+    void decode_ShouldReturnEncodedEntries() {
+        // Arrange
+        List<InvalidationMessage.Entry> entries = List.of(
+                new InvalidationMessage.Entry(1L, "Books", "Classic Novel 1"),
+                new InvalidationMessage.Entry(2L, null, null));
+
+        // Act
+        InvalidationMessage decoded = InvalidationMessage.decode(
+                InvalidationMessage.batches("node-a", entries).get(0).encode());
+
+        // Assert
+        assertEquals(new InvalidationMessage("node-a", false, entries), decoded);
+    }
+
+    @Test
+    void decode_ShouldRecognizeClearAll() {
+        // Act
+        InvalidationMessage decoded = InvalidationMessage.decode(InvalidationMessage.clearAll("node-a").encode());
+
+        // Assert
+        assertTrue(decoded.clearAll());
+        assertEquals("node-a", decoded.nodeId());
+    }
+
+    @Test
+    void batches_ShouldSplitAtPayloadLimit_AndDropUnencodableNames() {
+        // Arrange
+        List<InvalidationMessage.Entry> entries = new ArrayList<>();
+        for (long id = 0; id < 1_000; id++) {
+            entries.add(new InvalidationMessage.Entry(id, "Electronics", "Premium Smartphone " + id));
+        }
+        entries.add(new InvalidationMessage.Entry(1_000L, "Books", "Tab\tseparated"));
+
+        // Act
+        List<InvalidationMessage> messages = InvalidationMessage.batches("node-a", entries);
+
+        // Assert
+        assertTrue(messages.size() > 1);
+        messages.forEach(message -> assertTrue(
+                message.encode().getBytes(StandardCharsets.UTF_8).length <= InvalidationMessage.MAX_PAYLOAD_BYTES));
+        assertEquals(entries.size(), messages.stream().mapToInt(message -> message.entries().size()).sum());
+        InvalidationMessage.Entry last = messages.get(messages.size() - 1).entries().get(messages.get(messages.size() - 1).entries().size() - 1);
+        assertEquals(new InvalidationMessage.Entry(1_000L, "Books", null), last);
+    }
+}
@@ -0,0 +1,106 @@
+package id.my.hendisantika.demo.invalidation;
+
+import id.my.hendisantika.demo.event.ProductChangeEvent;
+import id.my.hendisantika.demo.event.ProductChangeEvent.ChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCacheEvictorTest {
+
+    private final AtomicInteger listClears = new AtomicInteger();
+    private Cache products;
+    private Cache allProducts;
+    private ProductCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        products = new ConcurrentMapCache("products");
+        allProducts = new ConcurrentMapCache("allProducts") {
+            @Override
+            public void clear() {
+                listClears.incrementAndGet();
+                super.clear();
+            }
+        };
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(products, allProducts));
+        cacheManager.afterPropertiesSet();
+        evictor = new ProductCacheEvictor(cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(evictor);
+    }
+
+    @Test
+    void onProductChange_ShouldEvictOnceAfterCommit_WhenTransactionChangesSeveralProducts() {
+        // Arrange
+        products.put(1L, "Lamp");
+        products.put(2L, "Desk");
+        allProducts.put("0_20", "page");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            evictor.onProductChange(new ProductChangeEvent(ChangeType.UPDATED, id, "Product " + id, "Home"));
+        }
+        assertThat(products.get(1L)).isNotNull();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertThat(synchronizations).hasSize(1);
+        assertThat(products.get(1L)).isNull();
+        assertThat(products.get(2L)).isNull();
+        assertThat(allProducts.get("0_20")).isNull();
+        assertThat(listClears).hasValue(1);
+        assertThat(TransactionSynchronizationManager.hasResource(evictor)).isFalse();
+    }
+
+    @Test
+    void onProductChange_ShouldNotEvict_WhenTransactionRollsBack() {
+        // Arrange
+        products.put(1L, "Lamp");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        evictor.onProductChange(new ProductChangeEvent(ChangeType.UPDATED, 1L, "Lamp", "Home"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertThat(products.get(1L)).isNotNull();
+        assertThat(listClears).hasValue(0);
+    }
+
+    @Test
+    void onProductChange_ShouldEvictRightAway_WhenNoTransactionIsActive() {
+        // Arrange
+        products.put(1L, "Lamp");
+
+        // Act
+        evictor.onProductChange(new ProductChangeEvent(ChangeType.UPDATED, 1L, "Lamp", "Home"));
+        evictor.onProductChange(new ProductChangeEvent(ChangeType.UPDATED, 2L, "Desk", "Home", true));
+
+        // Assert
+        assertThat(products.get(1L)).isNull();
+        assertThat(listClears).hasValue(1);
+    }
+}
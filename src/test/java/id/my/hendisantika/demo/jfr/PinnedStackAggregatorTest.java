@@ -0,0 +1,50 @@
+package id.my.hendisantika.demo.jfr;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PinnedStackAggregatorTest {
+
+    private static final List<String> DRIVER_STACK = List.of(
+            "org.postgresql.core.v3.QueryExecutorImpl.execute:360",
+            "org.postgresql.jdbc.PgStatement.executeInternal:497");
+    private static final List<String> CACHE_STACK = List.of(
+            "java.util.concurrent.ConcurrentHashMap.computeIfAbsent:1708");
+
+    @Test
+    void top_ShouldOrderStacksByTotalPinnedTime() {
+        // Arrange
+        PinnedStackAggregator aggregator = new PinnedStackAggregator(10);
+        aggregator.record(CACHE_STACK, 25_000_000L);
+        aggregator.record(DRIVER_STACK, 30_000_000L);
+        aggregator.record(DRIVER_STACK, 50_000_000L);
+
+        // Act
+        List<PinnedStackAggregator.PinnedStack> top = aggregator.top(5);
+
+        // Assert
+        assertEquals(2, top.size());
+        assertEquals(DRIVER_STACK, top.get(0).frames());
+        assertEquals(2, top.get(0).count());
+        assertEquals(80, top.get(0).totalMillis());
+        assertEquals(50, top.get(0).maxMillis());
+        assertEquals(CACHE_STACK, top.get(1).frames());
+    }
+
+    @Test
+    void record_ShouldCountUntrackedPins_WhenStackLimitIsReached() {
+        // Arrange
+        PinnedStackAggregator aggregator = new PinnedStackAggregator(1);
+        aggregator.record(DRIVER_STACK, 30_000_000L);
+
+        // Act
+        aggregator.record(CACHE_STACK, 25_000_000L);
+
+        // Assert
+        assertEquals(1, aggregator.top(5).size());
+        assertEquals(1, aggregator.getUntrackedCount());
+    }
+}
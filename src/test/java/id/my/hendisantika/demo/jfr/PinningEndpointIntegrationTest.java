@@ -0,0 +1,46 @@
+package id.my.hendisantika.demo.jfr;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PinningEndpointIntegrationTest extends AbstractIntegrationTest {
+
+    private static final List<String> STACK = List.of("id.my.hendisantika.demo.Pinned.run:1");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PinnedStackAggregator pinnedStacks;
+
+    @Test
+    void pinning_ShouldNotResetStatistics_WhenDeletedOverHttp() throws Exception {
+        // Arrange
+        pinnedStacks.reset();
+        pinnedStacks.record(STACK, 30_000_000_000L);
+
+        // Act
+        mockMvc.perform(delete("/actuator/pinning"))
+                .andExpect(status().isMethodNotAllowed());
+
+        // Assert
+        mockMvc.perform(get("/actuator/pinning"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stacks[0].frames[0]").value(STACK.get(0)));
+        assertThat(pinnedStacks.top(10)).extracting(PinnedStackAggregator.PinnedStack::frames).contains(STACK);
+    }
+}
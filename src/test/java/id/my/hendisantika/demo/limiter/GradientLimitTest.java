@@ -0,0 +1,98 @@
+package id.my.hendisantika.demo.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientLimitTest {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private GradientLimit newLimit(int initial) {
+        return new GradientLimit(initial, 1, 200, 0.2, 1.5, 100);
+    }
+
+    @Test
+    void onSample_ShouldGrowLimit_WhenLatencyIsStableAndBulkheadIsBusy() {
+        // Arrange
+        GradientLimit limit = newLimit(20);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(BASELINE_RTT, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 20);
+    }
+
+    @Test
+    void onSample_ShouldShrinkLimit_WhenLatencyRises() {
+        // Arrange
+        GradientLimit limit = newLimit(50);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(BASELINE_RTT, limit.getLimit(), false);
+        }
+        int before = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASELINE_RTT * 10, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < before);
+    }
+
+    @Test
+    void onSample_ShouldNotGrowLimit_WhenApplicationLimited() {
+        // Arrange
+        GradientLimit limit = newLimit(40);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(BASELINE_RTT, 1, false);
+        }
+
+        // Assert
+        assertEquals(40, limit.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldBackOffButRespectMinimum_WhenRequestsAreDropped() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(10, 5, 100, 0.2, 1.5, 100);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(BASELINE_RTT, 10, true);
+        }
+
+        // Assert
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectOnceLimitIsReached() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(EndpointClass.READ, newLimit(2));
+
+        // Act
+        boolean first = bulkhead.tryAcquire();
+        boolean second = bulkhead.tryAcquire();
+        boolean third = bulkhead.tryAcquire();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1, bulkhead.getRejectedCount());
+
+        bulkhead.release(BASELINE_RTT, false);
+        assertTrue(bulkhead.tryAcquire());
+    }
+}
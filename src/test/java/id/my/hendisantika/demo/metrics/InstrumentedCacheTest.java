@@ -0,0 +1,70 @@
+package id.my.hendisantika.demo.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentedCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InstrumentedCache(new ConcurrentMapCache("products"), meterRegistry);
+        RequestTimings.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.stop();
+    }
+
+    @Test
+    void get_ShouldCountHitWithoutTimingLoad_WhenKeyIsCached() {
+        // Arrange
+        cache.put(1L, "Lamp");
+
+        // Act
+        Object value = cache.get(1L).get();
+
+        // Assert
+        assertThat(value).isEqualTo("Lamp");
+        assertThat(RequestTimings.current().getCacheStatus()).isEqualTo("hit");
+        assertThat(loadTimer().count()).isZero();
+    }
+
+    @Test
+    void put_ShouldRecordLoadTime_WhenItFollowsMissOfSameKey() {
+        // Act
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, "Lamp");
+
+        // Assert
+        assertThat(RequestTimings.current().getCacheStatus()).isEqualTo("miss");
+        assertThat(loadTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void put_ShouldNotRecordLoadTime_WhenMissWasNotFollowedByPut() {
+        // Arrange
+        assertThat(cache.get(1L)).isNull();
+
+        // Act
+        cache.put(2L, "Desk");
+        cache.put(1L, "Lamp");
+
+        // Assert
+        assertThat(loadTimer().count()).isZero();
+    }
+
+    private Timer loadTimer() {
+        return meterRegistry.get("product.cache.load").tag("cache", "products").timer();
+    }
+}
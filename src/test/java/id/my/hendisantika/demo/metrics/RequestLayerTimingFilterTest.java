@@ -0,0 +1,62 @@
+package id.my.hendisantika.demo.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLayerTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestLayerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestLayerTimingFilter(meterRegistry);
+    }
+
+    @Test
+    void doFilter_ShouldRecordLatencyByCacheOutcomeAndLayer_WhenRequestCompletes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/products/{id}");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestTimings.cacheLookup(true);
+            RequestTimings.record(RequestLayer.CACHE, TimeUnit.MILLISECONDS.toNanos(1));
+            RequestTimings.record(RequestLayer.SERIALIZATION, TimeUnit.MILLISECONDS.toNanos(5));
+        });
+
+        // Assert
+        assertThat(meterRegistry.get("product.request.latency")
+                .tags("endpoint", "/api/products/{id}", "cache", "hit").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.request.layer")
+                .tags("endpoint", "/api/products/{id}", "layer", "serialization").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(meterRegistry.find("product.request.layer").tag("layer", "sql").timer()).isNull();
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldRecordUnknownEndpoint_WhenHandlerFails() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/broken");
+
+        // Act & Assert
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("product.request.latency")
+                .tags("endpoint", "UNKNOWN", "cache", "none").timer().count()).isEqualTo(1);
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
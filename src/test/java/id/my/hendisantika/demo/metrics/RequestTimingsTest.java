@@ -0,0 +1,72 @@
+package id.my.hendisantika.demo.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.stop();
+    }
+
+    @Test
+    void record_ShouldAddUpTimePerLayer_WhenRequestIsActive() {
+        // Arrange
+        RequestTimings timings = RequestTimings.start();
+
+        // Act
+        RequestTimings.record(RequestLayer.CACHE, 100);
+        RequestTimings.record(RequestLayer.CACHE, 50);
+        RequestTimings.record(RequestLayer.SERIALIZATION, 7);
+
+        // Assert
+        assertThat(RequestTimings.stop()).isSameAs(timings);
+        assertThat(timings.getNanos(RequestLayer.CACHE)).isEqualTo(150);
+        assertThat(timings.getNanos(RequestLayer.SERIALIZATION)).isEqualTo(7);
+        assertThat(timings.getNanos(RequestLayer.SQL)).isZero();
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    void getCacheStatus_ShouldReportMiss_WhenAnyLookupMissed() {
+        // Arrange
+        RequestTimings timings = RequestTimings.start();
+        assertThat(timings.getCacheStatus()).isEqualTo("none");
+
+        // Act & Assert
+        RequestTimings.cacheLookup(true);
+        assertThat(timings.getCacheStatus()).isEqualTo("hit");
+        RequestTimings.cacheLookup(false);
+        RequestTimings.cacheLookup(true);
+        assertThat(timings.getCacheStatus()).isEqualTo("miss");
+    }
+
+    @Test
+    void time_ShouldAttributeTimeToLayer_WhenBlockFails() {
+        // Arrange
+        RequestTimings timings = RequestTimings.start();
+
+        // Act & Assert
+        assertThatThrownBy(() -> RequestTimings.time(RequestLayer.SERIALIZATION, () -> {
+            throw new IOException("broken pipe");
+        })).isInstanceOf(IOException.class);
+        assertThat(timings.getNanos(RequestLayer.SERIALIZATION)).isPositive();
+    }
+
+    @Test
+    void record_ShouldDoNothing_WhenNoRequestIsActive() {
+        // Act
+        RequestTimings.record(RequestLayer.CACHE, 100);
+        RequestTimings.cacheLookup(false);
+
+        // Assert
+        assertThat(RequestTimings.current()).isNull();
+        assertThat(RequestTimings.start().getNanos(RequestLayer.CACHE)).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package id.my.hendisantika.demo.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedMappingJackson2HttpMessageConverterTest {
+
+    private final TimedMappingJackson2HttpMessageConverter converter =
+            new TimedMappingJackson2HttpMessageConverter(new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.stop();
+    }
+
+    @Test
+    void write_ShouldAttributeTimeToSerialization_WhenRequestIsActive() throws Exception {
+        // Arrange
+        RequestTimings timings = RequestTimings.start();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(Map.of("name", "Lamp"), MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        assertThat(output.getBodyAsString()).isEqualTo("{\"name\":\"Lamp\"}");
+        assertThat(timings.getNanos(RequestLayer.SERIALIZATION)).isPositive();
+        assertThat(timings.getNanos(RequestLayer.CACHE)).isZero();
+    }
+
+    @Test
+    void write_ShouldOnlyWriteBody_WhenNoRequestIsActive() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(Map.of("name", "Lamp"), MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        assertThat(output.getBodyAsString()).isEqualTo("{\"name\":\"Lamp\"}");
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
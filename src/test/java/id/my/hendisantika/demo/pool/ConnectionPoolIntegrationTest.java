@@ -0,0 +1,98 @@
+package id.my.hendisantika.demo.pool;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.connection-pools.pools.bulk.maximum-pool-size=2",
+        "app.connection-pools.pools.bulk.connection-timeout=250ms"
+})
+class ConnectionPoolIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getConnection_ShouldServeDefaultPool_WhenBulkPoolIsExhausted() throws Exception {
+        // Arrange
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2; i++) {
+                held.add(ConnectionPoolContext.call(ConnectionPool.BULK, dataSource::getConnection));
+            }
+
+            // Act & Assert
+            assertThatThrownBy(() -> ConnectionPoolContext.call(ConnectionPool.BULK, dataSource::getConnection))
+                    .isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class))
+                    .endsWith("/oltp");
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    @Test
+    void annotatedMethods_ShouldTakeConnectionsFromTheirPool_WhenCalledThroughTheService() throws Exception {
+        // Arrange
+        double reportingBefore = acquisitions(ConnectionPool.REPORTING);
+        double bulkBefore = acquisitions(ConnectionPool.BULK);
+
+        // Act
+        productService.saveAllProducts(List.of(Product.builder()
+                .name("Pool Lamp")
+                .category("Pool Home")
+                .price(new BigDecimal("7.00"))
+                .stock(1)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()));
+        productService.findByPriceRange(new BigDecimal("6.99"), new BigDecimal("7.01"));
+        productService.findLowStockProductsAsync(-100).get();
+        String bulkName = ConnectionPoolContext.call(ConnectionPool.BULK, () ->
+                jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+
+        // Assert
+        assertThat(acquisitions(ConnectionPool.BULK)).isGreaterThan(bulkBefore);
+        assertThat(acquisitions(ConnectionPool.REPORTING)).isGreaterThanOrEqualTo(reportingBefore + 2);
+        assertThat(bulkName).endsWith("/bulk");
+    }
+
+    @Test
+    void getConnection_ShouldFail_WhenPoolIsUnknown() {
+        // Act & Assert
+        assertThatThrownBy(() -> ConnectionPoolContext.call("olap", dataSource::getConnection))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private double acquisitions(String pool) {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+    }
+}
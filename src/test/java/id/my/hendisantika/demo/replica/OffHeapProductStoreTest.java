@@ -0,0 +1,154 @@
+package id.my.hendisantika.demo.replica;
+
+import id.my.hendisantika.demo.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapProductStoreTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+
+    private final OffHeapProductStore store = new OffHeapProductStore(1_000_000);
+
+    @Test
+    void get_ShouldReturnEqualProduct_WhenProductWasPut() {
+        // Arrange
+        Product product = product(42, "Laptop", "Electronics");
+
+        // Act
+        boolean stored = store.put(product);
+
+        // Assert
+        assertThat(stored).isTrue();
+        assertThat(store.get(42)).isEqualTo(product);
+        assertThat(store.get(43)).isNull();
+        assertThat(store.get(100_000)).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldKeepNullFields_WhenOptionalValuesAreMissing() {
+        // Arrange
+        Product product = Product.builder().id(7L).name("Bare").build();
+
+        // Act
+        store.put(product);
+
+        // Assert
+        assertThat(store.get(7)).isEqualTo(product);
+    }
+
+    @Test
+    void put_ShouldRejectProduct_WhenItCannotBeRepresented() {
+        // Arrange
+        store.put(product(5, "Widget", "Tools"));
+        Product fractionalCents = product(5, "Widget", "Tools");
+        fractionalCents.setPrice(new BigDecimal("1.005"));
+
+        // Act
+        boolean stored = store.put(fractionalCents);
+        boolean outOfRange = store.put(product(2_000_000, "Far", "Tools"));
+
+        // Assert
+        assertThat(stored).isFalse();
+        assertThat(outOfRange).isFalse();
+        assertThat(store.get(5)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void put_ShouldReuseStrings_WhenOnlyNumbersChange() {
+        // Arrange
+        Product product = product(1, "Desk", "Furniture");
+        store.put(product);
+        long arenaBytes = store.arenaBytesUsed();
+
+        // Act
+        product.setStock(3);
+        product.setPrice(new BigDecimal("249.99"));
+        store.put(product);
+
+        // Assert
+        assertThat(store.arenaBytesUsed()).isEqualTo(arenaBytes);
+        assertThat(store.get(1)).isEqualTo(product);
+    }
+
+    @Test
+    void findByName_ShouldFollowRenamesAndRemovals() {
+        // Arrange
+        store.put(product(1, "Chair", "Furniture"));
+        store.put(product(2, "Table", "Furniture"));
+
+        // Act
+        store.put(product(1, "Stool", "Furniture"));
+        store.remove(2);
+
+        // Assert
+        assertThat(store.findByName("Chair")).isNull();
+        assertThat(store.findByName("Stool")).extracting(Product::getId).isEqualTo(1L);
+        assertThat(store.findByName("Table")).isNull();
+        assertThat(store.get(2)).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenProductIsDirty() {
+        // Arrange
+        Product product = product(9, "Lamp", "Home");
+        store.put(product);
+
+        // Act
+        store.markDirty(9);
+
+        // Assert
+        assertThat(store.get(9)).isNull();
+        assertThat(store.findByName("Lamp")).isNull();
+        store.put(product);
+        assertThat(store.get(9)).isEqualTo(product);
+    }
+
+    @Test
+    void findByName_ShouldFindEveryProduct_WhenNameTableGrows() {
+        // Arrange
+        int products = 50_000;
+
+        // Act
+        for (int id = 1; id <= products; id++) {
+            store.put(product(id, "Product " + id, "Category " + id % 20));
+        }
+        for (int id = 1; id <= products; id += 2) {
+            store.remove(id);
+        }
+
+        // Assert
+        assertThat(store.size()).isEqualTo(products / 2);
+        for (int id = 1; id <= products; id++) {
+            Product found = store.findByName("Product " + id);
+            if (id % 2 == 0) {
+                assertThat(found).extracting(Product::getId).isEqualTo((long) id);
+                assertThat(found.getCategory()).isEqualTo("Category " + id % 20);
+            } else {
+                assertThat(found).isNull();
+            }
+        }
+        assertThat(store.bytesPerProduct()).isPositive();
+    }
+
+    private static Product product(long id, String name, String category) {
+        return Product.builder()
+                .id(id)
+                .sku("SKU-" + id)
+                .name(name)
+                .description("Description of " + name)
+                .category(category)
+                .price(new BigDecimal("19.90"))
+                .stock(12)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT.plusDays(1))
+                .build();
+    }
+}
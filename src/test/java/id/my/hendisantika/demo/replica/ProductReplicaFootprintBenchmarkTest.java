@@ -0,0 +1,74 @@
+package id.my.hendisantika.demo.replica;
+
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.util.DatasetProperties;
+import id.my.hendisantika.demo.util.SyntheticProductGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Memory per product of the off-heap replica compared with the same products held as entities on the heap.
+ * <p>
+ * Excluded from regular builds; run with {@code ./mvnw -Pbenchmark test -Dtest=ProductReplicaFootprintBenchmarkTest}.
+ * Heap usage is measured after a full GC, so run it with a heap large enough for the entities.
+ */
+@Slf4j
+@Tag("benchmark")
+class ProductReplicaFootprintBenchmarkTest {
+
+    private static final int PRODUCTS = Integer.getInteger("benchmark.products", 500_000);
+
+    @Test
+    void replica_ShouldUseLessMemoryPerProductThanEntities() {
+        // Arrange
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(new DatasetProperties());
+
+        // Act
+        long heapBefore = usedHeapAfterGc();
+        List<Product> entities = new ArrayList<>(PRODUCTS);
+        for (long row = 0; row < PRODUCTS; row++) {
+            entities.add(product(generator, row));
+        }
+        double heapPerProduct = (double) (usedHeapAfterGc() - heapBefore) / PRODUCTS;
+
+        OffHeapProductStore store = new OffHeapProductStore(PRODUCTS);
+        long start = System.nanoTime();
+        entities.forEach(store::put);
+        long loadNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            store.get(id);
+        }
+        long getNanos = System.nanoTime() - start;
+
+        // Assert
+        assertThat(store.size()).isEqualTo(PRODUCTS);
+        assertThat(store.get(PRODUCTS)).isEqualTo(entities.get(PRODUCTS - 1));
+        log.info(String.format("%d products: heap entities %.1f bytes each, replica %.1f bytes each "
+                        + "(records %d, strings %d), load %.0f ns and get %.0f ns per product",
+                PRODUCTS, heapPerProduct, store.bytesPerProduct(), store.recordBytes(), store.stringBytes(),
+                (double) loadNanos / PRODUCTS, (double) getNanos / PRODUCTS));
+        assertThat(store.bytesPerProduct()).isLessThan(heapPerProduct);
+    }
+
+    private static Product product(SyntheticProductGenerator generator, long row) {
+        Product product = generator.row(row).toProduct();
+        product.setId(row + 1);
+        product.setSku("SKU-" + (row + 1));
+        return product;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
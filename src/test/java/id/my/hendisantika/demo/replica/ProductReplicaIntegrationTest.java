@@ -0,0 +1,124 @@
+package id.my.hendisantika.demo.replica;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.replica.enabled=true")
+class ProductReplicaIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductReplica productReplica;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        productReplica.reload();
+        await(productReplica::isReady);
+    }
+
+    @Test
+    void findById_ShouldBeServedByReplica_WhenProductHasBeenReadBack() throws InterruptedException {
+        // Arrange
+        Product saved = productService.saveProduct(product("Replica Desk"));
+        await(() -> productReplica.findById(saved.getId()) != null);
+        double hits = hits();
+
+        // Act
+        Product byId = productService.findById(saved.getId()).orElseThrow();
+        Product byName = productService.findByName("Replica Desk").orElseThrow();
+
+        // Assert
+        assertThat(byId.getId()).isEqualTo(saved.getId());
+        assertThat(byId.getPrice()).isEqualByComparingTo("99.50");
+        assertThat(byName.getId()).isEqualTo(saved.getId());
+        assertThat(hits()).isEqualTo(hits + 2);
+        assertThat(productReplica.getStore().size()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_ShouldReturnCommittedVersion_WhenProductChangesAfterBeingReplicated() throws InterruptedException {
+        // Arrange
+        Product saved = productService.saveProduct(product("Replica Chair"));
+        await(() -> productReplica.findById(saved.getId()) != null);
+
+        // Act
+        productService.updateStock(saved.getId(), 1);
+        Product afterUpdate = productService.findById(saved.getId()).orElseThrow();
+        productService.deleteProduct(saved.getId());
+        boolean presentAfterDelete = productService.findById(saved.getId()).isPresent();
+
+        // Assert
+        assertThat(afterUpdate.getStock()).isEqualTo(1);
+        assertThat(presentAfterDelete).isFalse();
+        await(() -> productReplica.getStore().size() == 0);
+    }
+
+    @Test
+    void reload_ShouldLoadProductsWrittenBehindTheService() throws InterruptedException {
+        // Arrange
+        Product saved = productRepository.save(product("Replica Lamp"));
+
+        // Act
+        productReplica.reload();
+        await(productReplica::isReady);
+
+        // Assert
+        assertThat(productReplica.findById(saved.getId()))
+                .extracting(Product::getName, Product::getCategory)
+                .containsExactly("Replica Lamp", "Furniture");
+        assertThat(productReplica.findByName("Replica Lamp")).extracting(Product::getId).isEqualTo(saved.getId());
+    }
+
+    private double hits() {
+        return meterRegistry.get("product.replica.lookups").tag("result", "hit").counter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out waiting").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .description("Replicated product")
+                .category("Furniture")
+                .price(new BigDecimal("99.50"))
+                .stock(10)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
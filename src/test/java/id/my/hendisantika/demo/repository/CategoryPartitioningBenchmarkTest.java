@@ -0,0 +1,221 @@
+package id.my.hendisantika.demo.repository;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.util.DatasetProperties;
+import id.my.hendisantika.demo.util.SyntheticProductGenerator;
+import id.my.hendisantika.demo.util.ZipfDistribution;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Category page, count and lookup-by-id latency on the plain and the category-partitioned products table.
+ * <p>
+ * Excluded from regular builds; run with {@code ./mvnw -Pbenchmark test -Dbenchmark.rows=10000000}. Both tables are
+ * built by the real migrations in their own schema and hold the same synthetic dataset; categories are requested
+ * with the dataset's Zipf skew, pages at random offsets, through server-side prepared statements like Hibernate's.
+ * Lookups by id carry no category, so on the partitioned table they probe the id index of every partition.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class CategoryPartitioningBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final long ROWS = Long.getLong("benchmark.rows", 1_000_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5_000);
+    private static final String PLAIN = "bench_plain";
+    private static final String PARTITIONED = "bench_partitioned";
+
+    private static final String PAGE_SQL = "SELECT id, name, description, category, price, stock, created_at, updated_at "
+            + "FROM products WHERE category = ? ORDER BY id OFFSET ? ROWS FETCH FIRST 20 ROWS ONLY";
+    private static final String COUNT_SQL = "SELECT count(id) FROM products WHERE category = ?";
+    private static final String ID_SQL = "SELECT id, name, description, category, price, stock, created_at, updated_at "
+            + "FROM products WHERE id = ?";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + PLAIN + " CASCADE");
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + PARTITIONED + " CASCADE");
+    }
+
+    @Test
+    void categoryPageAndLookup_ShouldReturnSameResults_OnPlainAndPartitionedTables() throws SQLException {
+        // Arrange: same rows in both, partitioned after loading so the largest categories get their own partition
+        tearDown();
+        migrate(PLAIN, "classpath:db/migration");
+        migrate(PARTITIONED, "classpath:db/migration");
+        load(PLAIN);
+        jdbcTemplate.execute("INSERT INTO " + PARTITIONED + ".products SELECT * FROM " + PLAIN + ".products");
+        migrate(PARTITIONED, "classpath:db/migration", "classpath:db/partitioning");
+        jdbcTemplate.execute("VACUUM ANALYZE " + PLAIN + ".products");
+        jdbcTemplate.execute("VACUUM ANALYZE " + PARTITIONED + ".products");
+        List<String> categories = jdbcTemplate.queryForList("SELECT category FROM " + PLAIN + ".products "
+                + "GROUP BY category ORDER BY count(*) DESC", String.class);
+
+        // Act
+        Result plain = measure(PLAIN, categories);
+        Result partitioned = measure(PARTITIONED, categories);
+
+        // Assert
+        log.info("Category benchmark, {} rows, {} iterations (microseconds)", ROWS, ITERATIONS);
+        log.info("{}", plain);
+        log.info("{}", partitioned);
+        assertThat(partitioned.checksum()).isEqualTo(plain.checksum());
+    }
+
+    private void migrate(String schema, String... locations) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .locations(locations)
+                .outOfOrder(true)
+                .load()
+                .migrate();
+    }
+
+    private void load(String schema) throws SQLException {
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(new DatasetProperties());
+        try (Connection connection = dataSource.getConnection()) {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY " + schema + ".products "
+                    + "(name, description, category, price, stock, created_at, updated_at) FROM STDIN WITH (FORMAT csv)");
+            StringBuilder buffer = new StringBuilder(1 << 20);
+            for (long row = 0; row < ROWS; row++) {
+                generator.row(row).appendCsv(buffer);
+                if (buffer.length() >= 1 << 20 || row == ROWS - 1) {
+                    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    buffer.setLength(0);
+                }
+            }
+            copyIn.endCopy();
+        }
+    }
+
+    private Result measure(String schema, List<String> categories) throws SQLException {
+        ZipfDistribution zipf = new ZipfDistribution(categories.size(), 1.1);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] pageNanos = new long[ITERATIONS];
+        long[] countNanos = new long[ITERATIONS];
+        long[] idNanos = new long[ITERATIONS];
+        long checksum = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET search_path TO " + schema);
+            }
+            PreparedStatement page = connection.prepareStatement(PAGE_SQL);
+            PreparedStatement count = connection.prepareStatement(COUNT_SQL);
+            PreparedStatement byId = connection.prepareStatement(ID_SQL);
+            // Warm-up: the first iterations also get the statements server-prepared
+            for (int i = -ITERATIONS / 5; i < ITERATIONS; i++) {
+                String category = categories.get(zipf.sample(random.nextDouble()));
+                int offset = random.nextInt(50) * 20;
+                long id = random.nextLong(1, ROWS + 1);
+
+                long start = System.nanoTime();
+                long ids = queryPage(page, category, offset);
+                long pageTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                long total = queryCount(count, category);
+                long countTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                long found = queryById(byId, id);
+                long idTime = System.nanoTime() - start;
+
+                if (i >= 0) {
+                    pageNanos[i] = pageTime;
+                    countNanos[i] = countTime;
+                    idNanos[i] = idTime;
+                    checksum += (ids * 31 + total) * 31 + found;
+                }
+            }
+            // The connection goes back to the pool
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("RESET search_path");
+            }
+        }
+        return new Result(schema, Percentiles.of(pageNanos), Percentiles.of(countNanos), Percentiles.of(idNanos),
+                checksum);
+    }
+
+    private static long queryPage(PreparedStatement page, String category, int offset) throws SQLException {
+        page.setString(1, category);
+        page.setInt(2, offset);
+        long ids = 0;
+        try (ResultSet rs = page.executeQuery()) {
+            while (rs.next()) {
+                ids += rs.getLong(1);
+            }
+        }
+        return ids;
+    }
+
+    private static long queryCount(PreparedStatement count, String category) throws SQLException {
+        count.setString(1, category);
+        try (ResultSet rs = count.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long queryById(PreparedStatement byId, long id) throws SQLException {
+        byId.setLong(1, id);
+        try (ResultSet rs = byId.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private record Percentiles(long p50, long p95, long p99, long mean) {
+
+        static Percentiles of(long[] nanos) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return new Percentiles(at(sorted, 0.50), at(sorted, 0.95), at(sorted, 0.99),
+                    Arrays.stream(sorted).sum() / sorted.length / 1000);
+        }
+
+        private static long at(long[] sorted, double quantile) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * (sorted.length - 1)))] / 1000;
+        }
+
+        @Override
+        public String toString() {
+            return "p50=" + p50 + " p95=" + p95 + " p99=" + p99 + " mean=" + mean;
+        }
+    }
+
+    private record Result(String schema, Percentiles page, Percentiles count, Percentiles id, long checksum) {
+
+        @Override
+        public String toString() {
+            return String.format("%-18s page [%s]  count [%s]  id [%s]", schema, page, count, id);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package id.my.hendisantika.demo.repository;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.upsert.ProductUpserter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the unchanged repository against the category-partitioned table. Uses its own schema so the other
+ * integration tests keep the plain table.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.default-schema=partitioned_it",
+        "spring.datasource.hikari.schema=partitioned_it"
+})
+@ActiveProfiles("partitioned")
+class PartitionedProductRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductUpserter productUpserter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void categoryQueries_ShouldBePrunedToOnePartition_WhenCategoryHasItsOwnPartition() {
+        // Arrange
+        jdbcTemplate.update("CALL add_product_category_partition('Electronics')");
+        Product laptop = productRepository.save(product("Laptop", "Electronics"));
+        productRepository.save(product("Novel", "Books"));
+
+        // Act
+        Page<Product> page = productRepository.findByCategory("Electronics", PageRequest.of(0, 20, Sort.by("id")));
+        String partition = jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM products WHERE id = ?",
+                String.class, laptop.getId());
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM products WHERE category = 'Electronics'", String.class));
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT relkind::text FROM pg_class WHERE oid = 'products'::regclass",
+                String.class)).isEqualTo("p");
+        assertThat(page.getContent()).extracting(Product::getName).containsExactly("Laptop");
+        assertThat(partition).startsWith("products_electronics_");
+        assertThat(plan).contains(partition).doesNotContain("products_default");
+    }
+
+    @Test
+    void repository_ShouldWorkUnchanged_WhenTableIsPartitioned() {
+        // Arrange
+        Product saved = productRepository.save(product("Lamp", "Home"));
+
+        // Act
+        saved.setCategory("Garden");
+        saved.setStock(3);
+        productRepository.save(saved);
+
+        // Assert
+        assertThat(productRepository.findById(saved.getId())).get()
+                .extracting(Product::getCategory).isEqualTo("Garden");
+        assertThat(productRepository.countByCategory("Garden")).isEqualTo(1);
+        assertThat(productRepository.countByCategory("Home")).isZero();
+        assertThat(productRepository.findLowStockProducts(5)).extracting(Product::getId).containsExactly(saved.getId());
+        assertThat(productRepository.findLowStockProducts(null)).isEmpty();
+        productRepository.deleteById(saved.getId());
+        assertThat(productRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void upsert_ShouldMatchSkuWithinCategory_WhenTableIsPartitioned() {
+        // Arrange
+        Product lamp = product("Lamp", "Home");
+        lamp.setSku("SKU-LAMP");
+        List<ProductUpserter.Change> inserted = transactionTemplate.execute(status ->
+                productUpserter.upsert(List.of(lamp), LocalDateTime.now()));
+
+        // Act
+        lamp.setPrice(new BigDecimal("12.00"));
+        List<ProductUpserter.Change> updated = transactionTemplate.execute(status ->
+                productUpserter.upsert(List.of(lamp), LocalDateTime.now()));
+        List<ProductUpserter.Change> unchanged = transactionTemplate.execute(status ->
+                productUpserter.upsert(List.of(lamp), LocalDateTime.now()));
+
+        // Assert
+        assertThat(inserted).singleElement().extracting(ProductUpserter.Change::inserted).isEqualTo(true);
+        assertThat(updated).singleElement().satisfies(change -> {
+            assertThat(change.inserted()).isFalse();
+            assertThat(change.id()).isEqualTo(inserted.get(0).id());
+            assertThat(change.previousPrice()).isEqualByComparingTo("10.00");
+        });
+        assertThat(unchanged).isEmpty();
+        assertThat(productRepository.findById(inserted.get(0).id())).get()
+                .extracting(Product::getPrice).isEqualTo(new BigDecimal("12.00"));
+    }
+
+    @Test
+    void upsert_ShouldMoveProductToNewCategory_WhenSkuExistsInAnotherCategory() {
+        // Arrange
+        Product lamp = product("Lamp", "Home");
+        lamp.setSku("SKU-LAMP");
+        List<ProductUpserter.Change> inserted = transactionTemplate.execute(status ->
+                productUpserter.upsert(List.of(lamp), LocalDateTime.now()));
+
+        // Act
+        lamp.setCategory("Garden");
+        List<ProductUpserter.Change> moved = transactionTemplate.execute(status ->
+                productUpserter.upsert(List.of(lamp), LocalDateTime.now()));
+        List<ProductUpserter.Change> unchanged = transactionTemplate.execute(status ->
+                productUpserter.upsert(List.of(lamp), LocalDateTime.now()));
+
+        // Assert
+        assertThat(moved).singleElement().satisfies(change -> {
+            assertThat(change.inserted()).isFalse();
+            assertThat(change.id()).isEqualTo(inserted.get(0).id());
+            assertThat(change.previousCategory()).isEqualTo("Home");
+        });
+        assertThat(unchanged).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE sku = 'SKU-LAMP'", Long.class))
+                .isEqualTo(1);
+        assertThat(productRepository.findById(inserted.get(0).id())).get()
+                .extracting(Product::getCategory).isEqualTo("Garden");
+    }
+
+    @Test
+    void insert_ShouldRejectExplicitId_WhenTableIsPartitioned() {
+        // Arrange: no primary key spans the partitions, so only the identity keeps ids unique
+        Product novel = productRepository.save(product("Novel", "Books"));
+        jdbcTemplate.update("CALL add_product_category_partition('Books')");
+
+        // Act & Assert
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO products (id, name, category) VALUES (?, 'Copy', 'Toys')", novel.getId()))
+                .isInstanceOf(DataAccessException.class)
+                .rootCause().hasMessageContaining("non-DEFAULT value");
+        assertThat(productRepository.findById(novel.getId())).get()
+                .extracting(Product::getName).isEqualTo("Novel");
+        assertThat(productRepository.save(product("Puzzle", "Toys")).getId()).isGreaterThan(novel.getId());
+    }
+
+    private static Product product(String name, String category) {
+        return Product.builder()
+                .name(name)
+                .category(category)
+                .price(new BigDecimal("10.00"))
+                .stock(10)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package id.my.hendisantika.demo.repository;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Switches the partitioned layout on for a database already migrated with the plain one, as the partitioned
+ * profile allows. Migrates a schema of its own so the other integration tests keep theirs.
+ */
+@SpringBootTest
+class PartitioningUpgradeIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String SCHEMA = "partitioning_upgrade_it";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void partitionedMigrations_ShouldKeepSkusAndTheirIndexes_WhenDatabaseIsAlreadyAtLatestPlainVersion() {
+        // Arrange
+        flyway("classpath:db/migration").migrate();
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".products (name, category, price, stock, sku) "
+                + "VALUES ('Lamp', 'Home', 10.00, 3, 'SKU-LAMP'), ('Mug', 'Kitchen', 4.00, 8, NULL)");
+
+        // Act
+        flyway("classpath:db/migration", "classpath:db/partitioning").migrate();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT relkind::text FROM pg_class WHERE oid = '" + SCHEMA
+                + ".products'::regclass", String.class)).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForList("SELECT coalesce(sku, '-') FROM " + SCHEMA + ".products ORDER BY name",
+                String.class)).containsExactly("SKU-LAMP", "-");
+        assertThat(indexDefinition("idx_product_sku")).contains("UNIQUE").contains("(sku, category)");
+        assertThat(indexDefinition("idx_product_price_covering")).contains("sku");
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('" + SCHEMA + ".product_sku_before_partitioning')",
+                String.class)).isNull();
+    }
+
+    private Flyway flyway(String... locations) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .locations(locations)
+                .outOfOrder(true)
+                .load();
+    }
+
+    private String indexDefinition(String name) {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE schemaname = ? AND indexname = ?", String.class, SCHEMA, name);
+        assertThat(definitions).hasSize(1);
+        return definitions.get(0);
+    }
+}
@@ -0,0 +1,150 @@
+package id.my.hendisantika.demo.responsecache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ResponseCacheIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CATEGORY = "Response Cache";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<Product> saved;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            products.add(Product.builder()
+                    .name("Response Cache Product " + i)
+                    .description("Product whose list responses are cached as encoded bytes")
+                    .category(CATEGORY)
+                    .price(new BigDecimal("9.99").add(BigDecimal.valueOf(i)))
+                    .stock(i)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        saved = productRepository.saveAll(products);
+    }
+
+    @Test
+    void getAllProducts_ShouldServeStoredBytesWithoutReachingService_WhenRequestRepeats() throws Exception {
+        // Arrange
+        byte[] first = fetch(get("/api/products?size=5&page=0")).getContentAsByteArray();
+        long serviceLookups = nativeCache("allProducts").stats().requestCount();
+        double responseHits = responseCacheHits();
+
+        // Act
+        MockHttpServletResponse second = fetch(get("/api/products?page=0&size=5"));
+
+        // Assert
+        assertThat(second.getContentAsByteArray()).isEqualTo(first);
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader(HttpHeaders.VARY)).isEqualTo("Accept, Accept-Encoding");
+        assertThat(nativeCache("allProducts").stats().requestCount()).isEqualTo(serviceLookups);
+        assertThat(responseCacheHits()).isEqualTo(responseHits + 1);
+    }
+
+    @Test
+    void deleteProduct_ShouldInvalidateCachedListResponses() throws Exception {
+        // Arrange
+        Product deleted = saved.get(0);
+        String before = fetch(get("/api/products/category/{category}", CATEGORY)).getContentAsString();
+        assertThat(before).contains(deleted.getName() + "\"");
+
+        // Act
+        mockMvc.perform(delete("/api/products/{id}", deleted.getId())).andExpect(status().isNoContent());
+        String after = fetch(get("/api/products/category/{category}", CATEGORY)).getContentAsString();
+
+        // Assert
+        assertThat(after).doesNotContain(deleted.getName() + "\"");
+    }
+
+    @Test
+    void getProductsByCategory_ShouldServePrecompressedGzip_WhenClientAcceptsGzip() throws Exception {
+        // Arrange
+        byte[] identity = fetch(get("/api/products/category/{category}", CATEGORY)).getContentAsByteArray();
+
+        // Act
+        MockHttpServletResponse gzipped = fetch(get("/api/products/category/{category}", CATEGORY)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        // Assert
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getContentLength()).isLessThan(identity.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity);
+        }
+    }
+
+    @Test
+    void getProductsByCategory_ShouldCacheEachEncodingSeparately_WhenAcceptDiffers() throws Exception {
+        // Arrange
+        fetch(get("/api/products/category/{category}", CATEGORY).accept(MediaType.APPLICATION_JSON));
+        fetch(get("/api/products/category/{category}", CATEGORY).accept(MediaType.APPLICATION_CBOR));
+
+        // Act
+        MockHttpServletResponse json = fetch(get("/api/products/category/{category}", CATEGORY).accept(MediaType.APPLICATION_JSON));
+        MockHttpServletResponse cbor = fetch(get("/api/products/category/{category}", CATEGORY).accept(MediaType.APPLICATION_CBOR));
+
+        // Assert
+        assertThat(json.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(cbor.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(cbor.getContentAsByteArray()).isNotEqualTo(json.getContentAsByteArray());
+    }
+
+    private MockHttpServletResponse fetch(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+
+    private double responseCacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "responses").tag("result", "hit").functionCounter().count();
+    }
+}
@@ -1,5 +1,8 @@
 package id.my.hendisantika.demo.service.impl;
 
+import id.my.hendisantika.demo.count.CountMode;
+import id.my.hendisantika.demo.count.ProductCounter;
+import id.my.hendisantika.demo.event.ProductChangeEvent;
 import id.my.hendisantika.demo.model.Product;
 import id.my.hendisantika.demo.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,10 +11,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,6 +30,8 @@ import java.util.concurrent.ExecutionException;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,6 +48,12 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProductCounter productCounter;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -121,6 +135,48 @@ class ProductServiceImplTest {
         verify(productRepository, times(1)).save(productToUpdate);
     }
 
+    @Test
+    void saveProduct_ShouldPublishUpdateWithoutName_WhenProductIsRenamed() {
+        // Arrange
+        Product renamed = Product.builder()
+                .id(1L)
+                .name("Renamed Product")
+                .category("Test Category")
+                .price(new BigDecimal("99.99"))
+                .stock(100)
+                .build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        productService.saveProduct(renamed);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangeEvent(
+                ProductChangeEvent.ChangeType.UPDATED, 1L, null, "Test Category"));
+    }
+
+    @Test
+    void saveProduct_ShouldPublishUpdateWithNameAndCategory_WhenNeitherChanged() {
+        // Arrange
+        Product repriced = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .category("Test Category")
+                .price(new BigDecimal("89.99"))
+                .stock(100)
+                .build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        productService.saveProduct(repriced);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangeEvent(
+                ProductChangeEvent.ChangeType.UPDATED, 1L, "Test Product", "Test Category"));
+    }
+
     @Test
     void findById_ShouldReturnProduct_WhenProductExists() {
         // Arrange
@@ -194,6 +250,52 @@ class ProductServiceImplTest {
         verify(productRepository, times(1)).findByCategory("Test Category", pageable);
     }
 
+    @Test
+    void findAllProducts_ShouldTakeTotalFromCounter_WhenCountIsEstimated() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        when(productRepository.findPage(pageable)).thenReturn(productList);
+        when(productCounter.count(null, CountMode.ESTIMATED)).thenReturn(1_000L);
+
+        // Act
+        Slice<Product> result = productService.findAllProducts(pageable, CountMode.ESTIMATED);
+
+        // Assert
+        assertEquals(1_000, assertInstanceOf(Page.class, result).getTotalElements());
+        assertEquals(productList, result.getContent());
+        verify(productRepository, never()).findAll(pageable);
+    }
+
+    @Test
+    void findByCategory_ShouldNotCountBelowListedProducts_WhenEstimateIsTooLow() {
+        // Arrange
+        Pageable pageable = PageRequest.of(3, 2);
+        when(productRepository.findPageByCategory("Test Category", pageable)).thenReturn(productList);
+        when(productCounter.count("Test Category", CountMode.CACHED)).thenReturn(1L);
+
+        // Act
+        Slice<Product> result = productService.findByCategory("Test Category", pageable, CountMode.CACHED);
+
+        // Assert
+        assertEquals(8, assertInstanceOf(Page.class, result).getTotalElements());
+    }
+
+    @Test
+    void findByCategory_ShouldReturnSliceWithoutCounting_WhenCountIsNone() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        Slice<Product> slice = new SliceImpl<>(productList, pageable, true);
+        when(productRepository.findSliceByCategory("Test Category", pageable)).thenReturn(slice);
+
+        // Act
+        Slice<Product> result = productService.findByCategory("Test Category", pageable, CountMode.NONE);
+
+        // Assert
+        assertSame(slice, result);
+        assertTrue(result.hasNext());
+        verify(productCounter, never()).count(any(), any());
+    }
+
 
     @Test
     void findByPriceRange_ShouldReturnListOfProducts() {
@@ -211,6 +313,20 @@ class ProductServiceImplTest {
         verify(productRepository, times(1)).findByPriceRange(minPrice, maxPrice);
     }
 
+    @Test
+    void findLowStockProducts_ShouldReturnProductsBelowThreshold() {
+        // Arrange
+        List<Product> lowStockProducts = List.of(productList.get(1)); // product with stock 50
+        when(productRepository.findLowStockProducts(60)).thenReturn(lowStockProducts);
+
+        // Act
+        List<Product> result = productService.findLowStockProducts(60);
+
+        // Assert
+        assertEquals(lowStockProducts, result);
+        verify(productRepository, times(1)).findLowStockProducts(60);
+    }
+
     @Test
     void findLowStockProductsAsync_ShouldReturnCompletableFutureOfProducts() throws ExecutionException, InterruptedException {
         // Arrange
@@ -252,6 +368,8 @@ class ProductServiceImplTest {
         assertNotNull(updatedProduct.getUpdatedAt());
         verify(productRepository, times(1)).findById(1L);
         verify(productRepository, times(1)).save(productToUpdate);
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangeEvent(
+                ProductChangeEvent.ChangeType.UPDATED, 1L, "Test Product", "Test Category"));
     }
 
     @Test
@@ -279,6 +397,7 @@ class ProductServiceImplTest {
 
         // Assert
         verify(productRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(ProductChangeEvent.deleted(1L));
     }
 
     @Test
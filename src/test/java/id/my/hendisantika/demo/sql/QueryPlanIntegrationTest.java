@@ -0,0 +1,108 @@
+package id.my.hendisantika.demo.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.util.DatasetProperties;
+import id.my.hendisantika.demo.util.SyntheticProductGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Explains every {@link ProductRepository} query against a table well above the sequential scan threshold.
+ */
+@SpringBootTest(properties = "app.sql-budget.max-seq-scan-rows=1000")
+class QueryPlanIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetProperties sqlBudgetProperties;
+
+    private QueryPlanVerifier queryPlanVerifier;
+
+    @BeforeEach
+    void setUp() {
+        queryPlanVerifier = new QueryPlanVerifier(jdbcTemplate, objectMapper, sqlBudgetProperties.getMaxSeqScanRows());
+        productRepository.deleteAllInBatch();
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(new DatasetProperties());
+        List<Object[]> rows = LongStream.range(0, ROWS)
+                .mapToObj(generator::row)
+                .map(row -> new Object[]{row.name(), row.description(), row.category(),
+                        BigDecimal.valueOf(row.priceCents(), 2), row.stock(),
+                        Timestamp.valueOf(row.createdAt()), Timestamp.valueOf(row.updatedAt())})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, description, category, price, stock, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void productRepositoryQueries_ShouldNotScanProductsSequentially() {
+        // Arrange
+        Pageable page = PageRequest.of(0, 20, Sort.by("id"));
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        SqlStatementStats stats = SqlStatementTracker.captureSql(() -> {
+            productRepository.findByName("Classic Laptop 1");
+            productRepository.findByCategory("Electronics", page);
+            productRepository.findPageByCategory("Books", page);
+            productRepository.findByPriceRange(new BigDecimal("10.00"), new BigDecimal("20.00"));
+            productRepository.findLowStockProducts(5);
+            productRepository.countByCategory("Toys");
+            productRepository.countByCategoryIn(List.of("Electronics", "Books"));
+            productRepository.findChangedAfter(now.minusDays(1), 0, now, Limit.of(100));
+        });
+        List<QueryPlanVerifier.SeqScan> seqScans = stats.getSql().stream()
+                .flatMap(sql -> queryPlanVerifier.findSeqScans(sql).stream())
+                .toList();
+
+        // Assert
+        assertThat(stats.getSql()).hasSizeGreaterThanOrEqualTo(9);
+        assertThat(seqScans).isEmpty();
+    }
+
+    @Test
+    void findSeqScans_ShouldReportLargeTable_WhenPredicateHasNoIndex() {
+        // Act
+        List<QueryPlanVerifier.SeqScan> seqScans =
+                queryPlanVerifier.findSeqScans("select p.id from products p where p.description = ?");
+
+        // Assert
+        assertThat(seqScans).singleElement().satisfies(seqScan -> {
+            assertThat(seqScan.relation()).isEqualTo("products");
+            assertThat(seqScan.tableRows()).isGreaterThan(1000);
+        });
+    }
+}
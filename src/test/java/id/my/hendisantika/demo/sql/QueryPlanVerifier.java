@@ -0,0 +1,110 @@
+package id.my.hendisantika.demo.sql;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Explains SQL statements and reports sequential scans on tables larger than a threshold.
+ * <p>
+ * Statements are prepared and explained with a forced generic plan, which is the plan a prepared statement
+ * settles on once cached, so SQL captured from Hibernate can be checked without meaningful parameter values.
+ * Table sizes come from the planner statistics; analyze tables before checking.
+ */
+@RequiredArgsConstructor
+public class QueryPlanVerifier {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long maxSeqScanRows;
+
+    /**
+     * Sequential scans in the plan of one statement on tables with more than the allowed rows.
+     */
+    public List<SeqScan> findSeqScans(String sql) {
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> explainGeneric(connection, sql));
+        List<SeqScan> seqScans = new ArrayList<>();
+        try {
+            collect(sql, objectMapper.readTree(plan).path(0).path("Plan"), seqScans);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable plan for " + sql, e);
+        }
+        return seqScans;
+    }
+
+    private static String explainGeneric(Connection connection, String sql) throws SQLException {
+        NumberedSql numbered = numberParameters(sql);
+        String arguments = numbered.parameters() == 0 ? ""
+                : "(" + String.join(", ", Collections.nCopies(numbered.parameters(), "NULL")) + ")";
+        try (Statement statement = connection.createStatement()) {
+            // Session settings; restored before the connection goes back to the pool
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            try {
+                statement.execute("PREPARE query_plan_check AS " + numbered.sql());
+                try (ResultSet plan = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE query_plan_check" + arguments)) {
+                    plan.next();
+                    return plan.getString(1);
+                } finally {
+                    statement.execute("DEALLOCATE query_plan_check");
+                }
+            } finally {
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+    }
+
+    private void collect(String sql, JsonNode node, List<SeqScan> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, relation);
+            if (rows != null && rows > maxSeqScanRows) {
+                seqScans.add(new SeqScan(sql, relation, rows));
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(sql, child, seqScans);
+        }
+    }
+
+    /**
+     * Replace JDBC {@code ?} markers outside string literals by {@code $1..$n}, which PREPARE understands.
+     */
+    static NumberedSql numberParameters(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                out.append('$').append(++parameter);
+            } else {
+                out.append(c);
+            }
+        }
+        return new NumberedSql(out.toString(), parameter);
+    }
+
+    record NumberedSql(String sql, int parameters) {
+    }
+
+    /**
+     * A sequential scan of {@code relation} (about {@code tableRows} rows) in the plan of {@code sql}.
+     */
+    public record SeqScan(String sql, String relation, long tableRows) {
+    }
+}
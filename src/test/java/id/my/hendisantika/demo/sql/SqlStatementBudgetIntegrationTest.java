@@ -0,0 +1,85 @@
+package id.my.hendisantika.demo.sql;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SqlStatementBudgetIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            products.add(Product.builder()
+                    .name("Budget Product " + i)
+                    .description("Budget Description " + i)
+                    .category("Budget Category")
+                    .price(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                    .stock(i)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        firstId = productRepository.saveAll(products).get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void getProductsByCategory_ShouldIssueAtMostTwoStatements() {
+        SqlStatementTracker.Captured<Page<Product>> captured = SqlStatementTracker.capture(
+                () -> productService.findByCategory("Budget Category", PageRequest.of(0, 10)));
+
+        assertThat(captured.result().getContent()).hasSize(10);
+        assertThat(captured.stats().getStatements()).isLessThanOrEqualTo(2);
+        assertThat(captured.stats().getRowsFetched()).isEqualTo(10);
+    }
+
+    @Test
+    void findById_ShouldIssueOneStatementAndNoneWhenCached() {
+        SqlStatementTracker.Captured<Optional<Product>> first = SqlStatementTracker.capture(
+                () -> productService.findById(firstId));
+        SqlStatementStats second = SqlStatementTracker.capture(() -> {
+            productService.findById(firstId);
+        });
+
+        assertThat(first.result()).isPresent();
+        assertThat(first.stats().getStatements()).isEqualTo(1);
+        assertThat(second.getStatements()).isZero();
+    }
+}
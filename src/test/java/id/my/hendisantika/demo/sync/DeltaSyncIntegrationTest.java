@@ -0,0 +1,100 @@
+package id.my.hendisantika.demo.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.delta-sync.settle-time=0s")
+@AutoConfigureMockMvc
+class DeltaSyncIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void sync_ShouldReturnOnlyChangesAndDeletes_WhenResumingFromCursor() throws Exception {
+        // Arrange
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(productService.saveProduct(Product.builder()
+                    .name("Sync Product " + i)
+                    .category("Sync")
+                    .price(new BigDecimal("10.00"))
+                    .stock(10)
+                    .build()));
+        }
+
+        // Act: initial sync in pages of two
+        List<Long> listed = new ArrayList<>();
+        DeltaSyncPage page = sync("?limit=2");
+        assertThat(page.reset()).isTrue();
+        listed.addAll(ids(page));
+        while (page.hasMore()) {
+            page = sync("?limit=2&cursor=" + page.cursor());
+            assertThat(page.reset()).isFalse();
+            listed.addAll(ids(page));
+        }
+        String cursor = page.cursor();
+
+        Product updated = productService.updateStock(products.get(1).getId(), 3);
+        productService.deleteProduct(products.get(3).getId());
+        DeltaSyncPage delta = sync("?cursor=" + cursor);
+
+        // Assert
+        assertThat(listed).containsExactlyElementsOf(products.stream().map(Product::getId).toList());
+        assertThat(delta.reset()).isFalse();
+        assertThat(delta.hasMore()).isFalse();
+        assertThat(delta.changed()).extracting(Product::getId).containsExactly(updated.getId());
+        assertThat(delta.changed().get(0).getStock()).isEqualTo(3);
+        assertThat(delta.deleted()).extracting(DeltaSyncPage.Deletion::productId).contains(products.get(3).getId());
+        assertThat(sync("?cursor=" + delta.cursor()).changed()).isEmpty();
+    }
+
+    @Test
+    void sync_ShouldReturnBadRequest_WhenCursorIsMalformed() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products/sync").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private DeltaSyncPage sync(String query) throws Exception {
+        String body = mockMvc.perform(get("/api/products/sync" + query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, DeltaSyncPage.class);
+    }
+
+    private static List<Long> ids(DeltaSyncPage page) {
+        return page.changed().stream().map(Product::getId).toList();
+    }
+}
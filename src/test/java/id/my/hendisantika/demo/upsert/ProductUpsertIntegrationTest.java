@@ -0,0 +1,182 @@
+package id.my.hendisantika.demo.upsert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.count.CountMode;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.CategoryPageKey;
+import id.my.hendisantika.demo.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductUpsertIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductUpsertService productUpsertService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void upsertProductsBulk_ShouldReportOutcomePerItem_WhenItemsAreNewChangedEqualOrInvalid() throws Exception {
+        // Arrange
+        productUpsertService.upsert(List.of(item("SKU-A", "Upsert A", "10.00"), item("SKU-B", "Upsert B", "20.00")));
+        Product storedA = productRepository.findAll().stream().filter(p -> "SKU-A".equals(p.getSku())).findFirst().orElseThrow();
+        List<Product> request = Arrays.asList(
+                item("SKU-A", "Upsert A", "10.00"),
+                item("SKU-B", "Upsert B", "25.50"),
+                item("SKU-C", "Upsert C", "30.00"),
+                item(null, "No SKU", "1.00"),
+                item("SKU-C", "Upsert C again", "31.00"));
+
+        // Act
+        String body = mockMvc.perform(put("/api/products/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        BulkUpsertResult result = objectMapper.readValue(body, BulkUpsertResult.class);
+        assertThat(result.items()).extracting(UpsertOutcome::status).containsExactly(
+                UpsertStatus.UNCHANGED, UpsertStatus.UPDATED, UpsertStatus.INSERTED, UpsertStatus.REJECTED,
+                UpsertStatus.REJECTED);
+        assertThat(result.items().get(3).reason()).isEqualTo("sku is required");
+        assertThat(result.items().get(4).reason()).isEqualTo("duplicate sku in request");
+        assertThat(body).doesNotContain("\"reason\":null");
+        assertThat(List.of(result.inserted(), result.updated(), result.unchanged(), result.rejected()))
+                .containsExactly(1, 1, 1, 2);
+
+        assertThat(productRepository.count()).isEqualTo(3);
+        Product unchanged = productRepository.findById(storedA.getId()).orElseThrow();
+        assertThat(unchanged.getUpdatedAt()).isEqualTo(storedA.getUpdatedAt());
+        Product updated = productRepository.findById(result.items().get(1).id()).orElseThrow();
+        assertThat(updated.getSku()).isEqualTo("SKU-B");
+        assertThat(updated.getPrice()).isEqualByComparingTo("25.50");
+    }
+
+    @Test
+    void upsert_ShouldEvictOnlyAffectedCacheEntries_WhenProductChanges() {
+        // Arrange
+        Product y = item("SKU-Y1", "Upsert Y1", "10.00");
+        y.setCategory("Upsert Y");
+        productUpsertService.upsert(List.of(item("SKU-X1", "Upsert X1", "10.00"), y));
+        PageRequest page = PageRequest.of(0, 20);
+        productService.findByCategory("Upsert X", page);
+        productService.findByCategory("Upsert Y", page);
+        productService.countByCategory("Upsert X");
+        productService.findByPriceRange(new BigDecimal("5.00"), new BigDecimal("15.00"));
+        productService.findByPriceRange(new BigDecimal("100.00"), new BigDecimal("200.00"));
+        productService.findByPriceRange(new BigDecimal("500.00"), new BigDecimal("600.00"));
+
+        // Act
+        BulkUpsertResult result = productUpsertService.upsert(List.of(
+                item("SKU-X1", "Upsert X1", "150.00"),
+                y));
+
+        // Assert
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        Cache byCategory = cacheManager.getCache("productsByCategory");
+        assertThat(byCategory.get(CategoryPageKey.of("Upsert X", page))).isNull();
+        assertThat(byCategory.get(CategoryPageKey.of("Upsert Y", page))).isNotNull();
+        assertThat(cacheManager.getCache("productCountByCategory").get("Upsert X")).isNotNull();
+        Cache byPrice = cacheManager.getCache("productsByPriceRange");
+        assertThat(byPrice.get("5.00_15.00")).isNull();
+        assertThat(byPrice.get("100.00_200.00")).isNull();
+        assertThat(byPrice.get("500.00_600.00")).isNotNull();
+    }
+
+    @Test
+    void upsert_ShouldBeVisibleThroughProductService_WhenQueriesWereCachedBefore() {
+        // Arrange
+        productUpsertService.upsert(List.of(item("SKU-X1", "Upsert X1", "10.00")));
+        BigDecimal min = new BigDecimal("5.00");
+        BigDecimal max = new BigDecimal("15.00");
+        assertThat(productService.findByPriceRange(min, max)).extracting(Product::getSku).containsExactly("SKU-X1");
+        assertThat(productService.findByName("Upsert X2")).isEmpty();
+        assertThat(productService.countByCategory("Upsert X")).isEqualTo(1);
+
+        // Act
+        productUpsertService.upsert(List.of(
+                item("SKU-X1", "Upsert X1", "150.00"),
+                item("SKU-X2", "Upsert X2", "12.00")));
+
+        // Assert
+        assertThat(productService.findByPriceRange(min, max)).extracting(Product::getSku).containsExactly("SKU-X2");
+        assertThat(productService.findByName("Upsert X2")).isPresent();
+        assertThat(productService.countByCategory("Upsert X")).isEqualTo(2);
+    }
+
+    @Test
+    void upsert_ShouldEvictCategoryPagesOfEveryCountMode_WhenProductChanges() {
+        // Arrange
+        Product y = item("SKU-Y1", "Upsert Y1", "10.00");
+        y.setCategory("Upsert Y");
+        productUpsertService.upsert(List.of(item("SKU-X1", "Upsert X1", "10.00"), y));
+        PageRequest page = PageRequest.of(0, 20);
+        productService.findByCategory("Upsert X", page, CountMode.ESTIMATED);
+        productService.findByCategory("Upsert X", page, CountMode.NONE);
+        productService.findByCategory("Upsert Y", page, CountMode.ESTIMATED);
+
+        // Act
+        productUpsertService.upsert(List.of(item("SKU-X1", "Upsert X1", "12.00")));
+
+        // Assert
+        Cache byCategory = cacheManager.getCache("productsByCategory");
+        assertThat(byCategory.get(CategoryPageKey.of("Upsert X", page, CountMode.ESTIMATED))).isNull();
+        assertThat(byCategory.get(CategoryPageKey.of("Upsert X", page, CountMode.NONE))).isNull();
+        assertThat(byCategory.get(CategoryPageKey.of("Upsert Y", page, CountMode.ESTIMATED))).isNotNull();
+    }
+
+    private static Product item(String sku, String name, String price) {
+        return Product.builder()
+                .sku(sku)
+                .name(name)
+                .description("Upserted product")
+                .category("Upsert X")
+                .price(new BigDecimal(price))
+                .stock(7)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
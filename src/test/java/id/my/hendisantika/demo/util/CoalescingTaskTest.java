@@ -0,0 +1,94 @@
+package id.my.hendisantika.demo.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingTaskTest {
+
+    private final Queue<Runnable> submitted = new ArrayDeque<>();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void request_ShouldRunOnceMore_WhenRequestedWhileRunning() {
+        // Arrange
+        CoalescingTask[] task = new CoalescingTask[1];
+        task[0] = new CoalescingTask(submitted::add, () -> {
+            if (runs.incrementAndGet() == 1) {
+                task[0].request();
+                task[0].request();
+            }
+        });
+
+        // Act
+        task[0].request();
+        task[0].request();
+        submitted.poll().run();
+
+        // Assert
+        assertThat(runs).hasValue(2);
+        assertThat(submitted).isEmpty();
+        assertThat(task[0].isRequested()).isFalse();
+    }
+
+    @Test
+    void request_ShouldStartAgain_WhenRequestedAfterRunFinished() {
+        // Arrange
+        CoalescingTask task = new CoalescingTask(submitted::add, runs::incrementAndGet);
+        task.request();
+        submitted.poll().run();
+
+        // Act
+        task.request();
+
+        // Assert
+        assertThat(submitted).hasSize(1);
+        submitted.poll().run();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void request_ShouldKeepRunning_WhenTaskFails() {
+        // Arrange
+        CoalescingTask task = new CoalescingTask(submitted::add, () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+        task.request();
+        Runnable first = submitted.poll();
+        assertThatThrownBy(first::run).isInstanceOf(IllegalStateException.class);
+
+        // Act
+        task.request();
+
+        // Assert
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    void startIfIdle_ShouldAllowRetry_WhenExecutorRejects() {
+        // Arrange
+        boolean[] reject = {true};
+        CoalescingTask task = new CoalescingTask(runnable -> {
+            if (reject[0]) {
+                throw new TaskRejectedException("full");
+            }
+            submitted.add(runnable);
+        }, runs::incrementAndGet);
+        assertThatThrownBy(task::request).isInstanceOf(TaskRejectedException.class);
+        reject[0] = false;
+
+        // Act
+        task.startIfIdle();
+
+        // Assert
+        submitted.poll().run();
+        assertThat(runs).hasValue(1);
+    }
+}
@@ -0,0 +1,90 @@
+package id.my.hendisantika.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticProductGeneratorTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void row_ShouldBeReproducible_WhenSeedIsTheSame() {
+        // Arrange
+        SyntheticProductGenerator first = new SyntheticProductGenerator(7, 1.1, 1.0, BASE_TIME);
+        SyntheticProductGenerator second = new SyntheticProductGenerator(7, 1.1, 1.0, BASE_TIME);
+        SyntheticProductGenerator otherSeed = new SyntheticProductGenerator(8, 1.1, 1.0, BASE_TIME);
+
+        // Act & Assert
+        for (long row = 0; row < 1_000; row++) {
+            assertEquals(first.row(row), second.row(row));
+        }
+        assertEquals(first.row(123_456), second.row(123_456));
+        assertNotEquals(first.row(5).priceCents(), otherSeed.row(5).priceCents());
+    }
+
+    @Test
+    void random_ShouldNotShareDraws_WhenRowsAreAdjacent() {
+        // Arrange
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(42, 1.1, 1.0, BASE_TIME);
+        int draws = 16;
+
+        // Act & Assert
+        for (long row = 0; row < 1_000; row++) {
+            Set<Long> current = generator.random(row).longs(draws).boxed().collect(Collectors.toSet());
+            List<Long> next = generator.random(row + 1).longs(draws).boxed().toList();
+            for (Long value : next) {
+                assertFalse(current.contains(value), "rows " + row + " and " + (row + 1) + " share a draw");
+            }
+        }
+    }
+
+    @Test
+    void row_ShouldSkewCategoriesAndKeepValuesInRange() {
+        // Arrange
+        SyntheticProductGenerator generator = new SyntheticProductGenerator(42, 1.1, 1.0, BASE_TIME);
+        Map<String, Integer> categoryCounts = new HashMap<>();
+        int rows = 20_000;
+
+        // Act
+        for (long row = 0; row < rows; row++) {
+            SyntheticProductGenerator.Row generated = generator.row(row);
+            categoryCounts.merge(generated.category(), 1, Integer::sum);
+
+            assertTrue(generated.name().endsWith(" " + (row + 1)));
+            assertTrue(generated.priceCents() >= 99);
+            assertTrue(generated.stock() >= 0);
+            assertTrue(!generated.createdAt().isAfter(generated.updatedAt()));
+            assertTrue(!generated.updatedAt().isAfter(BASE_TIME));
+        }
+
+        // Assert
+        int largest = categoryCounts.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+        int smallest = categoryCounts.values().stream().mapToInt(Integer::intValue).min().orElseThrow();
+        assertTrue(largest > 5 * smallest, "expected a skewed category distribution: " + categoryCounts);
+    }
+
+    @Test
+    void appendCsv_ShouldQuoteTextAndFormatPrice() {
+        // Arrange
+        SyntheticProductGenerator.Row row = new SyntheticProductGenerator.Row("Say \"hi\", 1", "d", "Books",
+                1205, 3, BASE_TIME, BASE_TIME);
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        row.appendCsv(out);
+
+        // Assert
+        assertEquals("\"Say \"\"hi\"\", 1\",\"d\",\"Books\",12.05,3,2025-01-01T00:00,2025-01-01T00:00\n", out.toString());
+    }
+}
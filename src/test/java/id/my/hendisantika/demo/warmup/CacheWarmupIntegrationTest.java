@@ -0,0 +1,106 @@
+package id.my.hendisantika.demo.warmup;
+
+import id.my.hendisantika.demo.config.AbstractIntegrationTest;
+import id.my.hendisantika.demo.model.Product;
+import id.my.hendisantika.demo.repository.ProductRepository;
+import id.my.hendisantika.demo.service.CategoryPageKey;
+import id.my.hendisantika.demo.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CacheWarmupIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CATEGORY = "Warmup_Category";
+
+    @Autowired
+    private CacheWarmup cacheWarmup;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        LocalDateTime now = LocalDateTime.now();
+        products = productRepository.saveAll(List.of(
+                product("Warmup A", now), product("Warmup B", now), product("Warmup C", now)));
+    }
+
+    @Test
+    void snapshot_ShouldContainCachedKeys() {
+        // Arrange
+        productService.findById(products.get(0).getId());
+        productService.findByCategory(CATEGORY, PageRequest.of(0, 2));
+        productService.countByCategory(CATEGORY);
+
+        // Act
+        HotKeySnapshot snapshot = cacheWarmup.snapshot();
+
+        // Assert
+        assertThat(snapshot.productIds()).containsExactly(products.get(0).getId());
+        assertThat(snapshot.categoryPages()).containsExactly(new HotKeySnapshot.CategoryPage(CATEGORY, 0, 2));
+        assertThat(snapshot.countCategories()).containsExactly(CATEGORY);
+    }
+
+    @Test
+    void warmUp_ShouldPrefetchSnapshotKeysIntoCaches() {
+        // Arrange
+        HotKeySnapshot snapshot = new HotKeySnapshot(
+                products.stream().map(Product::getId).toList(),
+                List.of(new HotKeySnapshot.CategoryPage(CATEGORY, 1, 2)),
+                List.of(CATEGORY, "Unknown"));
+
+        // Act
+        cacheWarmup.warmUp(snapshot);
+
+        // Assert
+        Cache productCache = cacheManager.getCache(CacheWarmup.PRODUCTS);
+        products.forEach(product -> assertThat(productCache.get(product.getId(), Product.class))
+                .extracting(Product::getName).isEqualTo(product.getName()));
+
+        Page<?> page = cacheManager.getCache(CacheWarmup.PRODUCTS_BY_CATEGORY)
+                .get(CategoryPageKey.of(CATEGORY, PageRequest.of(1, 2)), Page.class);
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+
+        Cache countCache = cacheManager.getCache(CacheWarmup.PRODUCT_COUNT_BY_CATEGORY);
+        assertThat(countCache.get(CATEGORY, Long.class)).isEqualTo(3L);
+        assertThat(countCache.get("Unknown", Long.class)).isZero();
+        assertThat(productService.countByCategory(CATEGORY)).isEqualTo(3);
+    }
+
+    private static Product product(String name, LocalDateTime now) {
+        return Product.builder()
+                .name(name)
+                .description("Warm-up test product")
+                .category(CATEGORY)
+                .price(new BigDecimal("10.00"))
+                .stock(5)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
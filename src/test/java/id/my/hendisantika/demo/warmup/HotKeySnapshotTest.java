@@ -0,0 +1,46 @@
+package id.my.hendisantika.demo.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HotKeySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_ShouldReturnWrittenKeys() throws IOException {
+        // Arrange
+        HotKeySnapshot snapshot = new HotKeySnapshot(
+                List.of(3L, 1L, 42L),
+                List.of(new HotKeySnapshot.CategoryPage("Home_Garden", 0, 20),
+                        new HotKeySnapshot.CategoryPage("Électronique", 2, 10)),
+                List.of("Books", "Toys"));
+        Path file = tempDir.resolve("snapshot.bin");
+
+        // Act
+        snapshot.write(file);
+        HotKeySnapshot read = HotKeySnapshot.read(file);
+
+        // Assert
+        assertEquals(snapshot, read);
+    }
+
+    @Test
+    void read_ShouldFail_WhenFileIsNotASnapshot() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("garbage.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> HotKeySnapshot.read(file));
+    }
+}